@@ -1,21 +1,30 @@
 package org.springframework.data.rest.convert;
 
-import java.util.Stack;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ObjectUtils;
 
 /**
  * This {@link ConversionService} implementation delegates the actual conversion to the {@literal ConversionService} it
- * finds in its internal {@link Stack} that claims to be able to convert a given class. It will roll through the
- * {@literal ConversionService}s until it finds one that can convert the given type.
+ * finds in its internal list that claims to be able to convert a given class. It will roll through the {@literal
+ * ConversionService}s until it finds one that can convert the given type. The delegate found for a pair of source and
+ * target types is remembered, so later conversions between the same types go straight to it. Adding a {@literal
+ * ConversionService} clears what has been remembered.
  *
  * @author Jon Brisbin
  */
 public class DelegatingConversionService implements ConversionService {
 
-  private Stack<ConversionService> conversionServices = new Stack<ConversionService>();
+  private final List<ConversionService>                        conversionServices = new CopyOnWriteArrayList<ConversionService>();
+  private final ConcurrentMap<ConversionKey, ConversionService> classDelegates     = new ConcurrentHashMap<ConversionKey, ConversionService>();
+  private final ConcurrentMap<ConversionKey, ConversionService> typeDelegates      = new ConcurrentHashMap<ConversionKey, ConversionService>();
 
   public DelegatingConversionService() {
   }
@@ -33,9 +42,8 @@ public class DelegatingConversionService implements ConversionService {
    * @return @this
    */
   public DelegatingConversionService addConversionServices(ConversionService... svcs) {
-    for(ConversionService svc : svcs) {
-      conversionServices.add(svc);
-    }
+    conversionServices.addAll(Arrays.asList(svcs));
+    clearDelegates();
     return this;
   }
 
@@ -43,7 +51,7 @@ public class DelegatingConversionService implements ConversionService {
    * Add a {@link ConversionService} to the internal list at a specific index for controlling the priority.
    *
    * @param atIndex
-   *     Where in the stack to add this ConversionService.
+   *     Where in the list to add this ConversionService.
    * @param svc
    *     The ConversionService to add.
    *
@@ -51,43 +59,96 @@ public class DelegatingConversionService implements ConversionService {
    */
   public DelegatingConversionService addConversionService(int atIndex, ConversionService svc) {
     conversionServices.add(atIndex, svc);
+    clearDelegates();
     return this;
   }
 
   @Override public boolean canConvert(Class<?> from, Class<?> to) {
-    for(ConversionService svc : conversionServices) {
-      if(svc.canConvert(from, to)) {
-        return true;
-      }
-    }
-    return false;
+    return null != findDelegate(from, to);
   }
 
   @Override public boolean canConvert(TypeDescriptor from, TypeDescriptor to) {
-    for(ConversionService svc : conversionServices) {
-      if(svc.canConvert(from, to)) {
-        return true;
+    return null != findDelegate(from, to);
+  }
+
+  @Override public <T> T convert(Object o, Class<T> type) {
+    ConversionService svc = findDelegate(o.getClass(), type);
+    if(null == svc) {
+      throw new ConverterNotFoundException(TypeDescriptor.forObject(o), TypeDescriptor.valueOf(type));
+    }
+    return svc.convert(o, type);
+  }
+
+  @Override public Object convert(Object o, TypeDescriptor from, TypeDescriptor to) {
+    ConversionService svc = findDelegate(from, to);
+    if(null == svc) {
+      throw new ConverterNotFoundException(from, to);
+    }
+    return svc.convert(o, from, to);
+  }
+
+  private ConversionService findDelegate(Class<?> from, Class<?> to) {
+    ConversionKey key = new ConversionKey(from, to);
+    ConversionService svc = classDelegates.get(key);
+    if(null == svc) {
+      for(ConversionService candidate : conversionServices) {
+        if(candidate.canConvert(from, to)) {
+          svc = candidate;
+          classDelegates.put(key, svc);
+          break;
+        }
       }
     }
-    return false;
+    return svc;
   }
 
-  @Override public <T> T convert(Object o, Class<T> type) {
-    for(ConversionService svc : conversionServices) {
-      if(svc.canConvert(o.getClass(), type)) {
-        return svc.convert(o, type);
+  private ConversionService findDelegate(TypeDescriptor from, TypeDescriptor to) {
+    ConversionKey key = new ConversionKey(from, to);
+    ConversionService svc = typeDelegates.get(key);
+    if(null == svc) {
+      for(ConversionService candidate : conversionServices) {
+        if(candidate.canConvert(from, to)) {
+          svc = candidate;
+          typeDelegates.put(key, svc);
+          break;
+        }
       }
     }
-    throw new ConverterNotFoundException(TypeDescriptor.forObject(o), TypeDescriptor.valueOf(type));
+    return svc;
   }
 
-  @Override public Object convert(Object o, TypeDescriptor from, TypeDescriptor to) {
-    for(ConversionService svc : conversionServices) {
-      if(svc.canConvert(from, to)) {
-        return svc.convert(o, from, to);
+  private void clearDelegates() {
+    classDelegates.clear();
+    typeDelegates.clear();
+  }
+
+  /**
+   * Cache key for a pair of source and target types. Only successful lookups are remembered, since the delegates might
+   * learn new conversions later on.
+   */
+  private static class ConversionKey {
+    private final Object source;
+    private final Object target;
+
+    private ConversionKey(Object source, Object target) {
+      this.source = source;
+      this.target = target;
+    }
+
+    @Override public boolean equals(Object o) {
+      if(this == o) {
+        return true;
       }
+      if(!(o instanceof ConversionKey)) {
+        return false;
+      }
+      ConversionKey other = (ConversionKey)o;
+      return ObjectUtils.nullSafeEquals(source, other.source) && ObjectUtils.nullSafeEquals(target, other.target);
+    }
+
+    @Override public int hashCode() {
+      return ObjectUtils.nullSafeHashCode(source) * 31 + ObjectUtils.nullSafeHashCode(target);
     }
-    throw new ConverterNotFoundException(from, to);
   }
 
 }
@@ -1,11 +1,9 @@
 package org.springframework.data.rest.convert;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.TimeZone;
 
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.TypeDescriptor;
@@ -13,6 +11,15 @@ import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.core.convert.converter.Converter;
 
 /**
+ * Converts between {@link Date}s and their ISO-8601 representation. Parsing accepts dates ({@literal 2013-03-01}) and
+ * date-times with optional seconds, fractional seconds and offset ({@literal 2013-03-01T12:30:00.250+01:00}, {@literal
+ * 2013-03-01T12:30Z}, {@literal 2013-03-01T12:30:00-0600}). Values without an offset are taken to be in the default
+ * time zone. Formatting always produces UTC ({@literal 2013-03-01T11:30:00.250Z}), leaving out the milliseconds when
+ * they are zero.
+ * <p/>
+ * The parser and formatter are hand-written and keep no state, so they are safe to share between threads and do not
+ * allocate anything besides their result.
+ *
  * @author Jon Brisbin
  */
 public class ISO8601DateConverter implements ConditionalGenericConverter,
@@ -22,6 +29,11 @@ public class ISO8601DateConverter implements ConditionalGenericConverter,
 
   private static final Set<ConvertiblePair> CONVERTIBLE_PAIRS = new HashSet<ConvertiblePair>();
 
+  private static final long MILLIS_PER_SECOND = 1000L;
+  private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+  private static final long MILLIS_PER_HOUR   = 60 * MILLIS_PER_MINUTE;
+  private static final long MILLIS_PER_DAY    = 24 * MILLIS_PER_HOUR;
+
   static {
     CONVERTIBLE_PAIRS.add(new ConvertiblePair(String.class, Date.class));
     CONVERTIBLE_PAIRS.add(new ConvertiblePair(Date.class, String.class));
@@ -41,36 +53,250 @@ public class ISO8601DateConverter implements ConditionalGenericConverter,
   }
 
   @Override public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
-    DateFormat dateFmt = iso8601DateFormat();
+    if(null == source) {
+      return null;
+    }
     if(String.class.isAssignableFrom(sourceType.getType())) {
-      return dateFmt.format(source);
-    } else {
       try {
-        return dateFmt.parse(source.toString());
-      } catch(ParseException e) {
+        return parse(source.toString());
+      } catch(IllegalArgumentException e) {
         throw new ConversionFailedException(sourceType, targetType, source, e);
       }
+    } else {
+      return format((Date)source);
     }
   }
 
   @Override public Date convert(String[] source) {
     if(source.length > 0) {
       try {
-        return iso8601DateFormat().parse(source[0]);
-      } catch(ParseException e) {
+        return parse(source[0]);
+      } catch(IllegalArgumentException e) {
         throw new ConversionFailedException(
             TypeDescriptor.valueOf(String[].class),
             TypeDescriptor.valueOf(Date.class),
             source[0],
-            new IllegalArgumentException("Source does not conform to ISO8601 date format (YYYY-MM-DDTHH:MM:SS-0000")
+            e
         );
       }
     }
     return null;
   }
 
-  private DateFormat iso8601DateFormat() {
-    return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ");
+  /**
+   * Parse an ISO-8601 date or date-time.
+   *
+   * @param source
+   *     The text to parse.
+   *
+   * @return The parsed date.
+   *
+   * @throws IllegalArgumentException
+   *     if the text is not a valid ISO-8601 date or date-time.
+   */
+  public static Date parse(String source) {
+    String s = source.trim();
+    int len = s.length();
+
+    int year = digits(s, 0, 4);
+    expect(s, 4, '-');
+    int month = digits(s, 5, 2);
+    expect(s, 7, '-');
+    int day = digits(s, 8, 2);
+    int pos = 10;
+
+    int hour = 0, minute = 0, second = 0, millis = 0;
+    boolean hasOffset = false;
+    long offset = 0;
+    if(pos < len) {
+      char c = s.charAt(pos);
+      if(c != 'T' && c != 't' && c != ' ') {
+        throw invalid(s);
+      }
+      hour = digits(s, pos + 1, 2);
+      expect(s, pos + 3, ':');
+      minute = digits(s, pos + 4, 2);
+      pos += 6;
+
+      if(pos < len && s.charAt(pos) == ':') {
+        second = digits(s, pos + 1, 2);
+        pos += 3;
+
+        if(pos < len && (s.charAt(pos) == '.' || s.charAt(pos) == ',')) {
+          int scale = 0;
+          for(pos++; pos < len && isDigit(s.charAt(pos)); pos++, scale++) {
+            if(scale < 3) {
+              millis = millis * 10 + (s.charAt(pos) - '0');
+            }
+          }
+          if(scale == 0) {
+            throw invalid(s);
+          }
+          for(; scale < 3; scale++) {
+            millis *= 10;
+          }
+        }
+      }
+
+      if(pos < len) {
+        c = s.charAt(pos);
+        if(c == 'Z' || c == 'z') {
+          hasOffset = true;
+          pos++;
+        } else if(c == '+' || c == '-') {
+          int offsetHours = digits(s, pos + 1, 2);
+          int offsetMinutes = 0;
+          pos += 3;
+          if(pos < len) {
+            if(s.charAt(pos) == ':') {
+              pos++;
+            }
+            offsetMinutes = digits(s, pos, 2);
+            pos += 2;
+          }
+          if(offsetHours > 23 || offsetMinutes > 59) {
+            throw invalid(s);
+          }
+          offset = (c == '-' ? -1 : 1) * (offsetHours * MILLIS_PER_HOUR + offsetMinutes * MILLIS_PER_MINUTE);
+          hasOffset = true;
+        }
+      }
+    }
+
+    if(pos != len
+        || month < 1 || month > 12
+        || day < 1 || day > daysInMonth(year, month)
+        || hour > 23 || minute > 59 || second > 59) {
+      throw invalid(s);
+    }
+
+    long time = daysFromCivil(year, month, day) * MILLIS_PER_DAY
+        + hour * MILLIS_PER_HOUR
+        + minute * MILLIS_PER_MINUTE
+        + second * MILLIS_PER_SECOND
+        + millis;
+    if(hasOffset) {
+      time -= offset;
+    } else {
+      TimeZone tz = TimeZone.getDefault();
+      time -= tz.getOffset(time - tz.getOffset(time));
+    }
+    return new Date(time);
+  }
+
+  /**
+   * Format a date as ISO-8601 date-time in UTC.
+   *
+   * @param date
+   *     The date to format.
+   *
+   * @return The formatted date, like {@literal 2013-03-01T11:30:00.250Z}.
+   */
+  public static String format(Date date) {
+    long time = date.getTime();
+    long days = floorDiv(time, MILLIS_PER_DAY);
+    int millisOfDay = (int)(time - days * MILLIS_PER_DAY);
+
+    // Civil date from days since the epoch, see http://howardhinnant.github.io/date_algorithms.html
+    long z = days + 719468;
+    long era = floorDiv(z, 146097);
+    long doe = z - era * 146097;
+    long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+    long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+    long mp = (5 * doy + 2) / 153;
+    int day = (int)(doy - (153 * mp + 2) / 5 + 1);
+    int month = (int)(mp < 10 ? mp + 3 : mp - 9);
+    long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+    if(year < 0 || year > 9999) {
+      throw new IllegalArgumentException("Year " + year + " cannot be formatted as ISO-8601");
+    }
+
+    int millis = millisOfDay % 1000;
+    char[] buf = new char[millis == 0 ? 20 : 24];
+    write(buf, 0, (int)year, 4);
+    buf[4] = '-';
+    write(buf, 5, month, 2);
+    buf[7] = '-';
+    write(buf, 8, day, 2);
+    buf[10] = 'T';
+    write(buf, 11, millisOfDay / 3600000, 2);
+    buf[13] = ':';
+    write(buf, 14, millisOfDay / 60000 % 60, 2);
+    buf[16] = ':';
+    write(buf, 17, millisOfDay / 1000 % 60, 2);
+    if(millis != 0) {
+      buf[19] = '.';
+      write(buf, 20, millis, 3);
+    }
+    buf[buf.length - 1] = 'Z';
+    return new String(buf);
+  }
+
+  /**
+   * Days since 1970-01-01 of the given date in the proleptic Gregorian calendar.
+   */
+  private static long daysFromCivil(long year, int month, int day) {
+    year -= (month <= 2 ? 1 : 0);
+    long era = floorDiv(year, 400);
+    long yoe = year - era * 400;
+    long doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+    long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+    return era * 146097 + doe - 719468;
+  }
+
+  private static int daysInMonth(int year, int month) {
+    switch(month) {
+      case 2:
+        return ((year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28);
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  private static long floorDiv(long x, long y) {
+    long q = x / y;
+    return ((x % y != 0 && ((x ^ y) < 0)) ? q - 1 : q);
+  }
+
+  private static int digits(String s, int start, int count) {
+    if(start + count > s.length()) {
+      throw invalid(s);
+    }
+    int value = 0;
+    for(int i = start; i < start + count; i++) {
+      char c = s.charAt(i);
+      if(!isDigit(c)) {
+        throw invalid(s);
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static void expect(String s, int pos, char c) {
+    if(pos >= s.length() || s.charAt(pos) != c) {
+      throw invalid(s);
+    }
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static void write(char[] buf, int start, int value, int count) {
+    for(int i = start + count - 1; i >= start; i--) {
+      buf[i] = (char)('0' + value % 10);
+      value /= 10;
+    }
+  }
+
+  private static IllegalArgumentException invalid(String s) {
+    return new IllegalArgumentException("'" + s + "' does not conform to ISO-8601 (YYYY-MM-DD or YYYY-MM-DDThh:mm[:ss[.sss]][Z|+hh:mm])");
   }
 
 }
@@ -61,4 +61,21 @@ public class DelegatingConversionServiceUnitTests extends AbstractJMockTests {
     assertThat(delegatingConversionService.convert(RANDOM_UUID, String.class), is(RANDOM_UUID.toString()));
   }
 
+  @Test
+  public void shouldRememberDelegateForTypes() throws Exception {
+    final ConversionService first = context.mock(ConversionService.class, "first");
+    DefaultFormattingConversionService cs = new DefaultFormattingConversionService(false);
+    cs.addConverter(UUIDConverter.INSTANCE);
+    DelegatingConversionService delegating = new DelegatingConversionService(first, cs);
+
+    context.checking(new Expectations() {{
+      // Only asked once, the second conversion goes straight to the delegate found before
+      oneOf(first).canConvert(String.class, UUID.class);
+      will(returnValue(false));
+    }});
+
+    assertThat(delegating.convert(RANDOM_UUID.toString(), UUID.class), is(RANDOM_UUID));
+    assertThat(delegating.convert(RANDOM_UUID.toString(), UUID.class), is(RANDOM_UUID));
+  }
+
 }
@@ -0,0 +1,77 @@
+package org.springframework.data.rest.convert;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.TypeDescriptor;
+
+/**
+ * Tests to ensure the {@link ISO8601DateConverter} reads and writes the ISO-8601 profile.
+ *
+ * @author Jon Brisbin
+ */
+public class ISO8601DateConverterUnitTests {
+
+  // 2013-03-01T11:30:15.250Z
+  private static final long     TIME = 1362137415250L;
+  private              TimeZone defaultTimeZone;
+
+  @Before
+  public void setup() {
+    defaultTimeZone = TimeZone.getDefault();
+    TimeZone.setDefault(TimeZone.getTimeZone("America/Chicago"));
+  }
+
+  @After
+  public void cleanup() {
+    TimeZone.setDefault(defaultTimeZone);
+  }
+
+  @Test
+  public void shouldParseDateTimesWithOffsets() throws Exception {
+    assertThat(ISO8601DateConverter.parse("2013-03-01T11:30:15.250Z").getTime(), is(TIME));
+    assertThat(ISO8601DateConverter.parse("2013-03-01T12:30:15.25+01:00").getTime(), is(TIME));
+    assertThat(ISO8601DateConverter.parse("2013-03-01T05:30:15.250123-0600").getTime(), is(TIME));
+    assertThat(ISO8601DateConverter.parse("2013-03-01T11:30Z").getTime(), is(TIME - 15250));
+    assertThat(ISO8601DateConverter.parse("1969-12-31T23:59:59.999Z").getTime(), is(-1L));
+  }
+
+  @Test
+  public void shouldParseLocalDatesAndTimes() throws Exception {
+    // Chicago is at -06:00 in March
+    assertThat(ISO8601DateConverter.parse("2013-03-01T05:30:15.250").getTime(), is(TIME));
+    assertThat(ISO8601DateConverter.parse("2013-03-01").getTime(), is(1362117600000L));
+  }
+
+  @Test
+  public void shouldFormatAsUtc() throws Exception {
+    assertThat(ISO8601DateConverter.format(new Date(TIME)), is("2013-03-01T11:30:15.250Z"));
+    assertThat(ISO8601DateConverter.format(new Date(TIME - 250)), is("2013-03-01T11:30:15Z"));
+    assertThat(ISO8601DateConverter.format(new Date(-1L)), is("1969-12-31T23:59:59.999Z"));
+    assertThat(ISO8601DateConverter.format(new Date(951782400000L)), is("2000-02-29T00:00:00Z"));
+  }
+
+  @Test
+  public void shouldConvertInBothDirections() throws Exception {
+    TypeDescriptor stringType = TypeDescriptor.valueOf(String.class);
+    TypeDescriptor dateType = TypeDescriptor.valueOf(Date.class);
+
+    Object date = ISO8601DateConverter.INSTANCE.convert("2013-03-01T11:30:15.250Z", stringType, dateType);
+    assertThat(date, is((Object)new Date(TIME)));
+    Object text = ISO8601DateConverter.INSTANCE.convert(new Date(TIME), dateType, stringType);
+    assertThat(text, is((Object)"2013-03-01T11:30:15.250Z"));
+  }
+
+  @Test(expected = ConversionFailedException.class)
+  public void shouldRejectInvalidDates() throws Exception {
+    ((ISO8601DateConverter)ISO8601DateConverter.INSTANCE).convert(new String[]{"2013-02-29T10:00:00Z"});
+  }
+
+}
@@ -2,8 +2,11 @@ package org.springframework.data.rest.config;
 
 import static org.springframework.data.rest.repository.support.ResourceMappingUtils.*;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Jon Brisbin
@@ -12,8 +15,14 @@ public class ResourceMapping {
 
   private String rel;
   private String path;
-  private       boolean                      exported         = true;
-  private final Map<String, ResourceMapping> resourceMappings = new HashMap<String, ResourceMapping>();
+  private          boolean                      exported         = true;
+  private final    Map<String, ResourceMapping> resourceMappings = new HashMap<String, ResourceMapping>();
+  /**
+   * Bumped whenever the path or the child mappings of this mapping change, so the path indexes built from it know when
+   * to rebuild. Mappings are set up at startup, so after that the indexes stay valid.
+   */
+  private final    AtomicLong                   version          = new AtomicLong();
+  private volatile PathIndex<String>            namesByPath;
 
   public ResourceMapping() {
   }
@@ -50,6 +59,7 @@ public class ResourceMapping {
 
   public ResourceMapping setPath(String path) {
     this.path = path;
+    version.incrementAndGet();
     return this;
   }
 
@@ -68,12 +78,14 @@ public class ResourceMapping {
     }
 
     resourceMappings.putAll(mappings);
+    version.incrementAndGet();
     return this;
   }
 
   public ResourceMapping addResourceMappingFor(String name) {
     ResourceMapping rm = new ResourceMapping();
     resourceMappings.put(name, rm);
+    version.incrementAndGet();
     return rm;
   }
 
@@ -86,16 +98,46 @@ public class ResourceMapping {
   }
 
   public Map<String, ResourceMapping> getResourceMappings() {
-    return resourceMappings;
+    return Collections.unmodifiableMap(resourceMappings);
   }
 
+  /**
+   * Find the name of the child mapping exported under the given path.
+   *
+   * @param path
+   *     The path to look up.
+   *
+   * @return The name of the mapping or the path itself if no mapping uses that path.
+   */
   public String getNameForPath(String path) {
-    for(Map.Entry<String, ResourceMapping> mapping : resourceMappings.entrySet()) {
-      if(mapping.getValue().getPath().equals(path)) {
-        return mapping.getKey();
+    PathIndex<String> index = namesByPath;
+    if(null == index || !index.isCurrent(getVersion())) {
+      long currentVersion = getVersion();
+      Map<String, String> names = new HashMap<String, String>();
+      for(Map.Entry<String, ResourceMapping> mapping : resourceMappings.entrySet()) {
+        String mappingPath = mapping.getValue().getPath();
+        if(null != mappingPath && !names.containsKey(mappingPath)) {
+          names.put(mappingPath, mapping.getKey());
+        }
       }
+      index = new PathIndex<String>(currentVersion, resourceMappings.values(), names);
+      namesByPath = index;
     }
-    return path;
+    String name = index.get(path);
+    return (null != name ? name : path);
+  }
+
+  /**
+   * Find the path the child mapping with the given name is exported under.
+   *
+   * @param name
+   *     The name of the mapping.
+   *
+   * @return The path of the mapping or the name itself if there is no mapping or it has no path.
+   */
+  public String getPathForName(String name) {
+    ResourceMapping mapping = resourceMappings.get(name);
+    return (null != mapping && null != mapping.getPath() ? mapping.getPath() : name);
   }
 
   @Override public String toString() {
@@ -107,4 +149,45 @@ public class ResourceMapping {
         '}';
   }
 
+  long getVersion() {
+    return version.get();
+  }
+
+  /**
+   * Immutable index from path to something, stamped with the version of its owner and of the {@link ResourceMapping}s
+   * whose paths it was built from.
+   */
+  static class PathIndex<V> {
+    private final long              version;
+    private final ResourceMapping[] sources;
+    private final long[]            sourceVersions;
+    private final Map<String, V>    values;
+
+    PathIndex(long version, Collection<ResourceMapping> sources, Map<String, V> values) {
+      this.version = version;
+      this.sources = sources.toArray(new ResourceMapping[sources.size()]);
+      this.sourceVersions = new long[this.sources.length];
+      for(int i = 0; i < this.sources.length; i++) {
+        sourceVersions[i] = this.sources[i].getVersion();
+      }
+      this.values = values;
+    }
+
+    boolean isCurrent(long ownerVersion) {
+      if(version != ownerVersion) {
+        return false;
+      }
+      for(int i = 0; i < sources.length; i++) {
+        if(sourceVersions[i] != sources[i].getVersion()) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    V get(String path) {
+      return values.get(path);
+    }
+  }
+
 }
@@ -2,6 +2,7 @@ package org.springframework.data.rest.config;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Manages the {@link ResourceMapping} configurations for any resources being exported. This includes domain entities
@@ -11,13 +12,16 @@ import java.util.Map;
  */
 public class ResourceMappingConfiguration {
 
-  private final Map<Class<?>, ResourceMapping> resourceMappings = new HashMap<Class<?>, ResourceMapping>();
+  private final    Map<Class<?>, ResourceMapping>     resourceMappings = new HashMap<Class<?>, ResourceMapping>();
+  private final    AtomicLong                          version          = new AtomicLong();
+  private volatile ResourceMapping.PathIndex<Class<?>> typesByPath;
 
   public ResourceMapping setResourceMappingFor(Class<?> type) {
     ResourceMapping rm = resourceMappings.get(type);
     if(null == rm) {
       rm = new ResourceMapping(type);
       resourceMappings.put(type, rm);
+      version.incrementAndGet();
     }
     return rm;
   }
@@ -34,12 +38,20 @@ public class ResourceMappingConfiguration {
     if(null == path) {
       return null;
     }
-    for(Map.Entry<Class<?>, ResourceMapping> entry : resourceMappings.entrySet()) {
-      if(path.equals(entry.getValue().getPath())) {
-        return entry.getKey();
+    ResourceMapping.PathIndex<Class<?>> index = typesByPath;
+    if(null == index || !index.isCurrent(version.get())) {
+      long currentVersion = version.get();
+      Map<String, Class<?>> types = new HashMap<String, Class<?>>();
+      for(Map.Entry<Class<?>, ResourceMapping> entry : resourceMappings.entrySet()) {
+        String mappingPath = entry.getValue().getPath();
+        if(null != mappingPath && !types.containsKey(mappingPath)) {
+          types.put(mappingPath, entry.getKey());
+        }
       }
+      index = new ResourceMapping.PathIndex<Class<?>>(currentVersion, resourceMappings.values(), types);
+      typesByPath = index;
     }
-    return null;
+    return index.get(path);
   }
 
 }
@@ -1,9 +1,8 @@
 package org.springframework.data.rest.repository;
 
-import static org.springframework.data.rest.core.util.UriUtils.*;
-
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -11,12 +10,18 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 
 /**
+ * A {@link Resource} whose relative links are resolved against a base URI. The links are resolved once, the first time
+ * they are read after a link has been added or the base URI has been set, and then handed out as the same immutable
+ * list until either changes again.
+ *
  * @author Jon Brisbin
  */
 public class BaseUriAwareResource<T> extends Resource<T> {
 
   @JsonIgnore
-  private URI baseUri;
+  private          URI        baseUri;
+  @JsonIgnore
+  private volatile List<Link> resolvedLinks;
 
   public BaseUriAwareResource() {
   }
@@ -35,34 +40,56 @@ public class BaseUriAwareResource<T> extends Resource<T> {
 
   public BaseUriAwareResource<T> setBaseUri(URI baseUri) {
     this.baseUri = baseUri;
+    this.resolvedLinks = null;
     return this;
   }
 
+  @Override public void add(Link link) {
+    super.add(link);
+    resolvedLinks = null;
+  }
+
+  @Override public void add(Iterable<Link> links) {
+    super.add(links);
+    resolvedLinks = null;
+  }
+
   @Override public List<Link> getLinks() {
-    String baseUriStr = baseUri.toString();
-    List<Link> links = new ArrayList<Link>();
-    for(Link l : super.getLinks()) {
-      if(!l.getHref().startsWith(baseUriStr)
-          && !l.getHref().startsWith("http")) {
-        links.add(new Link(buildUri(baseUri, l.getHref()).toString(), l.getRel()));
-      } else {
-        links.add(l);
-      }
+    List<Link> links = resolvedLinks;
+    if(null == links) {
+      links = resolveLinks();
+      resolvedLinks = links;
     }
     return links;
   }
 
   @Override public Link getLink(String rel) {
-    Link l = super.getLink(rel);
-    if(null == l) {
-      return null;
+    for(Link l : getLinks()) {
+      if(l.getRel().equals(rel)) {
+        return l;
+      }
+    }
+    return null;
+  }
+
+  private List<Link> resolveLinks() {
+    List<Link> links = super.getLinks();
+    if(null == baseUri || links.isEmpty()) {
+      return links;
     }
-    if(!l.getHref().startsWith(baseUri.toString())
-        && !l.getHref().startsWith("http")) {
-      return new Link(buildUri(baseUri, l.getHref()).toString(), l.getRel());
-    } else {
-      return l;
+
+    String baseUriStr = baseUri.toString();
+    String prefix = (baseUriStr.endsWith("/") ? baseUriStr : baseUriStr + "/");
+    List<Link> resolved = new ArrayList<Link>(links.size());
+    for(Link l : links) {
+      String href = l.getHref();
+      if(href.startsWith(baseUriStr) || href.startsWith("http")) {
+        resolved.add(l);
+      } else {
+        resolved.add(new Link(prefix + (href.startsWith("/") ? href.substring(1) : href), l.getRel()));
+      }
     }
+    return Collections.unmodifiableList(resolved);
   }
 
 }
@@ -19,11 +19,29 @@ public class PagingAndSorting implements Pageable {
 
   private final RepositoryRestConfiguration config;
   private final PageRequest                 pageRequest;
+  private final boolean                     metadataOnly;
 
   public PagingAndSorting(RepositoryRestConfiguration config,
                           PageRequest pageRequest) {
+    this(config, pageRequest, false);
+  }
+
+  public PagingAndSorting(RepositoryRestConfiguration config,
+                          PageRequest pageRequest,
+                          boolean metadataOnly) {
     this.config = config;
     this.pageRequest = pageRequest;
+    this.metadataOnly = metadataOnly;
+  }
+
+  /**
+   * Whether the client asked for a limit of {@literal 0}, meaning it only wants the total number of results and not
+   * the results themselves.
+   *
+   * @return {@literal true} if only the page metadata should be rendered.
+   */
+  public boolean isMetadataOnly() {
+    return metadataOnly;
   }
 
   /**
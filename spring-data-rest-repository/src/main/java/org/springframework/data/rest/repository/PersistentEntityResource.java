@@ -1,9 +1,11 @@
 package org.springframework.data.rest.repository;
 
 import java.net.URI;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 
@@ -15,7 +17,11 @@ import org.springframework.hateoas.Resource;
 public class PersistentEntityResource<T> extends BaseUriAwareResource<T> {
 
   @JsonIgnore
-  private final PersistentEntity<T, ?> persistentEntity;
+  private final PersistentEntity<T, ?>  persistentEntity;
+  @JsonIgnore
+  private Set<PersistentProperty<?>> presentProperties;
+  @JsonIgnore
+  private boolean                    templated;
 
   @SuppressWarnings({"unchecked"})
   public static <T> PersistentEntityResource<T> wrap(PersistentEntity persistentEntity,
@@ -48,4 +54,34 @@ public class PersistentEntityResource<T> extends BaseUriAwareResource<T> {
     return persistentEntity;
   }
 
+  /**
+   * Get the properties that were present in the request body the content was read from.
+   *
+   * @return The present properties or {@literal null} if they are not known, in which case all properties should be
+   *         considered.
+   */
+  public Set<PersistentProperty<?>> getPresentProperties() {
+    return presentProperties;
+  }
+
+  public PersistentEntityResource<T> setPresentProperties(Set<PersistentProperty<?>> presentProperties) {
+    this.presentProperties = presentProperties;
+    return this;
+  }
+
+  /**
+   * Whether this resource is rendered as part of {@link TemplatedResources}, with its id standing in for the links
+   * described by the templates of the collection.
+   *
+   * @return {@literal true} if the entity's id is to be rendered instead of its self and association links.
+   */
+  public boolean isTemplated() {
+    return templated;
+  }
+
+  public PersistentEntityResource<T> setTemplated(boolean templated) {
+    this.templated = templated;
+    return this;
+  }
+
 }
@@ -17,6 +17,11 @@ public class RepositoryConstraintViolationException extends DataIntegrityViolati
     this.errors = errors;
   }
 
+  public RepositoryConstraintViolationException(Errors errors, Throwable cause) {
+    super("Validation failed", cause);
+    this.errors = errors;
+  }
+
   public Errors getErrors() {
     return errors;
   }
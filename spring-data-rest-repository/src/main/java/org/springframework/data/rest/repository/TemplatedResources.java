@@ -0,0 +1,70 @@
+package org.springframework.data.rest.repository;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+
+/**
+ * A compact collection of entities. Rather than every element carrying its own self and association links, the
+ * collection declares the shape of those links once as URI templates (like {@literal
+ * http://localhost:8080/data/people/{id}/address}) along with their rel, and every element only carries the value to
+ * expand them with: its {@literal id}.
+ *
+ * @author Jon Brisbin
+ */
+public class TemplatedResources extends Resources<Resource<?>> {
+
+  public static final String MEDIA_TYPE = "application/x-spring-data-templated+json";
+
+  private final List<Link>                  templates;
+  private final PagedResources.PageMetadata metadata;
+
+  public TemplatedResources(Iterable<Resource<?>> content,
+                            List<Link> templates,
+                            PagedResources.PageMetadata metadata,
+                            Iterable<Link> links) {
+    super(content, links);
+    this.templates = Collections.unmodifiableList(templates);
+    this.metadata = metadata;
+  }
+
+  /**
+   * Get the templates of the links of the elements, with {@literal {id}} standing in for the id of the element.
+   *
+   * @return The link templates.
+   */
+  @JsonProperty("templates")
+  public List<Link> getTemplates() {
+    return templates;
+  }
+
+  /**
+   * Get the paging information if the collection is a page of a larger one.
+   *
+   * @return The page metadata or {@literal null} if the collection is not paged.
+   */
+  @JsonProperty("page")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public PagedResources.PageMetadata getMetadata() {
+    return metadata;
+  }
+
+  /**
+   * Create a copy of this collection carrying different elements.
+   *
+   * @param content
+   *     The elements of the copy.
+   *
+   * @return A new {@link TemplatedResources} with the same templates, page metadata and links.
+   */
+  public TemplatedResources withContent(Iterable<Resource<?>> content) {
+    return new TemplatedResources(content, templates, metadata, getLinks());
+  }
+
+}
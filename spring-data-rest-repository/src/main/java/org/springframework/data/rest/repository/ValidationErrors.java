@@ -6,6 +6,8 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
@@ -21,16 +23,34 @@ import org.springframework.validation.ObjectError;
  */
 public class ValidationErrors extends AbstractErrors {
 
-  private String           name;
-  private Object           entity;
-  private PersistentEntity persistentEntity;
+  private String            name;
+  private Object            entity;
+  private PersistentEntity  persistentEntity;
+  private PropertyAccessors accessors;
   private List<ObjectError> globalErrors = new ArrayList<ObjectError>();
   private List<FieldError>  fieldErrors  = new ArrayList<FieldError>();
 
   public ValidationErrors(String name, Object entity, PersistentEntity persistentEntity) {
+    this(name, entity, persistentEntity, new PropertyAccessors());
+  }
+
+  /**
+   * Create an instance reading the rejected values through the given, shared {@link PropertyAccessors}.
+   *
+   * @param name
+   *     The name of the validated object.
+   * @param entity
+   *     The validated entity.
+   * @param persistentEntity
+   *     The metadata of the entity or {@literal null} if unknown.
+   * @param accessors
+   *     The accessors to read the properties of the entity with.
+   */
+  public ValidationErrors(String name, Object entity, PersistentEntity persistentEntity, PropertyAccessors accessors) {
     this.name = name;
     this.entity = entity;
     this.persistentEntity = persistentEntity;
+    this.accessors = accessors;
   }
 
   @Override public String getObjectName() {
@@ -51,6 +71,20 @@ public class ValidationErrors extends AbstractErrors {
                                    defaultMessage));
   }
 
+  /**
+   * Add an error that has been determined elsewhere, e.g. by the JPA provider's Bean Validation callbacks.
+   *
+   * @param error
+   *     The {@link FieldError} or global {@link ObjectError} to add.
+   */
+  public void addError(ObjectError error) {
+    if(error instanceof FieldError) {
+      fieldErrors.add((FieldError)error);
+    } else {
+      globalErrors.add(error);
+    }
+  }
+
   @Override public void addAllErrors(Errors errors) {
     globalErrors.addAll(errors.getAllErrors());
   }
@@ -69,16 +103,74 @@ public class ValidationErrors extends AbstractErrors {
       return null;
     }
 
-    Method getter = prop.getGetter();
-    if(null != getter) {
-      return invokeMethod(getter, entity);
+    return accessors.getValue(prop, entity);
+  }
+
+  /**
+   * Caches the getter or, if there is none, the field of {@link PersistentProperty}s, made accessible once so they can
+   * be read directly from then on. Meant to be owned by whoever creates the {@link ValidationErrors}, so the cache goes
+   * away along with the mapping metadata it refers to.
+   */
+  public static class PropertyAccessors {
+
+    private final ConcurrentMap<PersistentProperty, Accessor> accessors = new ConcurrentHashMap<PersistentProperty, Accessor>();
+
+    /**
+     * Read the value of the given property from the given entity.
+     *
+     * @param prop
+     *     The property to read.
+     * @param entity
+     *     The entity to read it from.
+     *
+     * @return The value or {@literal null} if the property can't be read.
+     */
+    public Object getValue(PersistentProperty prop, Object entity) {
+      Accessor accessor = accessors.get(prop);
+      if(null == accessor) {
+        accessor = findAccessor(prop);
+        accessors.put(prop, accessor);
+      }
+      return accessor.getValue(entity);
     }
-    Field fld = prop.getField();
-    if(null != fld) {
-      return getField(fld, entity);
+
+    private static Accessor findAccessor(PersistentProperty prop) {
+      final Method getter = prop.getGetter();
+      if(null != getter) {
+        makeAccessible(getter);
+        return new Accessor() {
+          @Override Object getValue(Object entity) {
+            return invokeMethod(getter, entity);
+          }
+        };
+      }
+      final Field fld = prop.getField();
+      if(null != fld) {
+        makeAccessible(fld);
+        return new Accessor() {
+          @Override Object getValue(Object entity) {
+            return getField(fld, entity);
+          }
+        };
+      }
+      return Accessor.NONE;
     }
 
-    return null;
+  }
+
+  private static abstract class Accessor {
+
+    /**
+     * Stands in for properties that have neither a getter nor a field.
+     */
+    static final Accessor NONE = new Accessor() {
+      @Override Object getValue(Object entity) {
+        return null;
+      }
+    };
+
+    abstract Object getValue(Object entity);
+
   }
 
 }
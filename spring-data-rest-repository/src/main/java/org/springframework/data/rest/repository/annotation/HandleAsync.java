@@ -0,0 +1,28 @@
+package org.springframework.data.rest.repository.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Denotes a repository event handler (either a {@link RepositoryEventHandler}, one of its handler methods or an {@link
+ * org.springframework.context.ApplicationListener}) whose {@literal after*} events should be delivered asynchronously
+ * once the change has been committed. {@literal before*} events are always delivered synchronously.
+ * <p/>
+ * The entities handed to asynchronous handlers are detached: the persistence context they were loaded in has been
+ * closed by the time the handler runs. Uninitialized lazy associations can't be loaded anymore and changes made to the
+ * entity are not persisted. Handlers needing either have to reload the entity in a transaction of their own.
+ *
+ * @author Jon Brisbin
+ * @see org.springframework.data.rest.repository.context.AsyncRepositoryEventExecutor
+ */
+@Target({
+            ElementType.TYPE,
+            ElementType.METHOD
+        })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface HandleAsync {
+}
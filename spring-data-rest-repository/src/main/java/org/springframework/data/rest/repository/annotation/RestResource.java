@@ -42,4 +42,22 @@ public @interface RestResource {
    */
   String rel() default "";
 
+  /**
+   * The number of seconds the results of a query method are cached for. Results are cached per combination of argument
+   * values (including paging and sorting) and are evicted as soon as an entity of the repository's domain type is
+   * created, saved, linked or deleted through the exporter. Only applies to query methods. The same result instances
+   * are served to every request, so they must be detached entities that nobody modifies.
+   *
+   * @return The time to live in seconds or {@literal 0} to not cache the results at all.
+   */
+  long cacheTtl() default 0;
+
+  /**
+   * The maximum number of results of a query method held in the cache. The least recently used results are dropped
+   * when the limit is reached. Only applies if {@link #cacheTtl()} is set.
+   *
+   * @return The maximum number of cached results.
+   */
+  int cacheMaxEntries() default 100;
+
 }
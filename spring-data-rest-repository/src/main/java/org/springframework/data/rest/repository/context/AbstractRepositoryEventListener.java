@@ -25,8 +25,7 @@ public abstract class AbstractRepositoryEventListener<T> implements ApplicationL
 
 	@SuppressWarnings({"unchecked"})
 	@Override public final void onApplicationEvent(RepositoryEvent event) {
-		Class<?> srcType = event.getSource().getClass();
-		if(null != INTERESTED_TYPE && !INTERESTED_TYPE.isAssignableFrom(srcType)) {
+		if(!isInterestedIn(event.getSource().getClass())) {
 			return;
 		}
 
@@ -53,6 +52,18 @@ public abstract class AbstractRepositoryEventListener<T> implements ApplicationL
 		}
 	}
 
+	/**
+	 * Whether this listener handles events emitted for entities of the given type.
+	 *
+	 * @param srcType
+	 * 		The type of entity.
+	 *
+	 * @return {@literal true} if the entity type matches the type this listener was declared for.
+	 */
+	boolean isInterestedIn(Class<?> srcType) {
+		return null == INTERESTED_TYPE || INTERESTED_TYPE.isAssignableFrom(srcType);
+	}
+
 	/**
 	 * Override this method if you are interested in {@literal beforeCreate} events.
 	 *
@@ -4,7 +4,12 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,58 +22,180 @@ import org.springframework.data.rest.repository.annotation.HandleAfterDelete;
 import org.springframework.data.rest.repository.annotation.HandleAfterLinkDelete;
 import org.springframework.data.rest.repository.annotation.HandleAfterLinkSave;
 import org.springframework.data.rest.repository.annotation.HandleAfterSave;
+import org.springframework.data.rest.repository.annotation.HandleAsync;
 import org.springframework.data.rest.repository.annotation.HandleBeforeCreate;
 import org.springframework.data.rest.repository.annotation.HandleBeforeDelete;
 import org.springframework.data.rest.repository.annotation.HandleBeforeLinkDelete;
 import org.springframework.data.rest.repository.annotation.HandleBeforeLinkSave;
 import org.springframework.data.rest.repository.annotation.HandleBeforeSave;
 import org.springframework.data.rest.repository.annotation.RepositoryEventHandler;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 import org.springframework.util.ReflectionUtils;
 
 /**
+ * {@link BeanPostProcessor} that registers the methods of beans annotated with {@link RepositoryEventHandler} as
+ * handlers for the {@link RepositoryEvent}s they declare. Handlers are kept in an immutable index per event type that
+ * is replaced whenever a handler gets registered. The handlers applicable to a concrete source type are resolved once
+ * and cached, so dispatching an event nobody is interested in is a single map lookup.
+ *
  * @author Jon Brisbin
  */
 public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<RepositoryEvent>,
                                                           BeanPostProcessor {
 
-	private static final Logger                                                         LOG            = LoggerFactory.getLogger(
-			AnnotatedHandlerBeanPostProcessor.class);
-	private final MultiValueMap<Class<? extends RepositoryEvent>, EventHandlerMethod> handlerMethods = new LinkedMultiValueMap<Class<? extends RepositoryEvent>, AnnotatedHandlerBeanPostProcessor.EventHandlerMethod>();
+	private static final Logger LOG = LoggerFactory.getLogger(AnnotatedHandlerBeanPostProcessor.class);
+
+	private final Object monitor = new Object();
+	private volatile Map<Class<? extends RepositoryEvent>, List<EventHandlerMethod>>             handlerMethods         = Collections.emptyMap();
+	private volatile ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, List<EventHandlerMethod>>> resolvedHandlerMethods = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, List<EventHandlerMethod>>>();
 
 	@Override public void onApplicationEvent(RepositoryEvent event) {
-		Class<? extends RepositoryEvent> eventType = event.getClass();
-		if(!handlerMethods.containsKey(eventType)) {
+		Object src = event.getSource();
+		List<EventHandlerMethod> handlers = getHandlerMethodsFor(event.getClass(), src.getClass());
+		if(handlers.isEmpty()) {
 			return;
 		}
 
-		for(EventHandlerMethod handlerMethod : handlerMethods.get(eventType)) {
-			try {
-				Object src = event.getSource();
+		Object linked = (event instanceof LinkSaveEvent ? ((LinkSaveEvent)event).getLinked() : null);
+		invokeHandlers(handlers, event.getClass(), src, linked, null);
+	}
 
-				if(!ClassUtils.isAssignable(handlerMethod.targetType, src.getClass())) {
-					continue;
-				}
+	/**
+	 * Whether any handler method is registered for the given event type.
+	 *
+	 * @param eventType
+	 * 		The type of the {@link RepositoryEvent}.
+	 *
+	 * @return {@literal true} if at least one handler method is registered.
+	 */
+	boolean hasHandlersFor(Class<? extends RepositoryEvent> eventType) {
+		return handlerMethods.containsKey(eventType);
+	}
 
-				List<Object> params = new ArrayList<Object>();
-				params.add(src);
-				if(event instanceof BeforeLinkSaveEvent) {
-					params.add(((BeforeLinkSaveEvent)event).getLinked());
-				} else if(event instanceof AfterLinkSaveEvent) {
-					params.add(((AfterLinkSaveEvent)event).getLinked());
-				}
+	/**
+	 * Whether any handler method is registered for the given event type that is interested in the given source type.
+	 *
+	 * @param eventType
+	 * 		The type of the {@link RepositoryEvent}.
+	 * @param sourceType
+	 * 		The type of the entity the event would be emitted for.
+	 *
+	 * @return {@literal true} if at least one handler method would be invoked.
+	 */
+	boolean hasHandlersFor(Class<? extends RepositoryEvent> eventType, Class<?> sourceType) {
+		return !getHandlerMethodsFor(eventType, sourceType).isEmpty();
+	}
 
-				if(LOG.isDebugEnabled()) {
-					LOG.debug("Invoking " + event.getClass().getSimpleName() + " handler for " + event.getSource());
+	/**
+	 * Whether any handler method marked (or not marked) with {@link HandleAsync} is registered for the given event type
+	 * that is interested in the given source type.
+	 *
+	 * @param eventType
+	 * 		The type of the {@link RepositoryEvent}.
+	 * @param sourceType
+	 * 		The type of the entity the event would be emitted for.
+	 * @param async
+	 * 		Whether to look for asynchronous or synchronous handler methods.
+	 *
+	 * @return {@literal true} if at least one such handler method would be invoked.
+	 */
+	boolean hasHandlersFor(Class<? extends RepositoryEvent> eventType, Class<?> sourceType, boolean async) {
+		for(EventHandlerMethod handlerMethod : getHandlerMethodsFor(eventType, sourceType)) {
+			if(handlerMethod.async == async) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Invoke the handler methods registered for the given event type that are interested in the given source.
+	 *
+	 * @param eventType
+	 * 		The type of the {@link RepositoryEvent}.
+	 * @param src
+	 * 		The entity the event was emitted for.
+	 * @param linked
+	 * 		The linked object for link events, {@literal null} otherwise.
+	 * @param async
+	 * 		{@literal true} to only invoke the handler methods marked with {@link HandleAsync}, {@literal false} to only
+	 * 		invoke the others and {@literal null} to invoke all of them.
+	 */
+	void invokeHandlers(Class<? extends RepositoryEvent> eventType, Object src, Object linked, Boolean async) {
+		invokeHandlers(getHandlerMethodsFor(eventType, src.getClass()), eventType, src, linked, async);
+	}
+
+	private void invokeHandlers(List<EventHandlerMethod> handlers,
+	                            Class<?> eventType,
+	                            Object src,
+	                            Object linked,
+	                            Boolean async) {
+		// Method.invoke doesn't hold on to the arguments, so one array per arity serves all handler methods
+		Object[] srcArgs = null;
+		Object[] linkedArgs = null;
+		for(EventHandlerMethod handlerMethod : handlers) {
+			if(null != async && handlerMethod.async != async) {
+				continue;
+			}
+			if(LOG.isDebugEnabled()) {
+				LOG.debug("Invoking " + eventType.getSimpleName() + " handler for " + src);
+			}
+			if(handlerMethod.arity == 2) {
+				if(null == linkedArgs) {
+					linkedArgs = new Object[]{src, linked};
 				}
-				handlerMethod.method.invoke(handlerMethod.handler, params.toArray());
+				handlerMethod.invoke(linkedArgs);
+			} else {
+				if(null == srcArgs) {
+					srcArgs = new Object[]{src};
+				}
+				handlerMethod.invoke(srcArgs);
+			}
+		}
+	}
 
-			} catch(Exception e) {
-				throw new IllegalStateException(e);
+	/**
+	 * Returns the handler methods registered for the given event type that are interested in the given source type.
+	 *
+	 * @param eventType
+	 * 		The type of the {@link RepositoryEvent}.
+	 * @param sourceType
+	 * 		The type of the entity the event was emitted for.
+	 *
+	 * @return The handler methods to invoke, never {@literal null}.
+	 */
+	private List<EventHandlerMethod> getHandlerMethodsFor(Class<?> eventType, Class<?> sourceType) {
+		List<EventHandlerMethod> candidates = handlerMethods.get(eventType);
+		if(null == candidates) {
+			return Collections.emptyList();
+		}
+
+		ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, List<EventHandlerMethod>>> resolved = resolvedHandlerMethods;
+		ConcurrentMap<Class<?>, List<EventHandlerMethod>> bySourceType = resolved.get(eventType);
+		if(null == bySourceType) {
+			bySourceType = new ConcurrentHashMap<Class<?>, List<EventHandlerMethod>>();
+			ConcurrentMap<Class<?>, List<EventHandlerMethod>> existing = resolved.putIfAbsent(eventType, bySourceType);
+			if(null != existing) {
+				bySourceType = existing;
+			}
+		}
+
+		List<EventHandlerMethod> handlers = bySourceType.get(sourceType);
+		if(null == handlers) {
+			List<EventHandlerMethod> matches = new ArrayList<EventHandlerMethod>();
+			for(EventHandlerMethod handlerMethod : candidates) {
+				if(null == handlerMethod.targetType || ClassUtils.isAssignable(handlerMethod.targetType, sourceType)) {
+					matches.add(handlerMethod);
+				}
 			}
+			handlers = (matches.isEmpty()
+					? Collections.<EventHandlerMethod>emptyList()
+					: Collections.unmodifiableList(matches));
+			bySourceType.put(sourceType, handlers);
 		}
+
+		return handlers;
 	}
 
 	@Override public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
@@ -139,7 +266,7 @@ public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<Re
 					if(LOG.isDebugEnabled()) {
 						LOG.debug("Annotated handler method found: " + m);
 					}
-					handlerMethods.add(eventType, m);
+					register(eventType, m);
 				}
 			} catch(NoSuchMethodException e) {
 				if(LOG.isDebugEnabled()) {
@@ -157,15 +284,56 @@ public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<Re
 		}
 	}
 
-	private class EventHandlerMethod {
+	/**
+	 * Replaces the current handler index with a copy containing the given handler method and drops all resolved handler
+	 * lists. Only happens while the {@link org.springframework.context.ApplicationContext} is being set up.
+	 */
+	private void register(Class<? extends RepositoryEvent> eventType, EventHandlerMethod handlerMethod) {
+		synchronized(monitor) {
+			Map<Class<? extends RepositoryEvent>, List<EventHandlerMethod>> newHandlerMethods = new HashMap<Class<? extends RepositoryEvent>, List<EventHandlerMethod>>(
+					handlerMethods);
+
+			List<EventHandlerMethod> handlers = new ArrayList<EventHandlerMethod>();
+			if(newHandlerMethods.containsKey(eventType)) {
+				handlers.addAll(newHandlerMethods.get(eventType));
+			}
+			handlers.add(handlerMethod);
+			newHandlerMethods.put(eventType, Collections.unmodifiableList(handlers));
+
+			handlerMethods = Collections.unmodifiableMap(newHandlerMethods);
+			resolvedHandlerMethods = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, List<EventHandlerMethod>>>();
+		}
+	}
+
+	private static class EventHandlerMethod {
 		final Class<?> targetType;
 		final Method   method;
 		final Object   handler;
+		final int      arity;
+		final boolean  async;
 
 		private EventHandlerMethod(Class<?> targetType, Object handler, Method method) {
 			this.targetType = targetType;
 			this.method = method;
 			this.handler = handler;
+			this.arity = method.getParameterTypes().length;
+			Assert.isTrue(arity == 1 || arity == 2,
+			              "Handler method " + method + " must accept the entity and, optionally, the linked object!");
+			this.async = (null != AnnotationUtils.findAnnotation(method, HandleAsync.class)
+					|| null != AnnotationUtils.findAnnotation(handler.getClass(), HandleAsync.class));
+			ReflectionUtils.makeAccessible(method);
+		}
+
+		/**
+		 * Invokes the handler method with the given arguments, which must match its {@link #arity}: the event source and,
+		 * if the method declares a second parameter, the linked object.
+		 */
+		void invoke(Object[] args) {
+			try {
+				method.invoke(handler, args);
+			} catch(Exception e) {
+				throw new IllegalStateException(e);
+			}
 		}
 
 		@Override public String toString() {
@@ -0,0 +1,245 @@
+package org.springframework.data.rest.repository.context;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded executor for repository events delivered asynchronously by the {@link RepositoryEventMulticaster}. Tasks are
+ * spread over a fixed number of lanes, each served by a single thread. All tasks submitted with the same ordering key
+ * end up in the same lane and are therefore executed in the order they were submitted. What happens once the queue of
+ * a lane is full is determined by the configured {@link RejectionPolicy}.
+ *
+ * @author Jon Brisbin
+ */
+public class AsyncRepositoryEventExecutor implements DisposableBean {
+
+	/**
+	 * What to do with a task when the queue of its lane is full.
+	 */
+	public enum RejectionPolicy {
+		/**
+		 * Block the submitting thread until the lane has room again. Keeps the ordering guarantee.
+		 */
+		BLOCK,
+		/**
+		 * Run the task on the submitting thread. Tasks for the same entity might overtake each other.
+		 */
+		CALLER_RUNS,
+		/**
+		 * Drop the task and log a warning.
+		 */
+		DISCARD,
+		/**
+		 * Drop the task and throw a {@link RejectedExecutionException} to the submitting thread.
+		 */
+		ABORT
+	}
+
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncRepositoryEventExecutor.class);
+
+	private final ThreadPoolExecutor[] lanes;
+	private final RejectionPolicy      rejectionPolicy;
+	private final AtomicLong submitted  = new AtomicLong();
+	private final AtomicLong completed  = new AtomicLong();
+	private final AtomicLong failed     = new AtomicLong();
+	private final AtomicLong rejected   = new AtomicLong();
+	private final AtomicLong callerRuns = new AtomicLong();
+
+	/**
+	 * Create an executor with one lane per available processor, room for 1000 pending tasks per lane and {@link
+	 * RejectionPolicy#BLOCK}.
+	 */
+	public AsyncRepositoryEventExecutor() {
+		this(Runtime.getRuntime().availableProcessors(), 1000, RejectionPolicy.BLOCK);
+	}
+
+	/**
+	 * Create an executor.
+	 *
+	 * @param laneCount
+	 * 		The number of lanes (and therefore threads) to deliver events on.
+	 * @param queueCapacity
+	 * 		The maximum number of pending tasks per lane.
+	 * @param rejectionPolicy
+	 * 		What to do with tasks submitted to a full lane.
+	 */
+	public AsyncRepositoryEventExecutor(int laneCount, int queueCapacity, RejectionPolicy rejectionPolicy) {
+		Assert.isTrue(laneCount > 0, "At least one lane is required!");
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be positive!");
+		Assert.notNull(rejectionPolicy, "RejectionPolicy cannot be null!");
+
+		this.rejectionPolicy = rejectionPolicy;
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("repository-event-");
+		threadFactory.setDaemon(true);
+
+		this.lanes = new ThreadPoolExecutor[laneCount];
+		for(int i = 0; i < laneCount; i++) {
+			lanes[i] = new ThreadPoolExecutor(1, 1,
+			                                  0L, TimeUnit.MILLISECONDS,
+			                                  new ArrayBlockingQueue<Runnable>(queueCapacity),
+			                                  threadFactory,
+			                                  new ThreadPoolExecutor.AbortPolicy());
+			lanes[i].prestartAllCoreThreads();
+		}
+	}
+
+	/**
+	 * Execute the given task after all tasks previously submitted with an equal ordering key. Exceptions thrown by the
+	 * task are counted but not logged, so the task has to log them itself.
+	 *
+	 * @param orderingKey
+	 * 		The key determining the lane the task is executed on.
+	 * @param task
+	 * 		The task to execute.
+	 *
+	 * @throws RejectedExecutionException
+	 * 		if the lane is full and the {@link RejectionPolicy} is {@link RejectionPolicy#ABORT} or the executor has been
+	 * 		shut down.
+	 */
+	public void execute(Object orderingKey, Runnable task) {
+		ThreadPoolExecutor lane = lanes[(null == orderingKey ? 0 : orderingKey.hashCode() & Integer.MAX_VALUE) % lanes.length];
+		Runnable countingTask = new CountingTask(task);
+		submitted.incrementAndGet();
+
+		if(lane.isShutdown()) {
+			rejected.incrementAndGet();
+			throw new RejectedExecutionException("Executor has been shut down");
+		}
+
+		if(rejectionPolicy == RejectionPolicy.BLOCK) {
+			// The single core thread of the lane is always running, so queueing directly is safe.
+			try {
+				lane.getQueue().put(countingTask);
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				rejected.incrementAndGet();
+				throw new RejectedExecutionException(e);
+			}
+			return;
+		}
+
+		try {
+			lane.execute(countingTask);
+		} catch(RejectedExecutionException e) {
+			switch(rejectionPolicy) {
+				case CALLER_RUNS:
+					callerRuns.incrementAndGet();
+					countingTask.run();
+					break;
+				case DISCARD:
+					rejected.incrementAndGet();
+					LOG.warn("Repository event queue full, discarding " + task);
+					break;
+				default:
+					rejected.incrementAndGet();
+					throw e;
+			}
+		}
+	}
+
+	/**
+	 * @return The number of tasks submitted.
+	 */
+	public long getSubmittedCount() {
+		return submitted.get();
+	}
+
+	/**
+	 * @return The number of tasks that ran successfully.
+	 */
+	public long getCompletedCount() {
+		return completed.get();
+	}
+
+	/**
+	 * @return The number of tasks that threw an exception.
+	 */
+	public long getFailedCount() {
+		return failed.get();
+	}
+
+	/**
+	 * @return The number of tasks dropped because their lane was full or the executor shut down.
+	 */
+	public long getRejectedCount() {
+		return rejected.get();
+	}
+
+	/**
+	 * @return The number of tasks run on the submitting thread because their lane was full.
+	 */
+	public long getCallerRunsCount() {
+		return callerRuns.get();
+	}
+
+	/**
+	 * @return The number of tasks currently waiting to be executed.
+	 */
+	public int getQueueSize() {
+		int size = 0;
+		for(ThreadPoolExecutor lane : lanes) {
+			size += lane.getQueue().size();
+		}
+		return size;
+	}
+
+	/**
+	 * Stop accepting new tasks and wait for a bit for the pending ones to finish.
+	 */
+	@Override public void destroy() throws Exception {
+		for(ThreadPoolExecutor lane : lanes) {
+			lane.shutdown();
+		}
+		for(ThreadPoolExecutor lane : lanes) {
+			if(!lane.awaitTermination(5, TimeUnit.SECONDS)) {
+				LOG.warn("Repository event lane did not finish in time, " + lane.getQueue().size() + " events dropped");
+				lane.shutdownNow();
+			}
+		}
+	}
+
+	@Override public String toString() {
+		return "AsyncRepositoryEventExecutor{" +
+				"lanes=" + lanes.length +
+				", rejectionPolicy=" + rejectionPolicy +
+				", submitted=" + submitted +
+				", completed=" + completed +
+				", failed=" + failed +
+				", rejected=" + rejected +
+				", callerRuns=" + callerRuns +
+				", queueSize=" + getQueueSize() +
+				'}';
+	}
+
+	private class CountingTask implements Runnable {
+		private final Runnable delegate;
+
+		private CountingTask(Runnable delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override public void run() {
+			try {
+				delegate.run();
+				completed.incrementAndGet();
+			} catch(RuntimeException e) {
+				// Tasks log their own failures as they know which listener failed
+				failed.incrementAndGet();
+			}
+		}
+
+		@Override public String toString() {
+			return delegate.toString();
+		}
+	}
+
+}
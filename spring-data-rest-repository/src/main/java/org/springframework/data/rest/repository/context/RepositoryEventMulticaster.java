@@ -0,0 +1,663 @@
+package org.springframework.data.rest.repository.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.repository.annotation.HandleAsync;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Dedicated event bus for the {@link RepositoryEvent}s emitted by the REST exporter. Rather than going through the
+ * {@link ApplicationContext}'s multicaster, which hands every event to every {@link ApplicationListener}, this
+ * inspects the listeners once the context is refreshed and resolves which of them are interested in which
+ * {@link RepositoryEventType} and domain type. Emitting an event nobody listens to neither creates the event nor
+ * dispatches it. {@link AbstractRepositoryEventListener}s are called on their typed callback directly.
+ * <p/>
+ * The same listeners are reached as through {@link ApplicationContext#publishEvent(org.springframework.context.ApplicationEvent)}:
+ * listener beans and listeners added with {@literal addApplicationListener} of the context and its parents. Singletons
+ * are resolved once, while prototype and scoped listener beans are looked up for every event they might be interested
+ * in, after the singletons. Listeners added to a context after it has been refreshed are only reached once {@link
+ * #refresh()} is called.
+ * <p/>
+ * If an {@link AsyncRepositoryEventExecutor} is configured, {@literal after*} events for listeners annotated with
+ * {@link HandleAsync} or for the event types configured through {@link #setAsyncEventTypes(Collection)} are handed to
+ * it once the surrounding transaction (if any) has been committed. Events for the same entity are delivered in order.
+ * {@literal before*} events are always delivered synchronously.
+ *
+ * @author Jon Brisbin
+ */
+public class RepositoryEventMulticaster implements ApplicationListener<ContextRefreshedEvent>,
+                                                   ApplicationContextAware {
+
+	private static final Logger   LOG          = LoggerFactory.getLogger(RepositoryEventMulticaster.class);
+	private static final boolean  TX_PRESENT   = ClassUtils.isPresent(
+			"org.springframework.transaction.support.TransactionSynchronizationManager",
+			RepositoryEventMulticaster.class.getClassLoader()
+	);
+	private static final Dispatch NO_LISTENERS = new Dispatch(Collections.<ListenerInvoker>emptyList(),
+	                                                          Collections.<ListenerInvoker>emptyList());
+
+	@Autowired(required = false)
+	private Repositories                 repositories;
+	@Autowired(required = false)
+	private AsyncRepositoryEventExecutor asyncExecutor;
+	private Set<RepositoryEventType> asyncEventTypes = EnumSet.noneOf(RepositoryEventType.class);
+	private ApplicationContext applicationContext;
+	private final Object indexMonitor = new Object();
+	private volatile Index index;
+
+	@Override public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * Set the {@link AsyncRepositoryEventExecutor} to deliver asynchronous events on. Without one, all events are
+	 * delivered synchronously.
+	 *
+	 * @param asyncExecutor
+	 * 		The executor to use.
+	 */
+	public void setAsyncExecutor(AsyncRepositoryEventExecutor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+		reset();
+	}
+
+	/**
+	 * Set the event types to deliver asynchronously to all listeners.
+	 *
+	 * @param asyncEventTypes
+	 * 		The {@literal after*} event types to deliver asynchronously.
+	 */
+	public void setAsyncEventTypes(Collection<RepositoryEventType> asyncEventTypes) {
+		Set<RepositoryEventType> types = EnumSet.noneOf(RepositoryEventType.class);
+		for(RepositoryEventType type : asyncEventTypes) {
+			if(!type.isAfterEvent()) {
+				throw new IllegalArgumentException(type + " events have to be delivered synchronously");
+			}
+			types.add(type);
+		}
+		this.asyncEventTypes = types;
+		reset();
+	}
+
+	@Override public void onApplicationEvent(ContextRefreshedEvent event) {
+		if(event.getApplicationContext() == applicationContext) {
+			refresh();
+		}
+	}
+
+	/**
+	 * Whether any listener is interested in events of the given type emitted for the given domain type.
+	 *
+	 * @param type
+	 * 		The type of event.
+	 * @param domainType
+	 * 		The type of entity the event would be emitted for.
+	 *
+	 * @return {@literal true} if emitting the event would reach at least one listener.
+	 */
+	public boolean hasListeners(RepositoryEventType type, Class<?> domainType) {
+		return getDispatch(type, domainType) != NO_LISTENERS;
+	}
+
+	/**
+	 * Emit an event of the given type for the given entity.
+	 *
+	 * @param type
+	 * 		The type of event.
+	 * @param source
+	 * 		The entity the event is emitted for.
+	 */
+	public void publish(RepositoryEventType type, Object source) {
+		publish(type, source, null);
+	}
+
+	/**
+	 * Emit an event of the given type for the given entity and linked object.
+	 *
+	 * @param type
+	 * 		The type of event.
+	 * @param source
+	 * 		The entity the event is emitted for.
+	 * @param linked
+	 * 		The linked object for link events, ignored otherwise.
+	 */
+	public void publish(RepositoryEventType type, Object source, Object linked) {
+		if(null == source) {
+			return;
+		}
+
+		Dispatch dispatch = getDispatch(type, source.getClass());
+		if(dispatch == NO_LISTENERS) {
+			return;
+		}
+
+		RepositoryEvent event = (dispatch.requiresEvent ? type.createEvent(source, linked) : null);
+		for(ListenerInvoker listener : dispatch.sync) {
+			listener.invoke(type, event, source, linked);
+		}
+		if(!dispatch.async.isEmpty()) {
+			deliverAsync(new AsyncDelivery(dispatch.async, type, event, source, linked));
+		}
+	}
+
+	/**
+	 * Inspect the {@link ApplicationListener}s of the {@link ApplicationContext} and its parents and rebuild the
+	 * listener index. Only singleton listeners whose type shows they might be interested in {@link RepositoryEvent}s are
+	 * instantiated.
+	 */
+	public void refresh() {
+		synchronized(indexMonitor) {
+			index = buildIndex();
+		}
+
+		if(null != repositories) {
+			for(Class<?> domainType : repositories) {
+				for(RepositoryEventType type : RepositoryEventType.values()) {
+					Dispatch dispatch = getDispatch(type, domainType);
+					if(LOG.isDebugEnabled() && dispatch != NO_LISTENERS) {
+						LOG.debug(type + " for " + domainType.getName() + " dispatched to " + dispatch);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Drop the listener index so it gets rebuilt on next use.
+	 */
+	private void reset() {
+		synchronized(indexMonitor) {
+			index = null;
+		}
+	}
+
+	/**
+	 * Get the listener index, building it if it has been dropped or the context has not been refreshed yet.
+	 */
+	private Index getIndex() {
+		Index currentIndex = index;
+		if(null != currentIndex) {
+			return currentIndex;
+		}
+		synchronized(indexMonitor) {
+			if(null == index) {
+				index = buildIndex();
+			}
+			return index;
+		}
+	}
+
+	private Index buildIndex() {
+		List<ApplicationListener<?>> listeners = new ArrayList<ApplicationListener<?>>();
+		List<String> listenerBeanNames = new ArrayList<String>();
+		for(String beanName : BeanFactoryUtils.beanNamesForTypeIncludingAncestors(applicationContext,
+		                                                                           ApplicationListener.class,
+		                                                                           true,
+		                                                                           false)) {
+			if(!isRepositoryEventListener(beanName)) {
+				continue;
+			}
+			if(applicationContext.isSingleton(beanName)) {
+				ApplicationListener<?> listener = applicationContext.getBean(beanName, ApplicationListener.class);
+				if(listener != this) {
+					listeners.add(listener);
+				}
+			} else {
+				listenerBeanNames.add(beanName);
+			}
+		}
+		for(ApplicationContext ctx = applicationContext; null != ctx; ctx = ctx.getParent()) {
+			if(!(ctx instanceof AbstractApplicationContext)) {
+				continue;
+			}
+			for(ApplicationListener<?> listener : ((AbstractApplicationContext)ctx).getApplicationListeners()) {
+				if(listener != this
+						&& isRepositoryEventListener(listener.getClass())
+						&& !containsInstance(listeners, listener)) {
+					listeners.add(listener);
+				}
+			}
+		}
+		Collections.sort(listeners, AnnotationAwareOrderComparator.INSTANCE);
+
+		Map<RepositoryEventType, List<ListenerInvoker>> invokers = new EnumMap<RepositoryEventType, List<ListenerInvoker>>(
+				RepositoryEventType.class);
+		for(RepositoryEventType type : RepositoryEventType.values()) {
+			List<ListenerInvoker> typeInvokers = new ArrayList<ListenerInvoker>();
+			for(ApplicationListener<?> listener : listeners) {
+				addInvokers(type, listener, typeInvokers);
+			}
+			for(String beanName : listenerBeanNames) {
+				Class<?> listenerType = applicationContext.getType(beanName);
+				if(BeanListenerInvoker.supportsEventType(type, listenerType)) {
+					typeInvokers.add(new BeanListenerInvoker(applicationContext,
+					                                         beanName,
+					                                         listenerType,
+					                                         isAsync(type, listenerType)));
+				}
+			}
+			invokers.put(type, Collections.unmodifiableList(typeInvokers));
+		}
+
+		return new Index(invokers);
+	}
+
+	/**
+	 * Whether the type of the listener bean of the given name allows for it to be interested in {@link
+	 * RepositoryEvent}s, without instantiating it.
+	 */
+	private boolean isRepositoryEventListener(String beanName) {
+		if(applicationContext.isTypeMatch(beanName, RepositoryEventMulticaster.class)) {
+			return false;
+		}
+		if(applicationContext.isTypeMatch(beanName, AbstractRepositoryEventListener.class)
+				|| applicationContext.isTypeMatch(beanName, AnnotatedHandlerBeanPostProcessor.class)) {
+			return true;
+		}
+		return isRepositoryEventListener(applicationContext.getType(beanName));
+	}
+
+	/**
+	 * Whether a listener of the given type might be interested in {@link RepositoryEvent}s.
+	 */
+	private static boolean isRepositoryEventListener(Class<?> listenerType) {
+		if(null != listenerType && RepositoryEventMulticaster.class.isAssignableFrom(listenerType)) {
+			return false;
+		}
+		Class<?> eventType = (null == listenerType
+		                      ? null
+		                      : GenericTypeResolver.resolveTypeArgument(listenerType, ApplicationListener.class));
+		return null == eventType
+				|| eventType.isAssignableFrom(RepositoryEvent.class)
+				|| RepositoryEvent.class.isAssignableFrom(eventType);
+	}
+
+	private static boolean containsInstance(List<?> listeners, Object listener) {
+		for(Object candidate : listeners) {
+			if(candidate == listener) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void addInvokers(RepositoryEventType type, ApplicationListener<?> listener, List<ListenerInvoker> invokers) {
+		if(listener instanceof AbstractRepositoryEventListener) {
+			if(type.isImplementedBy(listener.getClass())) {
+				invokers.add(new TypedListenerInvoker((AbstractRepositoryEventListener<?>)listener,
+				                                      isAsync(type, listener.getClass())));
+			}
+		} else if(listener instanceof AnnotatedHandlerBeanPostProcessor) {
+			AnnotatedHandlerBeanPostProcessor handlers = (AnnotatedHandlerBeanPostProcessor)listener;
+			if(!handlers.hasHandlersFor(type.getEventClass())) {
+				return;
+			}
+			if(isAsync(type, null)) {
+				invokers.add(new AnnotatedHandlerInvoker(handlers, null, true));
+			} else if(null != asyncExecutor && type.isAfterEvent()) {
+				// Split the handler methods depending on whether they ask for asynchronous delivery
+				invokers.add(new AnnotatedHandlerInvoker(handlers, false, false));
+				invokers.add(new AnnotatedHandlerInvoker(handlers, true, true));
+			} else {
+				invokers.add(new AnnotatedHandlerInvoker(handlers, null, false));
+			}
+		} else {
+			GenericListenerInvoker invoker = new GenericListenerInvoker(listener, isAsync(type, listener.getClass()));
+			if(invoker.supportsEventType(type)) {
+				invokers.add(invoker);
+			}
+		}
+	}
+
+	/**
+	 * Whether events of the given type are delivered asynchronously to the given kind of listener.
+	 */
+	private boolean isAsync(RepositoryEventType type, Class<?> listenerType) {
+		if(null == asyncExecutor || !type.isAfterEvent()) {
+			return false;
+		}
+		return asyncEventTypes.contains(type)
+				|| (null != listenerType && null != AnnotationUtils.findAnnotation(listenerType, HandleAsync.class));
+	}
+
+	private Dispatch getDispatch(RepositoryEventType type, Class<?> domainType) {
+		Index currentIndex = getIndex();
+		ConcurrentMap<Class<?>, Dispatch> resolved = currentIndex.resolved.get(type);
+		Dispatch dispatch = resolved.get(domainType);
+		if(null != dispatch) {
+			return dispatch;
+		}
+
+		List<ListenerInvoker> sync = new ArrayList<ListenerInvoker>();
+		List<ListenerInvoker> async = new ArrayList<ListenerInvoker>();
+		for(ListenerInvoker candidate : currentIndex.invokers.get(type)) {
+			if(candidate.supportsDomainType(type, domainType)) {
+				(candidate.async ? async : sync).add(candidate);
+			}
+		}
+		dispatch = (sync.isEmpty() && async.isEmpty() ? NO_LISTENERS : new Dispatch(sync, async));
+		resolved.put(domainType, dispatch);
+
+		return dispatch;
+	}
+
+	/**
+	 * Hand the given delivery to the {@link AsyncRepositoryEventExecutor} once the current transaction has been
+	 * committed or right away if there is none.
+	 */
+	private void deliverAsync(final AsyncDelivery delivery) {
+		if(TX_PRESENT && TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override public void afterCommit() {
+					// The change is committed already, so failing here would only keep other synchronizations from running
+					try {
+						asyncExecutor.execute(orderingKey(delivery.source), delivery);
+					} catch(RejectedExecutionException e) {
+						LOG.error("Asynchronous " + delivery + " rejected: " + e.getMessage(), e);
+					}
+				}
+			});
+		} else {
+			asyncExecutor.execute(orderingKey(delivery.source), delivery);
+		}
+	}
+
+	/**
+	 * Determine the key that keeps events for the same entity in order. Uses the entity's id if known to the {@link
+	 * Repositories} and the instance otherwise.
+	 */
+	private Object orderingKey(Object source) {
+		if(null != repositories) {
+			PersistentEntity<?, ?> entity = repositories.getPersistentEntity(source.getClass());
+			if(null != entity && null != entity.getIdProperty()) {
+				Object id = BeanWrapper.create(source, null).getProperty(entity.getIdProperty());
+				if(null != id) {
+					return Arrays.asList(source.getClass(), id);
+				}
+			}
+		}
+		return System.identityHashCode(source);
+	}
+
+	/**
+	 * The listeners interested in each {@link RepositoryEventType} along with the {@link Dispatch}es resolved from them
+	 * per domain type. Replaced as a whole so a rebuild never mixes with dispatches resolved from a previous one.
+	 */
+	private static class Index {
+		final Map<RepositoryEventType, List<ListenerInvoker>>                    invokers;
+		final Map<RepositoryEventType, ConcurrentMap<Class<?>, Dispatch>> resolved = new EnumMap<RepositoryEventType, ConcurrentMap<Class<?>, Dispatch>>(
+				RepositoryEventType.class);
+
+		private Index(Map<RepositoryEventType, List<ListenerInvoker>> invokers) {
+			this.invokers = invokers;
+			for(RepositoryEventType type : RepositoryEventType.values()) {
+				resolved.put(type, new ConcurrentHashMap<Class<?>, Dispatch>());
+			}
+		}
+	}
+
+	/**
+	 * The listeners to invoke for a given event type and domain type.
+	 */
+	private static class Dispatch {
+		final List<ListenerInvoker> sync;
+		final List<ListenerInvoker> async;
+		final boolean               requiresEvent;
+
+		private Dispatch(List<ListenerInvoker> sync, List<ListenerInvoker> async) {
+			this.sync = sync;
+			this.async = async;
+			boolean requiresEvent = false;
+			for(ListenerInvoker invoker : sync) {
+				requiresEvent |= invoker.requiresEvent();
+			}
+			for(ListenerInvoker invoker : async) {
+				requiresEvent |= invoker.requiresEvent();
+			}
+			this.requiresEvent = requiresEvent;
+		}
+
+		@Override public String toString() {
+			return "Dispatch{sync=" + sync + ", async=" + async + '}';
+		}
+	}
+
+	/**
+	 * Delivers an event to the asynchronous listeners in order. Logs the failure of every listener and rethrows the last
+	 * one so the {@link AsyncRepositoryEventExecutor} counts the delivery as failed.
+	 */
+	private static class AsyncDelivery implements Runnable {
+		final List<ListenerInvoker> listeners;
+		final RepositoryEventType   type;
+		final RepositoryEvent       event;
+		final Object                source;
+		final Object                linked;
+
+		private AsyncDelivery(List<ListenerInvoker> listeners,
+		                      RepositoryEventType type,
+		                      RepositoryEvent event,
+		                      Object source,
+		                      Object linked) {
+			this.listeners = listeners;
+			this.type = type;
+			this.event = event;
+			this.source = source;
+			this.linked = linked;
+		}
+
+		@Override public void run() {
+			RuntimeException failure = null;
+			for(ListenerInvoker listener : listeners) {
+				try {
+					listener.invoke(type, event, source, linked);
+				} catch(RuntimeException e) {
+					LOG.error("Asynchronous " + type + " listener " + listener + " failed: " + e.getMessage(), e);
+					failure = e;
+				}
+			}
+			if(null != failure) {
+				throw failure;
+			}
+		}
+
+		@Override public String toString() {
+			return type + " for " + source;
+		}
+	}
+
+	/**
+	 * Abstraction over the different kinds of listeners a {@link RepositoryEvent} can be delivered to.
+	 */
+	private static abstract class ListenerInvoker {
+
+		final Object  listener;
+		final boolean async;
+
+		protected ListenerInvoker(Object listener, boolean async) {
+			this.listener = listener;
+			this.async = async;
+		}
+
+		abstract boolean supportsDomainType(RepositoryEventType type, Class<?> domainType);
+
+		/**
+		 * Whether {@link #invoke(RepositoryEventType, RepositoryEvent, Object, Object)} needs the event object.
+		 */
+		boolean requiresEvent() {
+			return true;
+		}
+
+		abstract void invoke(RepositoryEventType type, RepositoryEvent event, Object source, Object linked);
+
+		@Override public String toString() {
+			return listener.toString();
+		}
+	}
+
+	private static class TypedListenerInvoker extends ListenerInvoker {
+
+		private final AbstractRepositoryEventListener<?> listener;
+
+		private TypedListenerInvoker(AbstractRepositoryEventListener<?> listener, boolean async) {
+			super(listener, async);
+			this.listener = listener;
+		}
+
+		@Override boolean supportsDomainType(RepositoryEventType type, Class<?> domainType) {
+			return listener.isInterestedIn(domainType);
+		}
+
+		@Override boolean requiresEvent() {
+			return false;
+		}
+
+		@Override void invoke(RepositoryEventType type, RepositoryEvent event, Object source, Object linked) {
+			type.invoke(listener, source, linked);
+		}
+	}
+
+	private static class AnnotatedHandlerInvoker extends ListenerInvoker {
+
+		private final AnnotatedHandlerBeanPostProcessor handlers;
+		private final Boolean                           asyncMethods;
+
+		/**
+		 * @param asyncMethods
+		 * 		{@literal true} to only invoke the handler methods marked with {@link HandleAsync}, {@literal false} to only
+		 * 		invoke the others and {@literal null} to invoke all of them.
+		 */
+		private AnnotatedHandlerInvoker(AnnotatedHandlerBeanPostProcessor handlers, Boolean asyncMethods, boolean async) {
+			super(handlers, async);
+			this.handlers = handlers;
+			this.asyncMethods = asyncMethods;
+		}
+
+		@Override boolean supportsDomainType(RepositoryEventType type, Class<?> domainType) {
+			return (null == asyncMethods
+			        ? handlers.hasHandlersFor(type.getEventClass(), domainType)
+			        : handlers.hasHandlersFor(type.getEventClass(), domainType, asyncMethods));
+		}
+
+		@Override boolean requiresEvent() {
+			return false;
+		}
+
+		@Override void invoke(RepositoryEventType type, RepositoryEvent event, Object source, Object linked) {
+			handlers.invokeHandlers(type.getEventClass(), source, linked, asyncMethods);
+		}
+	}
+
+	/**
+	 * Invokes a prototype or scoped listener bean, looking it up for every event like the {@link ApplicationContext}'s
+	 * multicaster does.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static class BeanListenerInvoker extends ListenerInvoker {
+
+		private final ApplicationContext applicationContext;
+		private final String             beanName;
+		private final Class<?>           listenerType;
+
+		private BeanListenerInvoker(ApplicationContext applicationContext,
+		                            String beanName,
+		                            Class<?> listenerType,
+		                            boolean async) {
+			super(beanName, async);
+			this.applicationContext = applicationContext;
+			this.beanName = beanName;
+			this.listenerType = listenerType;
+		}
+
+		/**
+		 * Whether a listener bean of the given type might be interested in events of the given type.
+		 */
+		static boolean supportsEventType(RepositoryEventType type, Class<?> listenerType) {
+			if(null == listenerType) {
+				return true;
+			}
+			if(AbstractRepositoryEventListener.class.isAssignableFrom(listenerType)) {
+				return type.isImplementedBy(listenerType);
+			}
+			Class<?> eventType = GenericTypeResolver.resolveTypeArgument(listenerType, ApplicationListener.class);
+			return null == eventType || eventType.isAssignableFrom(type.getEventClass());
+		}
+
+		@Override boolean supportsDomainType(RepositoryEventType type, Class<?> domainType) {
+			if(null != listenerType && AbstractRepositoryEventListener.class.isAssignableFrom(listenerType)) {
+				Class<?> interestedType = GenericTypeResolver.resolveTypeArgument(listenerType,
+				                                                                  AbstractRepositoryEventListener.class);
+				return null == interestedType || interestedType.isAssignableFrom(domainType);
+			}
+			return true;
+		}
+
+		@Override void invoke(RepositoryEventType type, RepositoryEvent event, Object source, Object linked) {
+			ApplicationListener listener = applicationContext.getBean(beanName, ApplicationListener.class);
+			SmartApplicationListener adapter = (listener instanceof SmartApplicationListener
+			                                    ? (SmartApplicationListener)listener
+			                                    : new GenericApplicationListenerAdapter(listener));
+			if(adapter.supportsEventType(event.getClass()) && adapter.supportsSourceType(source.getClass())) {
+				listener.onApplicationEvent(event);
+			}
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static class GenericListenerInvoker extends ListenerInvoker {
+
+		private final ApplicationListener      listener;
+		private final SmartApplicationListener adapter;
+
+		private GenericListenerInvoker(ApplicationListener<?> listener, boolean async) {
+			super(listener, async);
+			this.listener = listener;
+			this.adapter = (listener instanceof SmartApplicationListener
+			                ? (SmartApplicationListener)listener
+			                : new GenericApplicationListenerAdapter(listener));
+		}
+
+		boolean supportsEventType(RepositoryEventType type) {
+			return adapter.supportsEventType(type.getEventClass());
+		}
+
+		@Override boolean supportsDomainType(RepositoryEventType type, Class<?> domainType) {
+			return adapter.supportsSourceType(domainType);
+		}
+
+		@Override void invoke(RepositoryEventType type, RepositoryEvent event, Object source, Object linked) {
+			listener.onApplicationEvent(event);
+		}
+	}
+
+}
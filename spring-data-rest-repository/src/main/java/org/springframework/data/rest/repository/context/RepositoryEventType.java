@@ -0,0 +1,202 @@
+package org.springframework.data.rest.repository.context;
+
+import java.lang.reflect.Method;
+
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The kinds of {@link RepositoryEvent}s emitted by the REST exporter. Knows how to create the corresponding event and
+ * how to hand it to the typed callback of an {@link AbstractRepositoryEventListener}.
+ *
+ * @author Jon Brisbin
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public enum RepositoryEventType {
+
+	BEFORE_CREATE(BeforeCreateEvent.class, "onBeforeCreate") {
+		@Override public RepositoryEvent createEvent(Object source, Object linked) {
+			return new BeforeCreateEvent(source);
+		}
+
+		@Override void invoke(AbstractRepositoryEventListener listener, Object source, Object linked) {
+			listener.onBeforeCreate(source);
+		}
+	},
+
+	AFTER_CREATE(AfterCreateEvent.class, "onAfterCreate") {
+		@Override public RepositoryEvent createEvent(Object source, Object linked) {
+			return new AfterCreateEvent(source);
+		}
+
+		@Override void invoke(AbstractRepositoryEventListener listener, Object source, Object linked) {
+			listener.onAfterCreate(source);
+		}
+	},
+
+	BEFORE_SAVE(BeforeSaveEvent.class, "onBeforeSave") {
+		@Override public RepositoryEvent createEvent(Object source, Object linked) {
+			return new BeforeSaveEvent(source);
+		}
+
+		@Override void invoke(AbstractRepositoryEventListener listener, Object source, Object linked) {
+			listener.onBeforeSave(source);
+		}
+	},
+
+	AFTER_SAVE(AfterSaveEvent.class, "onAfterSave") {
+		@Override public RepositoryEvent createEvent(Object source, Object linked) {
+			return new AfterSaveEvent(source);
+		}
+
+		@Override void invoke(AbstractRepositoryEventListener listener, Object source, Object linked) {
+			listener.onAfterSave(source);
+		}
+	},
+
+	BEFORE_LINK_SAVE(BeforeLinkSaveEvent.class, "onBeforeLinkSave") {
+		@Override public RepositoryEvent createEvent(Object source, Object linked) {
+			return new BeforeLinkSaveEvent(source, linked);
+		}
+
+		@Override void invoke(AbstractRepositoryEventListener listener, Object source, Object linked) {
+			listener.onBeforeLinkSave(source, linked);
+		}
+	},
+
+	AFTER_LINK_SAVE(AfterLinkSaveEvent.class, "onAfterLinkSave") {
+		@Override public RepositoryEvent createEvent(Object source, Object linked) {
+			return new AfterLinkSaveEvent(source, linked);
+		}
+
+		@Override void invoke(AbstractRepositoryEventListener listener, Object source, Object linked) {
+			listener.onAfterLinkSave(source, linked);
+		}
+	},
+
+	BEFORE_LINK_DELETE(BeforeLinkDeleteEvent.class, "onBeforeLinkDelete") {
+		@Override public RepositoryEvent createEvent(Object source, Object linked) {
+			return new BeforeLinkDeleteEvent(source, linked);
+		}
+
+		@Override void invoke(AbstractRepositoryEventListener listener, Object source, Object linked) {
+			listener.onBeforeLinkDelete(source, linked);
+		}
+	},
+
+	AFTER_LINK_DELETE(AfterLinkDeleteEvent.class, "onAfterLinkDelete") {
+		@Override public RepositoryEvent createEvent(Object source, Object linked) {
+			return new AfterLinkDeleteEvent(source, linked);
+		}
+
+		@Override void invoke(AbstractRepositoryEventListener listener, Object source, Object linked) {
+			listener.onAfterLinkDelete(source, linked);
+		}
+	},
+
+	BEFORE_DELETE(BeforeDeleteEvent.class, "onBeforeDelete") {
+		@Override public RepositoryEvent createEvent(Object source, Object linked) {
+			return new BeforeDeleteEvent(source);
+		}
+
+		@Override void invoke(AbstractRepositoryEventListener listener, Object source, Object linked) {
+			listener.onBeforeDelete(source);
+		}
+	},
+
+	AFTER_DELETE(AfterDeleteEvent.class, "onAfterDelete") {
+		@Override public RepositoryEvent createEvent(Object source, Object linked) {
+			return new AfterDeleteEvent(source);
+		}
+
+		@Override void invoke(AbstractRepositoryEventListener listener, Object source, Object linked) {
+			listener.onAfterDelete(source);
+		}
+	};
+
+	private final Class<? extends RepositoryEvent> eventClass;
+	private final String                           callbackName;
+	private final boolean                          afterEvent;
+
+	private RepositoryEventType(Class<? extends RepositoryEvent> eventClass, String callbackName) {
+		this.eventClass = eventClass;
+		this.callbackName = callbackName;
+		this.afterEvent = callbackName.startsWith("onAfter");
+	}
+
+	/**
+	 * Get the {@link RepositoryEvent} class emitted for this type.
+	 *
+	 * @return The event class.
+	 */
+	public Class<? extends RepositoryEvent> getEventClass() {
+		return eventClass;
+	}
+
+	/**
+	 * Whether events of this type carry a linked object.
+	 *
+	 * @return {@literal true} for the link events.
+	 */
+	public boolean isLinkEvent() {
+		return LinkSaveEvent.class.isAssignableFrom(eventClass);
+	}
+
+	/**
+	 * Whether events of this type are emitted after the change has been made.
+	 *
+	 * @return {@literal true} for the {@literal after*} events.
+	 */
+	public boolean isAfterEvent() {
+		return afterEvent;
+	}
+
+	/**
+	 * Create the {@link RepositoryEvent} for this type.
+	 *
+	 * @param source
+	 * 		The entity the event is emitted for.
+	 * @param linked
+	 * 		The linked object for link events, ignored otherwise.
+	 *
+	 * @return The new event.
+	 */
+	public abstract RepositoryEvent createEvent(Object source, Object linked);
+
+	/**
+	 * Invoke the callback of the given {@link AbstractRepositoryEventListener} corresponding to this type.
+	 */
+	abstract void invoke(AbstractRepositoryEventListener listener, Object source, Object linked);
+
+	/**
+	 * Whether the given {@link AbstractRepositoryEventListener} type overrides the callback for this event type.
+	 *
+	 * @param listenerType
+	 * 		The listener class to inspect.
+	 *
+	 * @return {@literal true} if the listener implements the callback.
+	 */
+	boolean isImplementedBy(Class<?> listenerType) {
+		Method callback = (isLinkEvent()
+		                   ? ReflectionUtils.findMethod(listenerType, callbackName, Object.class, Object.class)
+		                   : ReflectionUtils.findMethod(listenerType, callbackName, Object.class));
+		return null != callback && callback.getDeclaringClass() != AbstractRepositoryEventListener.class;
+	}
+
+	/**
+	 * Find the {@link RepositoryEventType} for the given event.
+	 *
+	 * @param event
+	 * 		The event to inspect.
+	 *
+	 * @return The matching type or {@literal null} if the event is not one emitted by the exporter.
+	 */
+	public static RepositoryEventType forEvent(RepositoryEvent event) {
+		for(RepositoryEventType type : values()) {
+			if(type.eventClass.isInstance(event)) {
+				return type;
+			}
+		}
+		return null;
+	}
+
+}
@@ -8,8 +8,14 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,11 +33,16 @@ import org.springframework.data.rest.repository.annotation.HandleBeforeDelete;
 import org.springframework.data.rest.repository.annotation.HandleBeforeLinkDelete;
 import org.springframework.data.rest.repository.annotation.HandleBeforeLinkSave;
 import org.springframework.data.rest.repository.annotation.HandleBeforeSave;
+import org.springframework.data.rest.repository.support.JpaValidationSupport;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.validation.Errors;
 import org.springframework.validation.ValidationUtils;
 import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * {@link org.springframework.context.ApplicationListener} implementation that dispatches {@link RepositoryEvent}s to a
@@ -43,10 +54,10 @@ public class ValidatingRepositoryEventListener
 		extends AbstractRepositoryEventListener<Object>
 		implements InitializingBean {
 
-	private static final Logger                            LOG                 = LoggerFactory.getLogger(
+	private static final Logger                            LOG                          = LoggerFactory.getLogger(
 			ValidatingRepositoryEventListener.class);
 	@SuppressWarnings({"unchecked"})
-	private static final List<Class<? extends Annotation>> ANNOTATIONS_TO_FIND = Arrays.asList(
+	private static final List<Class<? extends Annotation>> ANNOTATIONS_TO_FIND          = Arrays.asList(
 			HandleBeforeSave.class,
 			HandleAfterSave.class,
 			HandleBeforeDelete.class,
@@ -56,9 +67,19 @@ public class ValidatingRepositoryEventListener
 			HandleBeforeLinkDelete.class,
 			HandleAfterLinkDelete.class
 	);
+	private static final boolean                           IS_BEAN_VALIDATION_AVAILABLE = ClassUtils.isPresent(
+			"javax.validation.Validator",
+			ValidatingRepositoryEventListener.class.getClassLoader()
+	);
+	private static final String                            VALIDATED_ATTRIBUTE          = ValidatingRepositoryEventListener.class
+			.getName() + ".VALIDATED";
 	@Autowired
-	private Repositories repositories;
-	private MultiValueMap<String, Validator> validators = new LinkedMultiValueMap<String, Validator>();
+	private Repositories         repositories;
+	@Autowired(required = false)
+	private JpaValidationSupport jpaValidationSupport;
+	private final    MultiValueMap<String, Validator>                              validators         = new LinkedMultiValueMap<String, Validator>();
+	private final    ValidationErrors.PropertyAccessors                                accessors          = new ValidationErrors.PropertyAccessors();
+	private volatile ConcurrentMap<String, ConcurrentMap<Class<?>, List<Validator>>> resolvedValidators = new ConcurrentHashMap<String, ConcurrentMap<Class<?>, List<Validator>>>();
 
 	@Override public void afterPropertiesSet() throws Exception {
 		if(validators.size() == 0) {
@@ -83,7 +104,7 @@ public class ValidatingRepositoryEventListener
 				}
 
 				if(null != name) {
-					this.validators.add(name, v);
+					addValidator(name, v);
 				}
 			}
 		}
@@ -107,8 +128,11 @@ public class ValidatingRepositoryEventListener
 	 * @return @this
 	 */
 	public ValidatingRepositoryEventListener setValidators(Map<String, Collection<Validator>> validators) {
-		for(Map.Entry<String, Collection<Validator>> entry : validators.entrySet()) {
-			this.validators.put(entry.getKey(), new ArrayList<Validator>(entry.getValue()));
+		synchronized(this.validators) {
+			for(Map.Entry<String, Collection<Validator>> entry : validators.entrySet()) {
+				this.validators.put(entry.getKey(), new ArrayList<Validator>(entry.getValue()));
+			}
+			resetResolvedValidators();
 		}
 		return this;
 	}
@@ -124,7 +148,10 @@ public class ValidatingRepositoryEventListener
 	 * @return @this
 	 */
 	public ValidatingRepositoryEventListener addValidator(String event, Validator validator) {
-		validators.add(event, validator);
+		synchronized(validators) {
+			validators.add(event, validator);
+			resetResolvedValidators();
+		}
 		return this;
 	}
 
@@ -161,29 +188,137 @@ public class ValidatingRepositoryEventListener
 	}
 
 	private Errors validate(String event, Object o) {
-		Errors errors = null;
-		if(null != o) {
-			Class<?> domainType = o.getClass();
-			errors = new ValidationErrors(domainType.getSimpleName(),
-			                              o,
-			                              repositories.getPersistentEntity(domainType));
-
-			Collection<Validator> validators = this.validators.get(event);
-			if(null != validators) {
-				for(Validator v : validators) {
-					if(v.supports(o.getClass())) {
-						LOG.debug(event + ": " + o + " with " + v);
-						ValidationUtils.invokeValidator(v, o, errors);
+		if(null == o) {
+			return null;
+		}
+
+		Class<?> domainType = o.getClass();
+		List<Validator> validators = getValidatorsFor(event, domainType);
+		if(validators.isEmpty() || !markValidated(event, o)) {
+			return null;
+		}
+
+		Errors errors = new ValidationErrors(domainType.getSimpleName(),
+		                                     o,
+		                                     repositories.getPersistentEntity(domainType),
+		                                     accessors);
+		for(Validator v : validators) {
+			if(LOG.isDebugEnabled()) {
+				LOG.debug(event + ": " + o + " with " + v);
+			}
+			ValidationUtils.invokeValidator(v, o, errors);
+		}
+
+		if(errors.getErrorCount() > 0) {
+			throw new RepositoryConstraintViolationException(errors);
+		}
+
+		return errors;
+	}
+
+	/**
+	 * Get the {@link Validator}s assigned to the given event that support the given domain type.
+	 *
+	 * @param event
+	 * 		The name of the event.
+	 * @param domainType
+	 * 		The type of entity to validate.
+	 *
+	 * @return The Validators to invoke, never {@literal null}.
+	 */
+	private List<Validator> getValidatorsFor(String event, Class<?> domainType) {
+		ConcurrentMap<String, ConcurrentMap<Class<?>, List<Validator>>> resolved = resolvedValidators;
+		ConcurrentMap<Class<?>, List<Validator>> byDomainType = resolved.get(event);
+		if(null == byDomainType) {
+			byDomainType = new ConcurrentHashMap<Class<?>, List<Validator>>();
+			ConcurrentMap<Class<?>, List<Validator>> existing = resolved.putIfAbsent(event, byDomainType);
+			if(null != existing) {
+				byDomainType = existing;
+			}
+		}
+
+		List<Validator> validators = byDomainType.get(domainType);
+		if(null == validators) {
+			List<Validator> candidates;
+			synchronized(this.validators) {
+				candidates = this.validators.get(event);
+				candidates = (null != candidates ? new ArrayList<Validator>(candidates) : Collections.<Validator>emptyList());
+			}
+
+			boolean providerValidates = isValidatedByProvider(event, domainType);
+			List<Validator> matches = new ArrayList<Validator>();
+			for(Validator v : candidates) {
+				if(providerValidates && BeanValidators.isBeanValidator(v)) {
+					if(LOG.isDebugEnabled()) {
+						LOG.debug(event + ": " + domainType.getName() + " is validated by the JPA provider, skipping " + v);
 					}
+					continue;
+				}
+				if(v.supports(domainType)) {
+					matches.add(v);
 				}
 			}
+			validators = (matches.isEmpty()
+					? Collections.<Validator>emptyList()
+					: Collections.unmodifiableList(matches));
+			byDomainType.put(domainType, validators);
+		}
 
-			if(errors.getErrorCount() > 0) {
-				throw new RepositoryConstraintViolationException(errors);
-			}
+		return validators;
+	}
+
+	/**
+	 * Whether the JPA provider validates entities of the given type with Bean Validation as part of the write the given
+	 * event precedes, in which case the exporter does not need to run JSR-303 validators itself.
+	 */
+	private boolean isValidatedByProvider(String event, Class<?> domainType) {
+		if(null == jpaValidationSupport || !IS_BEAN_VALIDATION_AVAILABLE) {
+			return false;
 		}
+		return ("beforeCreate".equals(event) || "beforeSave".equals(event))
+				&& jpaValidationSupport.validatesOnWrite(domainType);
+	}
 
-		return errors;
+	/**
+	 * Remember that the given entity has been validated for the given event within the current request.
+	 *
+	 * @return {@literal false} if the entity has already been validated for that event within the current request.
+	 */
+	@SuppressWarnings({"unchecked"})
+	private boolean markValidated(String event, Object o) {
+		RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+		if(null == attrs) {
+			return true;
+		}
+
+		Map<Object, Set<String>> validated = (Map<Object, Set<String>>)attrs.getAttribute(VALIDATED_ATTRIBUTE,
+		                                                                                  RequestAttributes.SCOPE_REQUEST);
+		if(null == validated) {
+			validated = new IdentityHashMap<Object, Set<String>>();
+			attrs.setAttribute(VALIDATED_ATTRIBUTE, validated, RequestAttributes.SCOPE_REQUEST);
+		}
+		Set<String> events = validated.get(o);
+		if(null == events) {
+			events = new HashSet<String>();
+			validated.put(o, events);
+		}
+		return events.add(event);
+	}
+
+	/**
+	 * Drop the resolved {@link Validator}s so they get looked up again with the current assignments.
+	 */
+	private void resetResolvedValidators() {
+		resolvedValidators = new ConcurrentHashMap<String, ConcurrentMap<Class<?>, List<Validator>>>();
+	}
+
+	/**
+	 * Isolates the references to the Bean Validation integration so this class can be loaded without it.
+	 */
+	private static class BeanValidators {
+		static boolean isBeanValidator(Validator validator) {
+			return validator instanceof SpringValidatorAdapter;
+		}
 	}
 
 }
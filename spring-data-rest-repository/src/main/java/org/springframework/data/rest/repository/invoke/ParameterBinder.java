@@ -0,0 +1,138 @@
+package org.springframework.data.rest.repository.invoke;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.rest.repository.annotation.ConvertWith;
+
+/**
+ * Everything needed to bind a request value to one parameter of a {@link RepositoryMethod}, worked out when the method
+ * is inspected: the name of the request parameter to read, the target {@link TypeDescriptor} and the {@link
+ * ConvertWith} converter, if any.
+ *
+ * @author Jon Brisbin
+ */
+public class ParameterBinder {
+
+  private final MethodParameter           parameter;
+  private final String                    name;
+  private final boolean                   named;
+  private final boolean                   pageable;
+  private final boolean                   sort;
+  private final TypeDescriptor            targetType;
+  private final Converter<Object, Object> converter;
+
+  @SuppressWarnings({"unchecked"})
+  ParameterBinder(MethodParameter parameter, String name, boolean named) {
+    this.parameter = parameter;
+    this.name = name;
+    this.named = named;
+    this.pageable = Pageable.class.isAssignableFrom(parameter.getParameterType());
+    this.sort = Sort.class.isAssignableFrom(parameter.getParameterType());
+    this.targetType = new TypeDescriptor(parameter);
+
+    ConvertWith convertWith = parameter.getParameterAnnotation(ConvertWith.class);
+    this.converter = (null != convertWith
+                      ? (Converter<Object, Object>)BeanUtils.instantiateClass(convertWith.value())
+                      : null);
+  }
+
+  /**
+   * Get the parameter this binder binds.
+   *
+   * @return The {@link MethodParameter}.
+   */
+  public MethodParameter getParameter() {
+    return parameter;
+  }
+
+  /**
+   * Get the name of the request parameter holding the value for this parameter.
+   *
+   * @return The name given by {@link org.springframework.data.repository.query.Param}, the discovered parameter name
+   *         or {@literal arg<index>}.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Whether the name of this parameter is known, as opposed to the {@literal arg<index>} placeholder.
+   *
+   * @return {@literal true} if the parameter has a real name.
+   */
+  public boolean isNamed() {
+    return named;
+  }
+
+  /**
+   * Whether this parameter takes the paging information.
+   *
+   * @return {@literal true} if the parameter is a {@link Pageable}.
+   */
+  public boolean isPageable() {
+    return pageable;
+  }
+
+  /**
+   * Whether this parameter takes the sorting information.
+   *
+   * @return {@literal true} if the parameter is a {@link Sort}.
+   */
+  public boolean isSort() {
+    return sort;
+  }
+
+  /**
+   * Get the type request values are converted to.
+   *
+   * @return The {@link TypeDescriptor} of the parameter.
+   */
+  public TypeDescriptor getTargetType() {
+    return targetType;
+  }
+
+  /**
+   * Convert a value to the type of this parameter, using the {@link ConvertWith} converter if there is one.
+   *
+   * @param source
+   *     The value to convert.
+   * @param sourceType
+   *     The type of the value.
+   * @param conversionService
+   *     The {@link ConversionService} to use if there is no {@link ConvertWith} converter.
+   *
+   * @return The converted value.
+   */
+  public Object convert(Object source, TypeDescriptor sourceType, ConversionService conversionService) {
+    try {
+      if(null != converter) {
+        return converter.convert(source);
+      } else {
+        return conversionService.convert(source, sourceType, targetType);
+      }
+    } catch(Exception e) {
+      throw new ConversionFailedException(sourceType, targetType, source, e);
+    }
+  }
+
+  /**
+   * Whether values of the given type can be converted to the type of this parameter.
+   *
+   * @param sourceType
+   *     The type of the values.
+   * @param conversionService
+   *     The {@link ConversionService} to use if there is no {@link ConvertWith} converter.
+   *
+   * @return {@literal true} if values can be converted.
+   */
+  public boolean canConvert(TypeDescriptor sourceType, ConversionService conversionService) {
+    return null != converter || conversionService.canConvert(sourceType, targetType);
+  }
+
+}
@@ -0,0 +1,278 @@
+package org.springframework.data.rest.repository.invoke;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.rest.repository.annotation.RestResource;
+import org.springframework.data.rest.repository.context.AbstractRepositoryEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Holds the results of query methods annotated with a {@link RestResource#cacheTtl()}. Results are kept per method and
+ * combination of argument values for the configured time, up to the configured number of entries per method. As this
+ * listens for the {@literal after*} {@link org.springframework.data.rest.repository.context.RepositoryEvent}s, every
+ * change to an entity made through the exporter evicts the cached results of the methods of that entity's repository
+ * (and of the linked entity's repository for link events). If the event is published within a transaction, the
+ * results are evicted once it has been committed, so a rolled back change leaves the cache alone and a result read
+ * before the commit is not kept. Changes made to the store by other means are only picked up once the cached results
+ * expire.
+ * <p/>
+ * The cached results are handed out to every request asking for the same method and arguments, so they have to be
+ * detached from the persistence context they were loaded in and must not be modified by whoever renders them.
+ *
+ * @author Jon Brisbin
+ */
+public class QueryResultCache extends AbstractRepositoryEventListener<Object> {
+
+	private static final boolean TX_PRESENT = ClassUtils.isPresent(
+			"org.springframework.transaction.support.TransactionSynchronizationManager",
+			QueryResultCache.class.getClassLoader()
+	);
+
+	private final ConcurrentMap<Method, MethodCache> caches = new ConcurrentHashMap<Method, MethodCache>();
+
+	/**
+	 * Get the result of the given query method for the given arguments from the cache, calling the loader and caching
+	 * its result if there is no cached result yet or it has expired.
+	 *
+	 * @param domainType
+	 * 		The domain type of the repository the method belongs to.
+	 * @param method
+	 * 		The query method.
+	 * @param params
+	 * 		The converted arguments the method is invoked with.
+	 * @param loader
+	 * 		Invokes the method.
+	 *
+	 * @return The result of the method and whether it was served from the cache.
+	 */
+	public Result get(Class<?> domainType, RepositoryMethod method, Object[] params, Callable<?> loader) {
+		long now = System.currentTimeMillis();
+		if(!method.isCacheable()) {
+			return new Result(load(loader), false, now);
+		}
+		MethodCache cache = caches.get(method.getMethod());
+		if(null == cache) {
+			cache = new MethodCache(domainType, method.getCacheTtl(), method.getCacheMaxEntries());
+			MethodCache existing = caches.putIfAbsent(method.getMethod(), cache);
+			if(null != existing) {
+				cache = existing;
+			}
+		}
+
+		ArgumentsKey key = new ArgumentsKey(params);
+		CachedResult cached = cache.get(key);
+		if(null != cached && cached.expires > now) {
+			return new Result(cached.result, true, cached.loaded);
+		}
+
+		long generation = cache.generation.get();
+		Object result = load(loader);
+		cache.put(key, new CachedResult(result, now, now + cache.ttl), generation);
+		return new Result(result, false, now);
+	}
+
+	/**
+	 * Drop all cached results of query methods of repositories for the given type of entity.
+	 *
+	 * @param entityType
+	 * 		The type of entity that has been changed.
+	 */
+	public void evict(Class<?> entityType) {
+		for(MethodCache cache : caches.values()) {
+			if(cache.domainType.isAssignableFrom(entityType)) {
+				cache.clear();
+			}
+		}
+	}
+
+	@Override protected void onAfterCreate(Object entity) {
+		evictAfterCommit(Collections.<Class<?>>singleton(entity.getClass()));
+	}
+
+	@Override protected void onAfterSave(Object entity) {
+		evictAfterCommit(Collections.<Class<?>>singleton(entity.getClass()));
+	}
+
+	@Override protected void onAfterLinkSave(Object parent, Object linked) {
+		evictLinked(parent, linked);
+	}
+
+	@Override protected void onAfterLinkDelete(Object parent, Object linked) {
+		evictLinked(parent, linked);
+	}
+
+	@Override protected void onAfterDelete(Object entity) {
+		evictAfterCommit(Collections.<Class<?>>singleton(entity.getClass()));
+	}
+
+	private void evictLinked(Object parent, Object linked) {
+		Set<Class<?>> entityTypes = new HashSet<Class<?>>();
+		entityTypes.add(parent.getClass());
+		if(linked instanceof Iterable) {
+			for(Object o : (Iterable<?>)linked) {
+				if(null != o) {
+					entityTypes.add(o.getClass());
+				}
+			}
+		} else if(linked instanceof Map) {
+			for(Object o : ((Map<?, ?>)linked).values()) {
+				if(null != o) {
+					entityTypes.add(o.getClass());
+				}
+			}
+		} else if(null != linked) {
+			entityTypes.add(linked.getClass());
+		}
+		evictAfterCommit(entityTypes);
+	}
+
+	/**
+	 * Evict the results for the given types of entities once the current transaction has been committed or right away if
+	 * there is none.
+	 */
+	private void evictAfterCommit(final Collection<Class<?>> entityTypes) {
+		if(TX_PRESENT && TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override public void afterCommit() {
+					evict(entityTypes);
+				}
+			});
+		} else {
+			evict(entityTypes);
+		}
+	}
+
+	private void evict(Collection<Class<?>> entityTypes) {
+		for(Class<?> entityType : entityTypes) {
+			evict(entityType);
+		}
+	}
+
+	private static Object load(Callable<?> loader) {
+		try {
+			return loader.call();
+		} catch(RuntimeException e) {
+			throw e;
+		} catch(Exception e) {
+			throw new UndeclaredThrowableException(e);
+		}
+	}
+
+	/**
+	 * The result of a query method looked up in the cache.
+	 */
+	public static class Result {
+		private final Object  value;
+		private final boolean hit;
+		private final long    loadedAt;
+
+		Result(Object value, boolean hit, long loadedAt) {
+			this.value = value;
+			this.hit = hit;
+			this.loadedAt = loadedAt;
+		}
+
+		/**
+		 * Get the value the query method returned.
+		 */
+		public Object getValue() {
+			return value;
+		}
+
+		/**
+		 * Whether the value was served from the cache rather than returned by the method just now.
+		 */
+		public boolean isHit() {
+			return hit;
+		}
+
+		/**
+		 * Get when the value was returned by the method, in milliseconds.
+		 */
+		public long getLoadedAt() {
+			return loadedAt;
+		}
+	}
+
+	/**
+	 * The cached results of one query method, least recently used first. A result loaded while the cache was being
+	 * cleared is not stored, as it might have been read before the change that caused the eviction.
+	 */
+	private static class MethodCache {
+		final Class<?>   domainType;
+		final long       ttl;
+		final AtomicLong generation = new AtomicLong();
+		final Map<ArgumentsKey, CachedResult> results;
+
+		MethodCache(Class<?> domainType, long ttl, final int maxEntries) {
+			this.domainType = domainType;
+			this.ttl = ttl;
+			this.results = new LinkedHashMap<ArgumentsKey, CachedResult>(16, 0.75f, true) {
+				@Override protected boolean removeEldestEntry(Map.Entry<ArgumentsKey, CachedResult> eldest) {
+					return size() > maxEntries;
+				}
+			};
+		}
+
+		synchronized CachedResult get(ArgumentsKey key) {
+			return results.get(key);
+		}
+
+		synchronized void put(ArgumentsKey key, CachedResult result, long generation) {
+			if(this.generation.get() == generation) {
+				results.put(key, result);
+			}
+		}
+
+		synchronized void clear() {
+			generation.incrementAndGet();
+			results.clear();
+		}
+	}
+
+	private static class CachedResult {
+		final Object result;
+		final long   loaded;
+		final long   expires;
+
+		CachedResult(Object result, long loaded, long expires) {
+			this.result = result;
+			this.loaded = loaded;
+			this.expires = expires;
+		}
+	}
+
+	private static class ArgumentsKey {
+		final Object[] params;
+		final int      hashCode;
+
+		ArgumentsKey(Object[] params) {
+			this.params = (null != params ? params.clone() : new Object[0]);
+			this.hashCode = Arrays.deepHashCode(this.params);
+		}
+
+		@Override public boolean equals(Object obj) {
+			return this == obj
+					|| (obj instanceof ArgumentsKey && Arrays.deepEquals(params, ((ArgumentsKey)obj).params));
+		}
+
+		@Override public int hashCode() {
+			return hashCode;
+		}
+	}
+
+}
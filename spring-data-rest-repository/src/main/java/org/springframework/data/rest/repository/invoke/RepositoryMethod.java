@@ -5,11 +5,14 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.repository.annotation.RestResource;
 import org.springframework.data.rest.repository.support.Methods;
 
 /**
@@ -22,8 +25,11 @@ public class RepositoryMethod {
   private Method method;
   private List<MethodParameter> methodParameters = new ArrayList<MethodParameter>();
   private List<String>          paramNames       = new ArrayList<String>();
+  private List<ParameterBinder> binders          = new ArrayList<ParameterBinder>();
   private boolean               pageable         = false;
   private boolean               sortable         = false;
+  private long                  cacheTtl         = 0;
+  private int                   cacheMaxEntries  = 0;
 
   public RepositoryMethod(Method method) {
     this.method = method;
@@ -34,13 +40,16 @@ public class RepositoryMethod {
       paramNames = new String[paramTypes.length];
     }
 
+    boolean[] named = new boolean[paramTypes.length];
     Annotation[][] paramAnnos = method.getParameterAnnotations();
     for(int i = 0; i < paramAnnos.length; i++) {
+      named[i] = null != paramNames[i];
       if(paramAnnos[i].length > 0) {
         for(Annotation anno : paramAnnos[i]) {
           if(Param.class.isAssignableFrom(anno.getClass())) {
             Param p = (Param)anno;
             paramNames[i] = p.value();
+            named[i] = true;
             break;
           }
         }
@@ -58,11 +67,23 @@ public class RepositoryMethod {
       if(Sort.class.isAssignableFrom(type)) {
         sortable = true;
       }
-      methodParameters.add(new MethodParameter(method, idx));
+      MethodParameter param = new MethodParameter(method, idx);
+      param.initParameterNameDiscovery(Methods.NAME_DISCOVERER);
+      methodParameters.add(param);
+      binders.add(new ParameterBinder(param, paramNames[idx], named[idx]));
       idx++;
     }
 
+    RestResource resource = AnnotationUtils.findAnnotation(method, RestResource.class);
+    if(null != resource && resource.cacheTtl() > 0 && resource.cacheMaxEntries() > 0) {
+      cacheTtl = TimeUnit.SECONDS.toMillis(resource.cacheTtl());
+      cacheMaxEntries = resource.cacheMaxEntries();
+    }
+
     Collections.addAll(this.paramNames, paramNames);
+    methodParameters = Collections.unmodifiableList(methodParameters);
+    this.paramNames = Collections.unmodifiableList(this.paramNames);
+    binders = Collections.unmodifiableList(binders);
   }
 
   /**
@@ -83,6 +104,15 @@ public class RepositoryMethod {
     return paramNames;
   }
 
+  /**
+   * Get the precompiled binders for the method parameters, in parameter order.
+   *
+   * @return List of {@link ParameterBinder}s.
+   */
+  public List<ParameterBinder> getParameterBinders() {
+    return binders;
+  }
+
   /**
    * Get the reflected {@link Method} to invoke.
    *
@@ -111,4 +141,32 @@ public class RepositoryMethod {
     return sortable;
   }
 
+  /**
+   * Flag denoting whether the results of this method are to be cached.
+   *
+   * @return {@literal true} if the method is annotated with a {@link RestResource#cacheTtl()}, {@literal false}
+   *         otherwise.
+   */
+  public boolean isCacheable() {
+    return cacheTtl > 0;
+  }
+
+  /**
+   * Get the number of milliseconds the results of this method are cached for.
+   *
+   * @return The time to live or {@literal 0} if results are not cached.
+   */
+  public long getCacheTtl() {
+    return cacheTtl;
+  }
+
+  /**
+   * Get the maximum number of results of this method held in the cache.
+   *
+   * @return The maximum number of cached results.
+   */
+  public int getCacheMaxEntries() {
+    return cacheMaxEntries;
+  }
+
 }
@@ -7,6 +7,7 @@ import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,7 +22,9 @@ import org.springframework.util.ReflectionUtils.MethodCallback;
  */
 public class RepositoryMethodInvoker implements PagingAndSortingRepository<Object, Serializable> {
 
-	private final Object repository;
+	private final Object   repository;
+	private final Class<?> domainType;
+	private QueryResultCache resultCache;
 	private final Map<String, RepositoryMethod> queryMethods = new HashMap<String, RepositoryMethod>();
 	private RepositoryMethod saveOne;
 	private RepositoryMethod saveSome;
@@ -41,6 +44,7 @@ public class RepositoryMethodInvoker implements PagingAndSortingRepository<Objec
 	public RepositoryMethodInvoker(Object repository,
 	                               RepositoryInformation repoInfo) {
 		this.repository = repository;
+		this.domainType = repoInfo.getDomainType();
 		Class<?> repoType = repoInfo.getRepositoryInterface();
 
 		doWithMethods(repoType, new MethodCallback() {
@@ -75,7 +79,10 @@ public class RepositoryMethodInvoker implements PagingAndSortingRepository<Objec
 				} else if("findAll".equals(name)) {
 					findAll = repoMethod;
 				} else if("count".equals(name)) {
-					count = repoMethod;
+					// Keep the most specific declaration, which might carry a @RestResource(cacheTtl)
+					if(null == count) {
+						count = repoMethod;
+					}
 				} else if("delete".equals(name) && byIdMethod) {
 					deleteOneById = repoMethod;
 				} else if("delete".equals(name) && someMethod) {
@@ -170,13 +177,22 @@ public class RepositoryMethodInvoker implements PagingAndSortingRepository<Objec
 	}
 
 	@Override public long count() {
-		return (Long)invokeMethod(count.getMethod(), repository);
+		return (Long)invokeQueryMethod(count);
 	}
 
 	public boolean hasCount() {
 		return null != count;
 	}
 
+	/**
+	 * Count the entities like {@link #count()}, telling whether the count was served from the result cache.
+	 *
+	 * @return The count and whether it was cached.
+	 */
+	public QueryResultCache.Result countCached() {
+		return invokeCachedQueryMethod(count);
+	}
+
 	@Override public void delete(Object entity) {
 		invokeMethod(deleteOne.getMethod(), repository, entity);
 	}
@@ -214,11 +230,48 @@ public class RepositoryMethodInvoker implements PagingAndSortingRepository<Objec
 		if(null == repoMethod) {
 			throw new NoSuchMethodError(name);
 		}
-		return invokeMethod(repoMethod.getMethod(), repository, params);
+		return invokeQueryMethod(repoMethod, params);
 	}
 
 	public Object invokeQueryMethod(RepositoryMethod method, Object... params) {
-		return invokeMethod(method.getMethod(), repository, params);
+		return invokeCachedQueryMethod(method, params).getValue();
+	}
+
+	/**
+	 * Invoke the given query method, serving the result from the result cache if the method is cacheable.
+	 *
+	 * @param method
+	 * 		The query method.
+	 * @param params
+	 * 		The converted arguments to invoke the method with.
+	 *
+	 * @return The result of the method and whether it was served from the cache.
+	 */
+	public QueryResultCache.Result invokeCachedQueryMethod(final RepositoryMethod method, final Object... params) {
+		if(null == resultCache || !method.isCacheable()) {
+			return new QueryResultCache.Result(invokeMethod(method.getMethod(), repository, params),
+			                                   false,
+			                                   System.currentTimeMillis());
+		}
+		return resultCache.get(domainType, method, params, new Callable<Object>() {
+			@Override public Object call() throws Exception {
+				return invokeMethod(method.getMethod(), repository, params);
+			}
+		});
+	}
+
+	/**
+	 * Set the cache to look up the results of query methods annotated with a {@link
+	 * org.springframework.data.rest.repository.annotation.RestResource#cacheTtl()} in.
+	 *
+	 * @param resultCache
+	 * 		The cache or {@literal null} to always invoke the query methods.
+	 *
+	 * @return {@literal this}
+	 */
+	public RepositoryMethodInvoker setResultCache(QueryResultCache resultCache) {
+		this.resultCache = resultCache;
+		return this;
 	}
 
 }
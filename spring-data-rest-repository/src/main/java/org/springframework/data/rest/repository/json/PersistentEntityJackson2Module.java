@@ -5,12 +5,15 @@ import static org.springframework.data.rest.core.util.UriUtils.*;
 import static org.springframework.data.rest.repository.support.ResourceMappingUtils.*;
 
 import java.io.IOException;
+import java.lang.reflect.Constructor;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -22,6 +25,10 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -42,10 +49,14 @@ import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.config.ResourceMapping;
+import org.springframework.data.rest.convert.ISO8601DateConverter;
 import org.springframework.data.rest.repository.PersistentEntityResource;
+import org.springframework.data.rest.repository.TemplatedResources;
 import org.springframework.data.rest.repository.UriDomainClassConverter;
 import org.springframework.hateoas.Link;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * @author Jon Brisbin
@@ -67,6 +78,8 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 		this.conversionService = conversionService;
 
 		addSerializer(new ResourceSerializer());
+		addSerializer(Date.class, new ISO8601DateSerializer());
+		addDeserializer(Date.class, new ISO8601DateDeserializer());
 	}
 
 	public static boolean maybeAddAssociationLink(Repositories repositories,
@@ -77,11 +90,33 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 	                                              ResourceMapping propertyMapping,
 	                                              PersistentProperty persistentProperty,
 	                                              List<Link> links) {
-		Class<?> propertyType = persistentProperty.getType();
-		if(persistentProperty.isCollectionLike() || persistentProperty.isArray()) {
-			propertyType = persistentProperty.getComponentType();
-		}
+		return maybeAddAssociationLink(repositories,
+		                               config,
+		                               baseEntityUri.toString(),
+		                               repoInfo,
+		                               entityMapping,
+		                               propertyMapping,
+		                               persistentProperty,
+		                               links);
+	}
 
+	/**
+	 * Add the link to the given association of an entity if it refers to entities of an exported repository.
+	 *
+	 * @param baseEntityHref
+	 * 		The encoded href of the entity, which may be a URI template like {@literal http://host/people/{id}}. The
+	 * 		property's path is encoded and appended to it as is.
+	 *
+	 * @return {@literal true} if a link was added.
+	 */
+	public static boolean maybeAddAssociationLink(Repositories repositories,
+	                                              RepositoryRestConfiguration config,
+	                                              String baseEntityHref,
+	                                              RepositoryInformation repoInfo,
+	                                              ResourceMapping entityMapping,
+	                                              ResourceMapping propertyMapping,
+	                                              PersistentProperty persistentProperty,
+	                                              List<Link> links) {
 		String propertyPath = (null != propertyMapping
 		                       ? propertyMapping.getPath()
 		                       : persistentProperty.getName());
@@ -90,22 +125,103 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 			propertyPath = persistentProperty.getName();
 		}
 		String propertyRel = formatRel(config, repoInfo, persistentProperty);
-		if(repositories.hasRepositoryFor(propertyType)) {
+		if(isLinkedAssociation(repositories, config, persistentProperty)) {
 			// This is a managed type, generate a Link
-			RepositoryInformation linkedRepoInfo = repositories.getRepositoryInformationFor(propertyType);
-			ResourceMapping linkedRepoMapping = getResourceMapping(config, linkedRepoInfo);
-			if(linkedRepoMapping.isExported()) {
-				URI uri = buildUri(baseEntityUri, propertyPath);
-				Link l = new Link(uri.toString(), propertyRel);
-				links.add(l);
-				// This is an association. We added a Link.
-				return true;
-			}
+			String href = (baseEntityHref.endsWith("/")
+			               ? baseEntityHref.substring(0, baseEntityHref.length() - 1)
+			               : baseEntityHref)
+					+ UriComponentsBuilder.newInstance().pathSegment(propertyPath).build().encode().toUriString();
+			Link l = new Link(href, propertyRel);
+			links.add(l);
+			// This is an association. We added a Link.
+			return true;
 		}
 		// This is not an association. No Link was added.
 		return false;
 	}
 
+	/**
+	 * Whether the given property refers to entities managed by an exported repository, so it is rendered as a link
+	 * rather than inline.
+	 *
+	 * @param repositories
+	 * 		The repositories to look the property's type up in.
+	 * @param config
+	 * 		The exporter configuration.
+	 * @param persistentProperty
+	 * 		The property to inspect.
+	 *
+	 * @return {@literal true} if the property is rendered as a link.
+	 */
+	public static boolean isLinkedAssociation(Repositories repositories,
+	                                          RepositoryRestConfiguration config,
+	                                          PersistentProperty persistentProperty) {
+		Class<?> propertyType = persistentProperty.getType();
+		if(persistentProperty.isCollectionLike() || persistentProperty.isArray()) {
+			propertyType = persistentProperty.getComponentType();
+		}
+		if(!repositories.hasRepositoryFor(propertyType)) {
+			return false;
+		}
+		return getResourceMapping(config, repositories.getRepositoryInformationFor(propertyType)).isExported();
+	}
+
+	/**
+	 * Create the URI templates of the self and association links of entities of the given type, as rendered in {@link
+	 * TemplatedResources}. The id of the entity is represented by the variable {@literal {id}}.
+	 *
+	 * @param repositories
+	 * 		The repositories to look up the entity's repository and associations in.
+	 * @param config
+	 * 		The exporter configuration.
+	 * @param baseUri
+	 * 		The base URI of the exporter.
+	 * @param persistentEntity
+	 * 		The type of entity.
+	 *
+	 * @return The self link template followed by the association link templates.
+	 */
+	@SuppressWarnings({"unchecked"})
+	public static List<Link> linkTemplates(final Repositories repositories,
+	                                       final RepositoryRestConfiguration config,
+	                                       URI baseUri,
+	                                       PersistentEntity persistentEntity) {
+		final RepositoryInformation repoInfo = repositories.getRepositoryInformationFor(persistentEntity.getType());
+		ResourceMapping repoMapping = getResourceMapping(config, repoInfo);
+		final ResourceMapping entityMapping = getResourceMapping(config, persistentEntity);
+
+		String base = baseUri.toString();
+		final String entityHref = (base.endsWith("/") ? base : base + "/") + repoMapping.getPath() + "/{id}";
+		final List<Link> templates = new ArrayList<Link>();
+		templates.add(new Link(entityHref, repoMapping.getRel() + "." + entityMapping.getRel()));
+
+		final Set<PersistentProperty<?>> linked = new LinkedHashSet<PersistentProperty<?>>();
+		persistentEntity.doWithProperties(new PropertyHandler() {
+			@Override public void doWithPersistentProperty(PersistentProperty persistentProperty) {
+				if(persistentProperty.isEntity()) {
+					linked.add(persistentProperty);
+				}
+			}
+		});
+		persistentEntity.doWithAssociations(new AssociationHandler() {
+			@Override public void doWithAssociation(Association association) {
+				linked.add(association.getInverse());
+			}
+		});
+		for(PersistentProperty<?> persistentProperty : linked) {
+			ResourceMapping propertyMapping = entityMapping.getResourceMappingFor(persistentProperty.getName());
+			if((null != propertyMapping && !propertyMapping.isExported())
+					|| !isLinkedAssociation(repositories, config, persistentProperty)) {
+				continue;
+			}
+			String propertyPath = (null != propertyMapping && null != propertyMapping.getPath()
+			                       ? propertyMapping.getPath()
+			                       : persistentProperty.getName());
+			templates.add(new Link(entityHref + "/" + propertyPath, formatRel(config, repoInfo, persistentProperty)));
+		}
+		return templates;
+	}
+
 	@SuppressWarnings({"unchecked"})
 	@Override public void afterPropertiesSet() throws Exception {
 		for(Class<?> domainType : repositories) {
@@ -122,7 +238,8 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 
 	private class ResourceDeserializer<T extends Object> extends StdDeserializer<T> {
 
-		private final PersistentEntity persistentEntity;
+		private final    PersistentEntity    persistentEntity;
+		private volatile DeserializationPlan plan;
 
 		@SuppressWarnings({"unchecked"})
 		private ResourceDeserializer(final PersistentEntity persistentEntity) {
@@ -134,129 +251,253 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 		@Override public T deserialize(JsonParser jp,
 		                               DeserializationContext ctxt) throws IOException,
 		                                                                   JsonProcessingException {
-			Object entity = instantiateClass(getValueClass());
+			DeserializationPlan plan = getPlan();
+			return (T)readInto(jp, ctxt, plan, plan.instantiate(), false);
+		}
+
+		/**
+		 * Apply the JSON document to an existing entity, as done by {@link ObjectMapper#readerForUpdating(Object)}. This
+		 * follows JSON Merge Patch: only the properties present in the document are touched, {@literal null} clears a
+		 * property, nested objects and maps are merged recursively and arrays replace the current collection contents.
+		 */
+		@SuppressWarnings({"unchecked"})
+		@Override public T deserialize(JsonParser jp,
+		                               DeserializationContext ctxt,
+		                               T intoValue) throws IOException,
+		                                                   JsonProcessingException {
+			return (T)readInto(jp, ctxt, getPlan(), intoValue, true);
+		}
+
+		/**
+		 * The plan is created on first use rather than up front so it picks up the {@link ResourceMapping}s configured
+		 * after the module has been initialized.
+		 */
+		private DeserializationPlan getPlan() {
+			DeserializationPlan plan = this.plan;
+			if(null == plan) {
+				plan = new DeserializationPlan(persistentEntity,
+				                               config.getResourceMappingForDomainType(getValueClass()));
+				this.plan = plan;
+			}
+			return plan;
+		}
+
+		@SuppressWarnings({"unchecked"})
+		private Object readInto(JsonParser jp,
+		                        DeserializationContext ctxt,
+		                        DeserializationPlan plan,
+		                        Object entity,
+		                        boolean update) throws IOException {
 			BeanWrapper wrapper = BeanWrapper.create(entity, conversionService);
-			ResourceMapping domainMapping = config.getResourceMappingForDomainType(getValueClass());
 
 			for(JsonToken tok = jp.nextToken(); tok != JsonToken.END_OBJECT; tok = jp.nextToken()) {
+				if(tok != JsonToken.FIELD_NAME) {
+					continue;
+				}
 				String name = jp.getCurrentName();
-				switch(tok) {
-					case FIELD_NAME: {
-						if("href".equals(name)) {
-							URI uri = URI.create(jp.nextTextValue());
-							TypeDescriptor entityType = TypeDescriptor.forObject(entity);
-							if(uriDomainClassConverter.matches(URI_TYPE, entityType)) {
-								entity = uriDomainClassConverter.convert(uri, URI_TYPE, entityType);
-							}
 
-							continue;
+				if("href".equals(name)) {
+					URI uri = URI.create(jp.nextTextValue());
+					if(update) {
+						// Never swap the entity being updated for another one
+						continue;
+					}
+					TypeDescriptor entityType = TypeDescriptor.forObject(entity);
+					if(uriDomainClassConverter.matches(URI_TYPE, entityType)) {
+						entity = uriDomainClassConverter.convert(uri, URI_TYPE, entityType);
+						if(null != entity) {
+							wrapper = BeanWrapper.create(entity, conversionService);
 						}
+					}
+					continue;
+				}
 
-						if("rel".equals(name)) {
-							// rel is currently ignored
-							continue;
-						}
+				if("rel".equals(name)) {
+					// rel is currently ignored
+					jp.nextToken();
+					jp.skipChildren();
+					continue;
+				}
 
-						PersistentProperty persistentProperty = persistentEntity.getPersistentProperty(name);
-						if(null == persistentProperty) {
-							String errMsg = "Property '" + name + "' not found for entity " + getValueClass().getName();
-							if(null == domainMapping) {
-								throw new HttpMessageNotReadableException(errMsg);
-							}
-							String propertyName = domainMapping.getNameForPath(name);
-							if(null == propertyName) {
-								throw new HttpMessageNotReadableException(errMsg);
-							}
-							persistentProperty = persistentEntity.getPersistentProperty(propertyName);
-							if(null == persistentProperty) {
-								throw new HttpMessageNotReadableException(errMsg);
-							}
-						}
+				if("links".equals(name)) {
+					if((tok = jp.nextToken()) == JsonToken.START_ARRAY) {
+						jp.skipChildren();
+					} else if(tok != JsonToken.VALUE_NULL) {
+						throw new HttpMessageNotReadableException(
+								"Property 'links' is not of array type. Either eliminate this property from the document or make it an array.");
+					}
+					continue;
+				}
 
-						Object val = null;
+				PropertyPlan property = plan.getProperty(name);
+				if(null == property) {
+					throw new HttpMessageNotReadableException("Property '" + name + "' not found for entity " + getValueClass().getName());
+				}
+				PersistentProperty persistentProperty = property.persistentProperty;
 
-						if("links".equals(name)) {
-							if((tok = jp.nextToken()) == JsonToken.START_ARRAY) {
-								while((tok = jp.nextToken()) != JsonToken.END_ARRAY) {
-									// Advance past the links
-								}
-							} else if(tok == JsonToken.VALUE_NULL) {
-								// skip null value
-							} else {
-								throw new HttpMessageNotReadableException(
-										"Property 'links' is not of array type. Either eliminate this property from the document or make it an array.");
-							}
-							continue;
+				if(update && persistentProperty.isIdProperty()) {
+					// The id of the entity being updated is given by its URI
+					jp.nextToken();
+					jp.skipChildren();
+					continue;
+				}
+
+				// Try and read the value of this attribute.
+				// The method of doing that varies based on the type of the property.
+				Object val = null;
+				tok = jp.nextToken();
+				if(persistentProperty.isCollectionLike()) {
+					if(tok == JsonToken.START_ARRAY) {
+						Class<? extends Collection> ctype = (Class<? extends Collection>)persistentProperty.getType();
+						Collection c = (Collection)wrapper.getProperty(persistentProperty, ctype, false);
+						if(null == c || c == Collections.EMPTY_LIST || c == Collections.EMPTY_SET) {
+							c = (Set.class.isAssignableFrom(ctype) ? new HashSet() : new ArrayList());
+						} else if(update) {
+							// An array replaces the current contents
+							c.clear();
 						}
 
-						if(null == persistentProperty) {
-							// do nothing
-							continue;
+						JsonDeserializer<Object> deser = property.getValueDeserializer(ctxt);
+						while((tok = jp.nextToken()) != JsonToken.END_ARRAY) {
+							c.add(readValue(jp, ctxt, tok, deser));
+						}
+						val = c;
+					} else if(tok != JsonToken.VALUE_NULL) {
+						throw new HttpMessageNotReadableException("Cannot read a JSON " + tok + " as a Collection.");
+					}
+				} else if(persistentProperty.isMap()) {
+					if(tok == JsonToken.START_OBJECT) {
+						Class<? extends Map> mtype = (Class<? extends Map>)persistentProperty.getType();
+						Map m = (Map)wrapper.getProperty(persistentProperty, mtype, false);
+						if(null == m || m == Collections.EMPTY_MAP) {
+							m = new HashMap();
 						}
 
-						// Try and read the value of this attribute.
-						// The method of doing that varies based on the type of the property.
-						if(persistentProperty.isCollectionLike()) {
-							Class<? extends Collection> ctype = (Class<? extends Collection>)persistentProperty.getType();
-							Collection c = (Collection)wrapper.getProperty(persistentProperty, ctype, false);
-							if(null == c || c == Collections.EMPTY_LIST || c == Collections.EMPTY_SET) {
-								if(Collection.class.isAssignableFrom(ctype)) {
-									c = new ArrayList();
-								} else if(Set.class.isAssignableFrom(ctype)) {
-									c = new HashSet();
-								}
+						JsonDeserializer<Object> deser = property.getValueDeserializer(ctxt);
+						while(jp.nextToken() != JsonToken.END_OBJECT) {
+							String key = jp.getCurrentName();
+							// TODO resolve domain object from URI
+							tok = jp.nextToken();
+							if(update && tok == JsonToken.VALUE_NULL) {
+								// null removes the key
+								m.remove(key);
+							} else {
+								m.put(key, readValue(jp, ctxt, tok, deser));
 							}
+						}
+						val = m;
+					} else if(tok != JsonToken.VALUE_NULL) {
+						throw new HttpMessageNotReadableException("Cannot read a JSON " + tok + " as a Map.");
+					}
+				} else if(tok == JsonToken.START_OBJECT
+						&& update
+						&& !property.managedType
+						&& jp.getCodec() instanceof ObjectMapper) {
+					Object current = wrapper.getProperty(persistentProperty);
+					val = (null != current
+					       ? ((ObjectMapper)jp.getCodec()).readerForUpdating(current).readValue(jp)
+					       : readValue(jp, ctxt, tok, property.getValueDeserializer(ctxt)));
+				} else if(tok != JsonToken.VALUE_NULL) {
+					val = readValue(jp, ctxt, tok, property.getValueDeserializer(ctxt));
+				}
 
-							if((tok = jp.nextToken()) == JsonToken.START_ARRAY) {
-								while((tok = jp.nextToken()) != JsonToken.END_ARRAY) {
-									Object cval = jp.readValueAs(persistentProperty.getComponentType());
-									c.add(cval);
-								}
+				wrapper.setProperty(persistentProperty, val, false);
+				PresentProperties.record(entity, persistentProperty);
+			}
 
-								val = c;
-							} else if(tok == JsonToken.VALUE_NULL) {
-								val = null;
-							} else {
-								throw new HttpMessageNotReadableException("Cannot read a JSON " + tok + " as a Collection.");
-							}
-						} else if(persistentProperty.isMap()) {
-							Class<? extends Map> mtype = (Class<? extends Map>)persistentProperty.getType();
-							Map m = (Map)wrapper.getProperty(persistentProperty, mtype, false);
-							if(null == m || m == Collections.EMPTY_MAP) {
-								m = new HashMap();
-							}
+			PresentProperties.track(entity);
+			return entity;
+		}
 
-							if((tok = jp.nextToken()) == JsonToken.START_OBJECT) {
-								do {
-									name = jp.getCurrentName();
-									// TODO resolve domain object from URI
-									tok = jp.nextToken();
-									Object mval = jp.readValueAs(persistentProperty.getMapValueType());
+		private Object readValue(JsonParser jp,
+		                         DeserializationContext ctxt,
+		                         JsonToken tok,
+		                         JsonDeserializer<Object> deser) throws IOException {
+			return (tok == JsonToken.VALUE_NULL ? deser.getNullValue() : deser.deserialize(jp, ctxt));
+		}
+	}
 
-									m.put(name, mval);
-								} while((tok = jp.nextToken()) != JsonToken.END_OBJECT);
+	/**
+	 * Everything {@link ResourceDeserializer} needs to know about an entity type, worked out once: how to create an
+	 * instance and which property a JSON field name, including the custom paths of its {@link ResourceMapping}, refers
+	 * to.
+	 */
+	private class DeserializationPlan {
 
-								val = m;
-							} else if(tok == JsonToken.VALUE_NULL) {
-								val = null;
-							} else {
-								throw new HttpMessageNotReadableException("Cannot read a JSON " + tok + " as a Map.");
-							}
-						} else {
-							if((tok = jp.nextToken()) != JsonToken.VALUE_NULL) {
-								val = jp.readValueAs(persistentProperty.getType());
-							}
-						}
+		private final Map<String, PropertyPlan> properties = new HashMap<String, PropertyPlan>();
+		private final Class<?>       type;
+		private final Constructor<?> constructor;
 
-						wrapper.setProperty(persistentProperty, val, false);
+		@SuppressWarnings({"unchecked"})
+		private DeserializationPlan(PersistentEntity persistentEntity, ResourceMapping domainMapping) {
+			this.type = persistentEntity.getType();
+			this.constructor = ClassUtils.getConstructorIfAvailable(type);
 
-						break;
+			persistentEntity.doWithProperties(new PropertyHandler() {
+				@Override public void doWithPersistentProperty(PersistentProperty persistentProperty) {
+					properties.put(persistentProperty.getName(), new PropertyPlan(persistentProperty));
+				}
+			});
+			persistentEntity.doWithAssociations(new AssociationHandler() {
+				@Override public void doWithAssociation(Association association) {
+					PersistentProperty persistentProperty = association.getInverse();
+					properties.put(persistentProperty.getName(), new PropertyPlan(persistentProperty));
+				}
+			});
+
+			if(null != domainMapping) {
+				for(Map.Entry<String, ResourceMapping> mapping : domainMapping.getResourceMappings().entrySet()) {
+					String path = mapping.getValue().getPath();
+					PropertyPlan property = properties.get(mapping.getKey());
+					if(null != path && null != property && !properties.containsKey(path)) {
+						properties.put(path, property);
 					}
 				}
 			}
+		}
+
+		private Object instantiate() {
+			return (null != constructor ? instantiateClass(constructor) : instantiateClass(type));
+		}
+
+		private PropertyPlan getProperty(String name) {
+			return properties.get(name);
+		}
+
+	}
+
+	/**
+	 * A property of a {@link DeserializationPlan}, caching the {@link JsonDeserializer} for its values (or elements, for
+	 * collections and maps).
+	 */
+	private class PropertyPlan {
+
+		private final    PersistentProperty       persistentProperty;
+		private final    Class<?>                 valueType;
+		private final    boolean                  managedType;
+		private volatile JsonDeserializer<Object> valueDeserializer;
+
+		private PropertyPlan(PersistentProperty persistentProperty) {
+			this.persistentProperty = persistentProperty;
+			if(persistentProperty.isCollectionLike()) {
+				this.valueType = persistentProperty.getComponentType();
+			} else if(persistentProperty.isMap()) {
+				this.valueType = persistentProperty.getMapValueType();
+			} else {
+				this.valueType = persistentProperty.getType();
+			}
+			this.managedType = repositories.hasRepositoryFor(persistentProperty.getType());
+		}
 
-			return (T)entity;
+		private JsonDeserializer<Object> getValueDeserializer(DeserializationContext ctxt) throws JsonMappingException {
+			JsonDeserializer<Object> deser = valueDeserializer;
+			if(null == deser) {
+				deser = ctxt.findRootValueDeserializer(ctxt.constructType(valueType));
+				valueDeserializer = deser;
+			}
+			return deser;
 		}
+
 	}
 
 	private class ResourceSerializer extends StdSerializer<PersistentEntityResource> {
@@ -285,9 +526,10 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 			final BeanWrapper wrapper = BeanWrapper.create(obj, conversionService);
 			final Object entityId = wrapper.getProperty(persistentEntity.getIdProperty());
 
-			final URI baseEntityUri = buildUri(resource.getBaseUri(),
-			                                   repoMapping.getPath(),
-			                                   entityId.toString());
+			final boolean templated = resource.isTemplated();
+			final URI baseEntityUri = (templated
+			                           ? null
+			                           : buildUri(resource.getBaseUri(), repoMapping.getPath(), entityId.toString()));
 
 			final List<Link> links = new ArrayList<Link>();
 			// Start with ResourceProcessor-added links
@@ -295,9 +537,15 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 
 			jgen.writeStartObject();
 			try {
+				if(templated) {
+					// The links are described by the templates of the collection, which only need the id
+					jgen.writeObjectField("id", entityId);
+				}
+
 				persistentEntity.doWithProperties(new PropertyHandler() {
 					@Override public void doWithPersistentProperty(PersistentProperty persistentProperty) {
-						if(persistentProperty.isIdProperty() && !config.isIdExposedFor(persistentEntity.getType())) {
+						if(persistentProperty.isIdProperty()
+								&& (templated || !config.isIdExposedFor(persistentEntity.getType()))) {
 							return;
 						}
 						ResourceMapping propertyMapping = entityMapping.getResourceMappingFor(persistentProperty.getName());
@@ -305,14 +553,17 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 							return;
 						}
 
-						if(persistentProperty.isEntity() && maybeAddAssociationLink(repositories,
-						                                                            config,
-						                                                            baseEntityUri,
-						                                                            repoInfo,
-						                                                            entityMapping,
-						                                                            propertyMapping,
-						                                                            persistentProperty,
-						                                                            links)) {
+						if(persistentProperty.isEntity()
+								&& (templated
+								    ? isLinkedAssociation(repositories, config, persistentProperty)
+								    : maybeAddAssociationLink(repositories,
+								                              config,
+								                              baseEntityUri,
+								                              repoInfo,
+								                              entityMapping,
+								                              propertyMapping,
+								                              persistentProperty,
+								                              links))) {
 							return;
 						}
 
@@ -335,14 +586,16 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 						if(null != propertyMapping && !propertyMapping.isExported()) {
 							return;
 						}
-						if(maybeAddAssociationLink(repositories,
-						                           config,
-						                           baseEntityUri,
-						                           repoInfo,
-						                           entityMapping,
-						                           propertyMapping,
-						                           persistentProperty,
-						                           links)) {
+						if(templated
+						   ? isLinkedAssociation(repositories, config, persistentProperty)
+						   : maybeAddAssociationLink(repositories,
+						                             config,
+						                             baseEntityUri,
+						                             repoInfo,
+						                             entityMapping,
+						                             propertyMapping,
+						                             persistentProperty,
+						                             links)) {
 							return;
 						}
 						// Association Link was not added, probably because this isn't a managed type. Add value of property inline.
@@ -355,11 +608,13 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 					}
 				});
 
-				jgen.writeArrayFieldStart("links");
-				for(Link l : links) {
-					jgen.writeObject(l);
+				if(!templated || !links.isEmpty()) {
+					jgen.writeArrayFieldStart("links");
+					for(Link l : links) {
+						jgen.writeObject(l);
+					}
+					jgen.writeEndArray();
 				}
-				jgen.writeEndArray();
 
 			} catch(IllegalStateException e) {
 				throw (IOException)e.getCause();
@@ -369,4 +624,63 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 		}
 	}
 
+	/**
+	 * Writes dates as timestamps, like Jackson does by default, or as ISO-8601 through {@link ISO8601DateConverter} if
+	 * {@link SerializationFeature#WRITE_DATES_AS_TIMESTAMPS} is disabled.
+	 */
+	private static class ISO8601DateSerializer extends StdSerializer<Date> {
+
+		private ISO8601DateSerializer() {
+			super(Date.class);
+		}
+
+		@Override public void serialize(Date date,
+		                                JsonGenerator jgen,
+		                                SerializerProvider provider) throws IOException,
+		                                                                    JsonGenerationException {
+			if(provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+				jgen.writeNumber(date.getTime());
+			} else {
+				jgen.writeString(ISO8601DateConverter.format(date));
+			}
+		}
+	}
+
+	/**
+	 * Reads dates from timestamps or ISO-8601 text through {@link ISO8601DateConverter}, so JSON bodies and query
+	 * parameters accept the same formats. Other text is left to the {@link DeserializationContext}'s date format.
+	 */
+	private static class ISO8601DateDeserializer extends StdDeserializer<Date> {
+
+		private ISO8601DateDeserializer() {
+			super(Date.class);
+		}
+
+		@Override public Date deserialize(JsonParser jp,
+		                                  DeserializationContext ctxt) throws IOException,
+		                                                                      JsonProcessingException {
+			JsonToken tok = jp.getCurrentToken();
+			if(tok == JsonToken.VALUE_NUMBER_INT) {
+				return new Date(jp.getLongValue());
+			}
+			if(tok != JsonToken.VALUE_STRING) {
+				throw ctxt.mappingException(Date.class, tok);
+			}
+
+			String text = jp.getText().trim();
+			if(text.length() == 0) {
+				return null;
+			}
+			try {
+				return ISO8601DateConverter.parse(text);
+			} catch(IllegalArgumentException notIso) {
+				try {
+					return ctxt.parseDate(text);
+				} catch(IllegalArgumentException e) {
+					throw ctxt.weirdStringException(text, Date.class, notIso.getMessage());
+				}
+			}
+		}
+	}
+
 }
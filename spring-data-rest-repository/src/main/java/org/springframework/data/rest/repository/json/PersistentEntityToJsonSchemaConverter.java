@@ -58,13 +58,30 @@ public class PersistentEntityToJsonSchemaConverter
     return (JsonSchema)convert(domainType, STRING_TYPE, SCHEMA_TYPE);
   }
 
-  @SuppressWarnings({"unchecked"})
   @Override public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
-    PersistentEntity persistentEntity = repositories.getPersistentEntity((Class<?>)source);
+    return convert((Class<?>)source, config.getBaseUri());
+  }
+
+  /**
+   * Create the schema of the given type of entity with the links of its associations relative to the given base URI,
+   * rather than to the configured one, which might not be set.
+   *
+   * @param domainType
+   *     The type of entity.
+   * @param baseUri
+   *     The base URI of the exporter.
+   *
+   * @return The schema.
+   */
+  @SuppressWarnings({"unchecked"})
+  public JsonSchema convert(Class<?> domainType, URI baseUri) {
+    PersistentEntity persistentEntity = repositories.getPersistentEntity(domainType);
     final RepositoryInformation repoInfo = repositories.getRepositoryInformationFor(persistentEntity.getType());
     final ResourceMapping repoMapping = getResourceMapping(config, repoInfo);
     final ResourceMapping entityMapping = getResourceMapping(config, persistentEntity);
-    final URI baseEntityUri = buildUri(config.getBaseUri(), repoMapping.getPath(), "{id}");
+    // Keep the id variable unencoded, the same way the link templates of TemplatedResources render it
+    String base = buildUri(baseUri, repoMapping.getPath()).toString();
+    final String baseEntityHref = (base.endsWith("/") ? base : base + "/") + "{id}";
     String entityDesc = persistentEntity.getType().isAnnotationPresent(Description.class)
                         ? ((Description)persistentEntity.getType().getAnnotation(Description.class)).value()
                         : null;
@@ -104,7 +121,7 @@ public class PersistentEntityToJsonSchemaConverter
         }
         maybeAddAssociationLink(repositories,
                                 config,
-                                baseEntityUri,
+                                baseEntityHref,
                                 repoInfo,
                                 entityMapping,
                                 propertyMapping,
@@ -0,0 +1,84 @@
+package org.springframework.data.rest.repository.json;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentProperty;
+
+/**
+ * Records, per entity instance, which {@link PersistentProperty}s were present in the JSON document the instance was
+ * read from. Recording only happens on the current thread between {@link #startTracking()} and {@link
+ * #stopTracking()}, so it costs nothing when nobody asks for it.
+ *
+ * @author Jon Brisbin
+ */
+public abstract class PresentProperties {
+
+	private static final ThreadLocal<Map<Object, Set<PersistentProperty<?>>>> TRACKED =
+			new ThreadLocal<Map<Object, Set<PersistentProperty<?>>>>();
+
+	private PresentProperties() {
+	}
+
+	/**
+	 * Start recording the properties read by the {@link PersistentEntityJackson2Module} on the current thread.
+	 */
+	public static void startTracking() {
+		TRACKED.set(new IdentityHashMap<Object, Set<PersistentProperty<?>>>());
+	}
+
+	/**
+	 * Stop recording and forget what has been recorded so far.
+	 */
+	public static void stopTracking() {
+		TRACKED.remove();
+	}
+
+	/**
+	 * Get the properties present in the JSON the given entity was read from since tracking started.
+	 *
+	 * @param entity
+	 * 		The entity instance created by the deserializer.
+	 *
+	 * @return The properties in document order or {@literal null} if nothing was recorded for the entity.
+	 */
+	public static Set<PersistentProperty<?>> getPresentProperties(Object entity) {
+		Map<Object, Set<PersistentProperty<?>>> tracked = TRACKED.get();
+		if(null == tracked) {
+			return null;
+		}
+		Set<PersistentProperty<?>> properties = tracked.get(entity);
+		return (null != properties ? Collections.unmodifiableSet(properties) : null);
+	}
+
+	/**
+	 * Start recording for the given entity, so it reports an empty set rather than {@literal null} when the document
+	 * had no properties.
+	 */
+	static void track(Object entity) {
+		Map<Object, Set<PersistentProperty<?>>> tracked = TRACKED.get();
+		if(null != tracked && null != entity && !tracked.containsKey(entity)) {
+			tracked.put(entity, new LinkedHashSet<PersistentProperty<?>>());
+		}
+	}
+
+	/**
+	 * Record the given property as present for the entity.
+	 */
+	static void record(Object entity, PersistentProperty<?> property) {
+		Map<Object, Set<PersistentProperty<?>>> tracked = TRACKED.get();
+		if(null == tracked) {
+			return;
+		}
+		Set<PersistentProperty<?>> properties = tracked.get(entity);
+		if(null == properties) {
+			properties = new LinkedHashSet<PersistentProperty<?>>();
+			tracked.put(entity, properties);
+		}
+		properties.add(property);
+	}
+
+}
@@ -9,6 +9,7 @@ import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.util.ObjectUtils;
 
 /**
  * @author Jon Brisbin
@@ -53,5 +54,33 @@ public class DomainObjectMerger {
     });
   }
 
+  /**
+   * Copy only the given properties from one object to the other. Unlike {@link #merge(Object, Object)}, {@literal null}
+   * values are copied as well, since a property present in the request with a {@literal null} value is meant to be
+   * cleared.
+   *
+   * @param from
+   *     The object to copy the values from.
+   * @param target
+   *     The object to copy the values to.
+   * @param properties
+   *     The properties to copy.
+   */
+  public void merge(Object from, Object target, Iterable<? extends PersistentProperty<?>> properties) {
+    if(null == from || null == target) {
+      return;
+    }
+    BeanWrapper fromWrapper = BeanWrapper.create(from, conversionService);
+    BeanWrapper targetWrapper = BeanWrapper.create(target, conversionService);
+    for(PersistentProperty<?> persistentProperty : properties) {
+      if(persistentProperty.isIdProperty()) {
+        continue;
+      }
+      Object fromVal = fromWrapper.getProperty(persistentProperty);
+      if(!ObjectUtils.nullSafeEquals(fromVal, targetWrapper.getProperty(persistentProperty))) {
+        targetWrapper.setProperty(persistentProperty, fromVal);
+      }
+    }
+  }
 
 }
@@ -0,0 +1,251 @@
+package org.springframework.data.rest.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.EntityType;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+/**
+ * Lists the ids of JPA entities without loading the entities themselves: the queries only select the id attribute, so
+ * listing all entities of a type costs about as much as scanning the primary key index. Used to render listings that
+ * only consist of links, like {@literal text/uri-list}.
+ * <p/>
+ * As the queries bypass the repository, they are only run for repositories that read entities with the stock {@link
+ * SimpleJpaRepository} implementation (see {@link #supports(RepositoryInformation)}). A repository that redeclares
+ * {@literal findAll}, {@literal findOne} or {@literal count} (to restrict, secure or otherwise customize them), that
+ * implements them in a custom implementation or that uses another base class is always read through its methods.
+ *
+ * @author Jon Brisbin
+ */
+public class JpaIdQueries implements BeanFactoryAware {
+
+	private static final IdQuery     NOT_MANAGED      = new IdQuery(null, null);
+	private static final Set<String> BYPASSED_METHODS = new HashSet<String>(Arrays.asList("findAll", "findOne", "count"));
+
+	private final List<EntityManagerFactory>       entityManagerFactories = new ArrayList<EntityManagerFactory>();
+	private final ConcurrentMap<Class<?>, IdQuery> idQueries              = new ConcurrentHashMap<Class<?>, IdQuery>();
+	private final ConcurrentMap<Class<?>, Boolean> stockRepositories      = new ConcurrentHashMap<Class<?>, Boolean>();
+
+	@Override public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		if(!(beanFactory instanceof ListableBeanFactory)) {
+			return;
+		}
+		entityManagerFactories.addAll(BeanFactoryUtils.beansOfTypeIncludingAncestors((ListableBeanFactory)beanFactory,
+		                                                                              EntityManagerFactory.class)
+		                                              .values());
+	}
+
+	/**
+	 * Whether the ids of the given type of entity can be listed.
+	 *
+	 * @param domainType
+	 * 		The type of entity.
+	 *
+	 * @return {@literal true} if the type is a JPA entity with a single id attribute.
+	 */
+	public boolean supports(Class<?> domainType) {
+		return NOT_MANAGED != getIdQuery(domainType);
+	}
+
+	/**
+	 * Whether the ids of the entities managed by the given repository can be listed (and their attributes looked up)
+	 * instead of calling the repository's {@literal findAll} and {@literal findOne} methods.
+	 *
+	 * @param repoInfo
+	 * 		The repository.
+	 *
+	 * @return {@literal true} if the domain type is {@link #supports(Class) supported} and the repository reads entities
+	 *         with the stock {@link SimpleJpaRepository} implementation.
+	 */
+	public boolean supports(RepositoryInformation repoInfo) {
+		if(!supports(repoInfo.getDomainType())) {
+			return false;
+		}
+		Boolean stock = stockRepositories.get(repoInfo.getRepositoryInterface());
+		if(null == stock) {
+			stock = isStockRepository(repoInfo);
+			stockRepositories.put(repoInfo.getRepositoryInterface(), stock);
+		}
+		return stock;
+	}
+
+	/**
+	 * List the ids of all entities of the given type.
+	 *
+	 * @param domainType
+	 * 		The type of entity.
+	 * @param sort
+	 * 		The order to list the ids in, may be {@literal null}.
+	 *
+	 * @return The ids.
+	 */
+	public List<Object> findAllIds(Class<?> domainType, Sort sort) {
+		IdQuery idQuery = getSupportedIdQuery(domainType);
+		return idQuery.createQuery(domainType, sort).getResultList();
+	}
+
+	/**
+	 * List the ids of one page of the entities of the given type.
+	 *
+	 * @param domainType
+	 * 		The type of entity.
+	 * @param pageable
+	 * 		The page to list.
+	 *
+	 * @return The page of ids.
+	 */
+	public Page<Object> findAllIds(Class<?> domainType, Pageable pageable) {
+		IdQuery idQuery = getSupportedIdQuery(domainType);
+		TypedQuery<Object> query = idQuery.createQuery(domainType, pageable.getSort());
+		query.setFirstResult(pageable.getOffset());
+		query.setMaxResults(pageable.getPageSize());
+		List<Object> ids = query.getResultList();
+
+		long total;
+		if(pageable.getOffset() == 0 && ids.size() < pageable.getPageSize()) {
+			total = ids.size();
+		} else {
+			total = idQuery.count(domainType);
+		}
+		return new PageImpl<Object>((ids.isEmpty() ? Collections.emptyList() : ids), pageable, total);
+	}
+
+	/**
+	 * Look up only the value of one attribute, like the version, of the entity with the given id.
+	 *
+	 * @param domainType
+	 * 		The type of entity.
+	 * @param id
+	 * 		The id of the entity.
+	 * @param attribute
+	 * 		The name of the attribute.
+	 *
+	 * @return A list holding the value of the attribute or an empty list if there is no entity with that id.
+	 */
+	public List<Object> findAttribute(Class<?> domainType, Object id, String attribute) {
+		IdQuery idQuery = getSupportedIdQuery(domainType);
+		return idQuery.createAttributeQuery(domainType, id, attribute).setMaxResults(1).getResultList();
+	}
+
+	private IdQuery getSupportedIdQuery(Class<?> domainType) {
+		IdQuery idQuery = getIdQuery(domainType);
+		if(NOT_MANAGED == idQuery) {
+			throw new IllegalArgumentException(domainType + " is not a JPA entity with a single id attribute.");
+		}
+		return idQuery;
+	}
+
+	private IdQuery getIdQuery(Class<?> domainType) {
+		IdQuery idQuery = idQueries.get(domainType);
+		if(null == idQuery) {
+			idQuery = NOT_MANAGED;
+			for(EntityManagerFactory emf : entityManagerFactories) {
+				EntityType<?> entityType = findEntityType(emf, domainType);
+				if(null != entityType) {
+					if(entityType.hasSingleIdAttribute()) {
+						idQuery = new IdQuery(SharedEntityManagerCreator.createSharedEntityManager(emf),
+						                      entityType.getId(entityType.getIdType().getJavaType()).getName());
+					}
+					break;
+				}
+			}
+			idQueries.put(domainType, idQuery);
+		}
+		return idQuery;
+	}
+
+	private static boolean isStockRepository(RepositoryInformation repoInfo) {
+		if(SimpleJpaRepository.class != repoInfo.getRepositoryBaseClass()) {
+			return false;
+		}
+		for(Method method : repoInfo.getRepositoryInterface().getMethods()) {
+			if(!BYPASSED_METHODS.contains(method.getName())) {
+				continue;
+			}
+			// Redeclared in the application's repository interface, possibly with @Query, @PreAuthorize and the like
+			if(!method.getDeclaringClass().isAssignableFrom(SimpleJpaRepository.class)) {
+				return false;
+			}
+			if(repoInfo.isCustomMethod(method) || repoInfo.isQueryMethod(method)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static EntityType<?> findEntityType(EntityManagerFactory emf, Class<?> domainType) {
+		try {
+			return emf.getMetamodel().entity(domainType);
+		} catch(IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The transactional {@link EntityManager} to run the id queries of one type of entity with and the name of its id
+	 * attribute.
+	 */
+	private static class IdQuery {
+		final EntityManager entityManager;
+		final String        idAttribute;
+
+		IdQuery(EntityManager entityManager, String idAttribute) {
+			this.entityManager = entityManager;
+			this.idAttribute = idAttribute;
+		}
+
+		@SuppressWarnings({"unchecked"})
+		TypedQuery<Object> createQuery(Class<?> domainType, Sort sort) {
+			CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			CriteriaQuery<Object> query = cb.createQuery(Object.class);
+			Root<?> root = query.from(domainType);
+			query.select(root.get(idAttribute));
+			if(null != sort) {
+				query.orderBy(QueryUtils.toOrders(sort, root, cb));
+			}
+			return entityManager.createQuery(query);
+		}
+
+		TypedQuery<Object> createAttributeQuery(Class<?> domainType, Object id, String attribute) {
+			CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			CriteriaQuery<Object> query = cb.createQuery(Object.class);
+			Root<?> root = query.from(domainType);
+			query.select(root.get(attribute)).where(cb.equal(root.get(idAttribute), id));
+			return entityManager.createQuery(query);
+		}
+
+		long count(Class<?> domainType) {
+			CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			CriteriaQuery<Long> query = cb.createQuery(Long.class);
+			query.select(cb.count(query.from(domainType)));
+			return entityManager.createQuery(query).getSingleResult();
+		}
+	}
+
+}
@@ -0,0 +1,123 @@
+package org.springframework.data.rest.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.ValidationMode;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Determines whether the JPA provider validates entities of a given domain type with JSR-303 Bean Validation when they
+ * are persisted or updated. That is the case if the {@literal javax.persistence.validation.mode} of the {@link
+ * EntityManagerFactory} managing the type is {@literal CALLBACK}, or if it is {@literal AUTO} (the default) and a Bean
+ * Validation provider is available.
+ *
+ * @author Jon Brisbin
+ */
+public class JpaValidationSupport implements BeanFactoryAware {
+
+	private static final String  VALIDATION_MODE_PROPERTY = "javax.persistence.validation.mode";
+	private static final boolean IS_VALIDATION_AVAILABLE  = ClassUtils.isPresent(
+			"javax.validation.Validation",
+			JpaValidationSupport.class.getClassLoader()
+	);
+
+	private final List<EntityManagerFactory>      entityManagerFactories = new ArrayList<EntityManagerFactory>();
+	private final ConcurrentMap<Class<?>, Boolean> validatesOnWrite       = new ConcurrentHashMap<Class<?>, Boolean>();
+	private volatile Boolean providerAvailable;
+
+	@Override public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		if(!(beanFactory instanceof ListableBeanFactory)) {
+			return;
+		}
+		entityManagerFactories.addAll(BeanFactoryUtils.beansOfTypeIncludingAncestors((ListableBeanFactory)beanFactory,
+		                                                                              EntityManagerFactory.class)
+		                                              .values());
+	}
+
+	/**
+	 * Whether the JPA provider validates entities of the given type when they are persisted or updated.
+	 *
+	 * @param domainType
+	 * 		The type of entity.
+	 *
+	 * @return {@literal true} if the provider validates the entity on write.
+	 */
+	public boolean validatesOnWrite(Class<?> domainType) {
+		Boolean validates = validatesOnWrite.get(domainType);
+		if(null == validates) {
+			validates = false;
+			for(EntityManagerFactory emf : entityManagerFactories) {
+				if(isManaged(emf, domainType)) {
+					validates = validates(getValidationMode(emf));
+					break;
+				}
+			}
+			validatesOnWrite.put(domainType, validates);
+		}
+		return validates;
+	}
+
+	private boolean validates(ValidationMode mode) {
+		switch(mode) {
+			case CALLBACK:
+				return true;
+			case NONE:
+				return false;
+			default:
+				return isProviderAvailable();
+		}
+	}
+
+	private boolean isProviderAvailable() {
+		if(null == providerAvailable) {
+			providerAvailable = IS_VALIDATION_AVAILABLE && BeanValidationProvider.isAvailable();
+		}
+		return providerAvailable;
+	}
+
+	private static boolean isManaged(EntityManagerFactory emf, Class<?> domainType) {
+		try {
+			return null != emf.getMetamodel().managedType(domainType);
+		} catch(IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	private static ValidationMode getValidationMode(EntityManagerFactory emf) {
+		Object mode = emf.getProperties().get(VALIDATION_MODE_PROPERTY);
+		if(mode instanceof ValidationMode) {
+			return (ValidationMode)mode;
+		}
+		if(null != mode) {
+			try {
+				return ValidationMode.valueOf(mode.toString().trim().toUpperCase());
+			} catch(IllegalArgumentException ignored) {
+			}
+		}
+		return ValidationMode.AUTO;
+	}
+
+	/**
+	 * Isolates the references to the Bean Validation API so this class can be loaded without it.
+	 */
+	private static class BeanValidationProvider {
+		static boolean isAvailable() {
+			try {
+				javax.validation.Validation.byDefaultProvider().configure();
+				return true;
+			} catch(javax.validation.ValidationException e) {
+				return false;
+			}
+		}
+	}
+
+}
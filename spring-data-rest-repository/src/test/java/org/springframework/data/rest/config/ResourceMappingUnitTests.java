@@ -60,4 +60,33 @@ public class ResourceMappingUnitTests {
     assertThat(mapping.isExported(), is(true));
   }
 
+  @Test
+  public void shouldResolveNamesForPaths() throws Exception {
+    ResourceMapping mapping = new ResourceMapping("people", "people");
+    mapping.addResourceMappingFor("firstName").setPath("first");
+    mapping.addResourceMappingFor("lastName");
+
+    assertThat(mapping.getNameForPath("first"), is("firstName"));
+    assertThat(mapping.getNameForPath("unknown"), is("unknown"));
+    assertThat(mapping.getPathForName("firstName"), is("first"));
+    assertThat(mapping.getPathForName("lastName"), is("lastName"));
+
+    mapping.getResourceMappingFor("lastName").setPath("last");
+    assertThat(mapping.getNameForPath("last"), is("lastName"));
+    assertThat(mapping.getPathForName("lastName"), is("last"));
+  }
+
+  @Test
+  public void shouldFindTypeForPath() throws Exception {
+    ResourceMappingConfiguration config = new ResourceMappingConfiguration();
+    config.setResourceMappingFor(PersonRepository.class).setPath("people");
+
+    assertThat(config.findTypeForPath("people"), is(typeCompatibleWith(PersonRepository.class)));
+    assertThat(config.findTypeForPath("persons"), is(nullValue()));
+
+    config.getResourceMappingFor(PersonRepository.class).setPath("persons");
+    assertThat(config.findTypeForPath("persons"), is(typeCompatibleWith(PersonRepository.class)));
+    assertThat(config.findTypeForPath("people"), is(nullValue()));
+  }
+
 }
@@ -0,0 +1,48 @@
+package org.springframework.data.rest.repository;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.net.URI;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+
+/**
+ * Tests to verify {@link BaseUriAwareResource} resolves relative links against its base URI.
+ *
+ * @author Jon Brisbin
+ */
+public class BaseUriAwareResourceUnitTests {
+
+  @Test
+  public void shouldResolveRelativeLinksOnce() throws Exception {
+    BaseUriAwareResource<String> resource = new BaseUriAwareResource<String>("content",
+                                                                             new Link("people/1", "self"),
+                                                                             new Link("http://example.com/x", "other"))
+        .setBaseUri(URI.create("http://localhost:8080/data"));
+
+    List<Link> links = resource.getLinks();
+    assertThat(links.get(0).getHref(), is("http://localhost:8080/data/people/1"));
+    assertThat(links.get(1).getHref(), is("http://example.com/x"));
+    assertThat(resource.getLinks(), is(sameInstance(links)));
+    assertThat(resource.getLink("self"), is(sameInstance(links.get(0))));
+  }
+
+  @Test
+  public void shouldResolveLinksAgainAfterChanges() throws Exception {
+    BaseUriAwareResource<String> resource = new BaseUriAwareResource<String>("content", new Link("/people/1", "self"))
+        .setBaseUri(URI.create("http://localhost:8080/data/"));
+    List<Link> links = resource.getLinks();
+    assertThat(links.get(0).getHref(), is("http://localhost:8080/data/people/1"));
+
+    resource.add(new Link("people/1/siblings", "siblings"));
+    assertThat(resource.getLinks(), hasSize(2));
+    assertThat(resource.getLink("siblings").getHref(), is("http://localhost:8080/data/people/1/siblings"));
+
+    resource.setBaseUri(URI.create("http://example.com"));
+    assertThat(resource.getLink("self").getHref(), is("http://example.com/people/1"));
+  }
+
+}
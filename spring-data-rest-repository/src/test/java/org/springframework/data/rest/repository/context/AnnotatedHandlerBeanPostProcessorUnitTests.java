@@ -0,0 +1,88 @@
+package org.springframework.data.rest.repository.context;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.repository.annotation.HandleAfterLinkDelete;
+import org.springframework.data.rest.repository.annotation.HandleBeforeSave;
+import org.springframework.data.rest.repository.annotation.RepositoryEventHandler;
+import org.springframework.data.rest.repository.domain.jpa.Person;
+
+/**
+ * Tests to verify the dispatching of {@link RepositoryEvent}s to annotated handler methods.
+ *
+ * @author Jon Brisbin
+ */
+public class AnnotatedHandlerBeanPostProcessorUnitTests {
+
+  AnnotatedHandlerBeanPostProcessor postProcessor;
+  PersonHandler                     handler;
+
+  @Before
+  public void setup() {
+    postProcessor = new AnnotatedHandlerBeanPostProcessor();
+    handler = new PersonHandler();
+    postProcessor.postProcessAfterInitialization(handler, "personHandler");
+  }
+
+  @Test
+  public void shouldDispatchToHandlerForSourceType() throws Exception {
+    Person person = new Person("Jane", "Doe");
+    postProcessor.onApplicationEvent(new BeforeSaveEvent(person));
+
+    assertThat(handler.invocations, hasSize(1));
+    assertThat(handler.invocations.get(0), is((Object)person));
+  }
+
+  @Test
+  public void shouldNotDispatchToHandlerForOtherSourceType() throws Exception {
+    postProcessor.onApplicationEvent(new BeforeSaveEvent("Jane"));
+    postProcessor.onApplicationEvent(new AfterSaveEvent(new Person("Jane", "Doe")));
+
+    assertThat(handler.invocations, is(empty()));
+  }
+
+  @Test
+  public void shouldPassLinkedObjectForLinkDelete() throws Exception {
+    Person person = new Person("Jane", "Doe");
+    Object linked = new Object();
+    postProcessor.onApplicationEvent(new AfterLinkDeleteEvent(person, linked));
+
+    assertThat(handler.invocations, hasSize(2));
+    assertThat(handler.invocations.get(1), is(linked));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectHandlerMethodsNotAcceptingTheEntity() throws Exception {
+    postProcessor.postProcessAfterInitialization(new ParameterlessHandler(), "parameterlessHandler");
+  }
+
+  @RepositoryEventHandler(Person.class)
+  static class PersonHandler {
+    final List<Object> invocations = new ArrayList<Object>();
+
+    @HandleBeforeSave
+    public void handleBeforeSave(Person p) {
+      invocations.add(p);
+    }
+
+    @HandleAfterLinkDelete
+    public void handleAfterLinkDelete(Person p, Object linked) {
+      invocations.add(p);
+      invocations.add(linked);
+    }
+  }
+
+  @RepositoryEventHandler(Person.class)
+  static class ParameterlessHandler {
+    @HandleBeforeSave
+    public void handleBeforeSave() {
+    }
+  }
+
+}
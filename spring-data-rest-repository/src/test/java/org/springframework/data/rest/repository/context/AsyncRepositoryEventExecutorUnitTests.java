@@ -0,0 +1,129 @@
+package org.springframework.data.rest.repository.context;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.data.rest.repository.context.AsyncRepositoryEventExecutor.RejectionPolicy;
+
+/**
+ * Tests to verify ordering and back-pressure handling of the {@link AsyncRepositoryEventExecutor}.
+ *
+ * @author Jon Brisbin
+ */
+public class AsyncRepositoryEventExecutorUnitTests {
+
+  AsyncRepositoryEventExecutor executor;
+
+  @After
+  public void teardown() throws Exception {
+    executor.destroy();
+  }
+
+  @Test
+  public void shouldExecuteTasksWithSameKeyInOrder() throws Exception {
+    executor = new AsyncRepositoryEventExecutor(4, 100, RejectionPolicy.BLOCK);
+    final List<Integer> executed = Collections.synchronizedList(new ArrayList<Integer>());
+    final CountDownLatch latch = new CountDownLatch(50);
+
+    for(int i = 0; i < 50; i++) {
+      final int value = i;
+      executor.execute("person/1", new Runnable() {
+        @Override public void run() {
+          executed.add(value);
+          latch.countDown();
+        }
+      });
+    }
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+    for(int i = 0; i < 50; i++) {
+      assertThat(executed.get(i), is(i));
+    }
+    assertThat(executor.getSubmittedCount(), is(50L));
+  }
+
+  @Test
+  public void shouldDiscardTasksIfQueueIsFull() throws Exception {
+    executor = new AsyncRepositoryEventExecutor(1, 1, RejectionPolicy.DISCARD);
+    CountDownLatch release = block(executor);
+
+    executor.execute("key", new NoopTask());
+    executor.execute("key", new NoopTask());
+    release.countDown();
+
+    assertThat(executor.getRejectedCount(), is(1L));
+  }
+
+  @Test(expected = RejectedExecutionException.class)
+  public void shouldRejectTasksIfQueueIsFull() throws Exception {
+    executor = new AsyncRepositoryEventExecutor(1, 1, RejectionPolicy.ABORT);
+    CountDownLatch release = block(executor);
+
+    try {
+      executor.execute("key", new NoopTask());
+      executor.execute("key", new NoopTask());
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void shouldRunTasksOnCallerIfQueueIsFull() throws Exception {
+    executor = new AsyncRepositoryEventExecutor(1, 1, RejectionPolicy.CALLER_RUNS);
+    CountDownLatch release = block(executor);
+
+    executor.execute("key", new NoopTask());
+    executor.execute("key", new NoopTask());
+    release.countDown();
+
+    assertThat(executor.getCallerRunsCount(), is(1L));
+  }
+
+  @Test
+  public void shouldCountFailedTasks() throws Exception {
+    executor = new AsyncRepositoryEventExecutor(1, 10, RejectionPolicy.BLOCK);
+    executor.execute("key", new Runnable() {
+      @Override public void run() {
+        throw new IllegalStateException();
+      }
+    });
+    executor.destroy();
+
+    assertThat(executor.getFailedCount(), is(1L));
+  }
+
+  /**
+   * Occupies the single lane thread of the executor until the returned latch is released.
+   */
+  private static CountDownLatch block(AsyncRepositoryEventExecutor executor) throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    executor.execute("key", new Runnable() {
+      @Override public void run() {
+        started.countDown();
+        try {
+          release.await();
+        } catch(InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    started.await();
+    return release;
+  }
+
+  static class NoopTask implements Runnable {
+    @Override public void run() {
+    }
+  }
+
+}
@@ -1,5 +1,8 @@
 package org.springframework.data.rest.repository.context;
 
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -23,6 +26,8 @@ public class RepositoryEventIntegrationTests {
 	ApplicationContext appCtx;
 	@Autowired
 	PersonRepository   people;
+	@Autowired
+	RepositoryEventMulticaster multicaster;
 	Person person;
 
 	@Before
@@ -80,4 +85,22 @@ public class RepositoryEventIntegrationTests {
 		appCtx.publishEvent(new AfterLinkDeleteEvent(person, new Object()));
 	}
 
+	@Test(expected = RuntimeException.class)
+	public void shouldDispatchBeforeSaveThroughMulticaster() throws Exception {
+		multicaster.publish(RepositoryEventType.BEFORE_SAVE, person);
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void shouldDispatchAfterLinkDeleteThroughMulticaster() throws Exception {
+		multicaster.publish(RepositoryEventType.AFTER_LINK_DELETE, person, new Object());
+	}
+
+	@Test
+	public void shouldNotDispatchToListenersOfOtherTypes() throws Exception {
+		assertThat(multicaster.hasListeners(RepositoryEventType.BEFORE_SAVE, Person.class), is(true));
+		assertThat(multicaster.hasListeners(RepositoryEventType.BEFORE_SAVE, String.class), is(false));
+
+		multicaster.publish(RepositoryEventType.BEFORE_SAVE, "Jane");
+	}
+
 }
@@ -0,0 +1,194 @@
+package org.springframework.data.rest.repository.context;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.data.rest.repository.annotation.HandleAsync;
+import org.springframework.data.rest.repository.context.AsyncRepositoryEventExecutor.RejectionPolicy;
+import org.springframework.data.rest.repository.domain.jpa.Person;
+
+/**
+ * Tests to verify the synchronous and asynchronous delivery of {@link RepositoryEvent}s through the {@link
+ * RepositoryEventMulticaster}.
+ *
+ * @author Jon Brisbin
+ */
+public class RepositoryEventMulticasterUnitTests {
+
+  StaticApplicationContext     appCtx;
+  AsyncRepositoryEventExecutor executor;
+  RepositoryEventMulticaster   multicaster;
+
+  @Before
+  public void setup() {
+    appCtx = new StaticApplicationContext();
+    appCtx.registerSingleton("asyncListener", AsyncPersonListener.class);
+    appCtx.registerSingleton("syncListener", SyncPersonListener.class);
+    appCtx.registerPrototype("prototypeListener", CountingPersonListener.class);
+    RootBeanDefinition lazyListener = new RootBeanDefinition(CountingClosedListener.class);
+    lazyListener.setLazyInit(true);
+    appCtx.registerBeanDefinition("lazyListener", lazyListener);
+    appCtx.refresh();
+
+    executor = new AsyncRepositoryEventExecutor(2, 10, RejectionPolicy.BLOCK);
+    multicaster = new RepositoryEventMulticaster();
+    multicaster.setApplicationContext(appCtx);
+    multicaster.setAsyncExecutor(executor);
+  }
+
+  @After
+  public void teardown() throws Exception {
+    executor.destroy();
+  }
+
+  @Test
+  public void shouldDeliverBeforeEventsSynchronously() throws Exception {
+    multicaster.publish(RepositoryEventType.BEFORE_SAVE, new Person("Jane", "Doe"));
+
+    AsyncPersonListener listener = appCtx.getBean(AsyncPersonListener.class);
+    assertThat(listener.threads, hasSize(1));
+    assertThat(listener.threads.get(0), is(Thread.currentThread()));
+  }
+
+  @Test
+  public void shouldDeliverAfterEventsAsynchronouslyIfRequested() throws Exception {
+    multicaster.publish(RepositoryEventType.AFTER_SAVE, new Person("Jane", "Doe"));
+
+    SyncPersonListener syncListener = appCtx.getBean(SyncPersonListener.class);
+    assertThat(syncListener.threads, hasSize(1));
+    assertThat(syncListener.threads.get(0), is(Thread.currentThread()));
+
+    AsyncPersonListener asyncListener = appCtx.getBean(AsyncPersonListener.class);
+    assertThat(asyncListener.delivered.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(asyncListener.threads.get(0), is(not(Thread.currentThread())));
+  }
+
+  @Test
+  public void shouldDeliverConfiguredEventTypesAsynchronously() throws Exception {
+    multicaster.setAsyncEventTypes(Arrays.asList(RepositoryEventType.AFTER_SAVE));
+    multicaster.publish(RepositoryEventType.AFTER_SAVE, new Person("Jane", "Doe"));
+    executor.destroy();
+
+    SyncPersonListener syncListener = appCtx.getBean(SyncPersonListener.class);
+    assertThat(syncListener.threads, hasSize(1));
+    assertThat(syncListener.threads.get(0), is(not(Thread.currentThread())));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectAsynchronousBeforeEvents() throws Exception {
+    multicaster.setAsyncEventTypes(Arrays.asList(RepositoryEventType.BEFORE_SAVE));
+  }
+
+  @Test
+  public void shouldNotInstantiateUninterestedOrPrototypeListeners() throws Exception {
+    CountingPersonListener.instances.set(0);
+    CountingClosedListener.instances.set(0);
+
+    multicaster.refresh();
+    multicaster.publish(RepositoryEventType.AFTER_SAVE, new Person("Jane", "Doe"));
+
+    assertThat(CountingPersonListener.instances.get(), is(0));
+    assertThat(CountingClosedListener.instances.get(), is(0));
+  }
+
+  @Test
+  public void shouldDeliverToPrototypeListenersOnEveryEvent() throws Exception {
+    RecordingPersonListener.saved.clear();
+    appCtx.registerPrototype("recordingListener", RecordingPersonListener.class);
+    multicaster.refresh();
+
+    Person jane = new Person("Jane", "Doe");
+    multicaster.publish(RepositoryEventType.BEFORE_SAVE, jane);
+    multicaster.publish(RepositoryEventType.BEFORE_SAVE, new Person("John", "Doe"));
+
+    assertThat(RecordingPersonListener.saved, hasSize(2));
+    assertThat(RecordingPersonListener.saved.get(0), is(sameInstance(jane)));
+  }
+
+  @Test
+  public void shouldDeliverToListenersOfParentContextsAndListenersAddedBeforeRefresh() throws Exception {
+    StaticApplicationContext parent = new StaticApplicationContext();
+    parent.registerSingleton("parentListener", SyncPersonListener.class);
+    SyncPersonListener addedToParent = new SyncPersonListener();
+    parent.addApplicationListener(addedToParent);
+    parent.refresh();
+
+    StaticApplicationContext child = new StaticApplicationContext(parent);
+    SyncPersonListener addedToChild = new SyncPersonListener();
+    child.addApplicationListener(addedToChild);
+    child.refresh();
+
+    RepositoryEventMulticaster childMulticaster = new RepositoryEventMulticaster();
+    childMulticaster.setApplicationContext(child);
+    childMulticaster.publish(RepositoryEventType.AFTER_SAVE, new Person("Jane", "Doe"));
+
+    assertThat(parent.getBean("parentListener", SyncPersonListener.class).threads, hasSize(1));
+    assertThat(addedToParent.threads, hasSize(1));
+    assertThat(addedToChild.threads, hasSize(1));
+  }
+
+  @HandleAsync
+  public static class AsyncPersonListener extends AbstractRepositoryEventListener<Person> {
+    final List<Thread>   threads   = new CopyOnWriteArrayList<Thread>();
+    final CountDownLatch delivered = new CountDownLatch(1);
+
+    @Override protected void onBeforeSave(Person entity) {
+      threads.add(Thread.currentThread());
+    }
+
+    @Override protected void onAfterSave(Person entity) {
+      threads.add(Thread.currentThread());
+      delivered.countDown();
+    }
+  }
+
+  public static class SyncPersonListener extends AbstractRepositoryEventListener<Person> {
+    final List<Thread> threads = new CopyOnWriteArrayList<Thread>();
+
+    @Override protected void onAfterSave(Person entity) {
+      threads.add(Thread.currentThread());
+    }
+  }
+
+  public static class RecordingPersonListener extends AbstractRepositoryEventListener<Person> {
+    static final List<Person> saved = new CopyOnWriteArrayList<Person>();
+
+    @Override protected void onBeforeSave(Person entity) {
+      saved.add(entity);
+    }
+  }
+
+  public static class CountingPersonListener extends AbstractRepositoryEventListener<Person> {
+    static final AtomicInteger instances = new AtomicInteger();
+
+    public CountingPersonListener() {
+      instances.incrementAndGet();
+    }
+  }
+
+  public static class CountingClosedListener implements ApplicationListener<ContextClosedEvent> {
+    static final AtomicInteger instances = new AtomicInteger();
+
+    public CountingClosedListener() {
+      instances.incrementAndGet();
+    }
+
+    @Override public void onApplicationEvent(ContextClosedEvent event) {
+    }
+  }
+
+}
@@ -26,4 +26,8 @@ public class RepositoryEventTestsConfig {
     return new AnnotatedHandlerBeanPostProcessor();
   }
 
+  @Bean public RepositoryEventMulticaster repositoryEventMulticaster() {
+    return new RepositoryEventMulticaster();
+  }
+
 }
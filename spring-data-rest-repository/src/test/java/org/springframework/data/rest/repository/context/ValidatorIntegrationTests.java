@@ -6,6 +6,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.rest.repository.RepositoryConstraintViolationException;
 import org.springframework.data.rest.repository.domain.jpa.Person;
+import org.springframework.data.rest.repository.domain.jpa.PersonNameValidator;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
@@ -19,11 +21,28 @@ import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 public class ValidatorIntegrationTests {
 
   @Autowired
-  ApplicationContext appCtx;
+  ApplicationContext                appCtx;
+  @Autowired
+  ValidatingRepositoryEventListener validatingListener;
 
   @Test(expected = RepositoryConstraintViolationException.class)
   public void shouldValidateLastName() throws Exception {
     appCtx.publishEvent(new BeforeSaveEvent(new Person()));
   }
 
+  @Test
+  public void shouldNotValidateTypesWithoutValidators() throws Exception {
+    appCtx.publishEvent(new BeforeSaveEvent("Jane Doe"));
+    appCtx.publishEvent(new AfterSaveEvent(new Person()));
+  }
+
+  @Test(expected = RepositoryConstraintViolationException.class)
+  @DirtiesContext
+  public void shouldPickUpValidatorsAddedLater() throws Exception {
+    appCtx.publishEvent(new BeforeDeleteEvent(new Person()));
+
+    validatingListener.addValidator("beforeDelete", new PersonNameValidator());
+    appCtx.publishEvent(new BeforeDeleteEvent(new Person()));
+  }
+
 }
@@ -0,0 +1,156 @@
+package org.springframework.data.rest.repository.invoke;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.repository.annotation.RestResource;
+import org.springframework.data.rest.repository.context.AfterSaveEvent;
+import org.springframework.data.rest.repository.domain.jpa.Person;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Tests to verify query method results are cached by argument values and evicted by repository events.
+ *
+ * @author Jon Brisbin
+ */
+public class QueryResultCacheUnitTests {
+
+  QueryResultCache cache;
+  RepositoryMethod cached;
+  RepositoryMethod uncached;
+  AtomicInteger    loads;
+  Callable<Object> loader;
+
+  @Before
+  public void setup() {
+    cache = new QueryResultCache();
+    cached = new RepositoryMethod(ReflectionUtils.findMethod(CachingPersonQueries.class,
+                                                             "findByLastName",
+                                                             String.class,
+                                                             Pageable.class));
+    uncached = new RepositoryMethod(ReflectionUtils.findMethod(CachingPersonQueries.class,
+                                                               "findByFirstName",
+                                                               String.class));
+    loads = new AtomicInteger();
+    loader = new Callable<Object>() {
+      @Override public Object call() throws Exception {
+        return loads.incrementAndGet();
+      }
+    };
+  }
+
+  @Test
+  public void shouldReadCacheSettingsFromAnnotation() throws Exception {
+    assertThat(cached.isCacheable(), is(true));
+    assertThat(cached.getCacheTtl(), is(60000L));
+    assertThat(cached.getCacheMaxEntries(), is(2));
+    assertThat(uncached.isCacheable(), is(false));
+  }
+
+  @Test
+  public void shouldCacheResultsByArguments() throws Exception {
+    assertThat(cache.get(Person.class, cached, new Object[]{"Doe", new PageRequest(0, 20)}, loader).getValue(), is((Object)1));
+    assertThat(cache.get(Person.class, cached, new Object[]{"Doe", new PageRequest(0, 20)}, loader).getValue(), is((Object)1));
+    assertThat(cache.get(Person.class, cached, new Object[]{"Doe", new PageRequest(1, 20)}, loader).getValue(), is((Object)2));
+    assertThat(cache.get(Person.class, cached, new Object[]{"Smith", new PageRequest(0, 20)}, loader).getValue(), is((Object)3));
+  }
+
+  @Test
+  public void shouldNotCacheResultsOfUnannotatedMethods() throws Exception {
+    assertThat(cache.get(Person.class, uncached, new Object[]{"John"}, loader).getValue(), is((Object)1));
+    assertThat(cache.get(Person.class, uncached, new Object[]{"John"}, loader).getValue(), is((Object)2));
+  }
+
+  @Test
+  public void shouldDropLeastRecentlyUsedResults() throws Exception {
+    cache.get(Person.class, cached, new Object[]{"Doe", null}, loader);
+    cache.get(Person.class, cached, new Object[]{"Smith", null}, loader);
+    cache.get(Person.class, cached, new Object[]{"Doe", null}, loader);
+    cache.get(Person.class, cached, new Object[]{"Jones", null}, loader);
+
+    assertThat(loads.get(), is(3));
+    assertThat(cache.get(Person.class, cached, new Object[]{"Doe", null}, loader).getValue(), is((Object)1));
+    assertThat(cache.get(Person.class, cached, new Object[]{"Smith", null}, loader).getValue(), is((Object)4));
+  }
+
+  @Test
+  public void shouldEvictResultsWhenEntityIsSaved() throws Exception {
+    cache.get(Person.class, cached, new Object[]{"Doe", null}, loader);
+    cache.onApplicationEvent(new AfterSaveEvent(new Person("John", "Doe")));
+
+    assertThat(cache.get(Person.class, cached, new Object[]{"Doe", null}, loader).getValue(), is((Object)2));
+  }
+
+  @Test
+  public void shouldEvictResultsOnlyOnceTransactionIsCommitted() throws Exception {
+    cache.get(Person.class, cached, new Object[]{"Doe", null}, loader);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      cache.onApplicationEvent(new AfterSaveEvent(new Person("John", "Doe")));
+      assertThat(cache.get(Person.class, cached, new Object[]{"Doe", null}, loader).getValue(), is((Object)1));
+
+      for(TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+        synchronization.afterCommit();
+      }
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(cache.get(Person.class, cached, new Object[]{"Doe", null}, loader).getValue(), is((Object)2));
+  }
+
+  @Test
+  public void shouldNotEvictResultsIfTransactionIsRolledBack() throws Exception {
+    cache.get(Person.class, cached, new Object[]{"Doe", null}, loader);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      cache.onApplicationEvent(new AfterSaveEvent(new Person("John", "Doe")));
+      for(TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+        synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+      }
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(cache.get(Person.class, cached, new Object[]{"Doe", null}, loader).getValue(), is((Object)1));
+  }
+
+  @Test
+  public void shouldTellWhetherResultWasServedFromCache() throws Exception {
+    long before = System.currentTimeMillis();
+    QueryResultCache.Result loaded = cache.get(Person.class, cached, new Object[]{"Doe", null}, loader);
+
+    assertThat(loaded.isHit(), is(false));
+    assertThat(loaded.getLoadedAt(), is(greaterThanOrEqualTo(before)));
+
+    QueryResultCache.Result hit = cache.get(Person.class, cached, new Object[]{"Doe", null}, loader);
+
+    assertThat(hit.isHit(), is(true));
+    assertThat(hit.getLoadedAt(), is(loaded.getLoadedAt()));
+    assertThat(cache.get(Person.class, cached, new Object[]{"Smith", null}, loader).isHit(), is(false));
+    assertThat(cache.get(Person.class, uncached, new Object[]{"John"}, loader).isHit(), is(false));
+  }
+
+  interface CachingPersonQueries {
+
+    @RestResource(cacheTtl = 60, cacheMaxEntries = 2)
+    List<Person> findByLastName(@Param("lastName") String lastName, Pageable pageable);
+
+    List<Person> findByFirstName(@Param("firstName") String firstName);
+
+  }
+
+}
@@ -10,6 +10,8 @@ import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.rest.repository.domain.jpa.PersonRepository;
 import org.springframework.data.rest.repository.support.Methods;
@@ -70,4 +72,21 @@ public class RepositoryMethodUnitTests {
     assertThat(method.getParameterNames(), contains("firstName", "arg1"));
   }
 
+  @Test
+  public void shouldPrecompileParameterBinders() throws Exception {
+    assertThat(method, notNullValue());
+    ParameterBinder firstName = method.getParameterBinders().get(0);
+    assertThat(firstName.getName(), is("firstName"));
+    assertThat(firstName.isNamed(), is(true));
+    assertThat(firstName.getTargetType().getType(), is(typeCompatibleWith(String.class)));
+    assertThat(firstName.convert(new String[]{"John"},
+                                 TypeDescriptor.valueOf(String[].class),
+                                 new DefaultConversionService()),
+               is((Object)"John"));
+
+    ParameterBinder pageable = method.getParameterBinders().get(1);
+    assertThat(pageable.isPageable(), is(true));
+    assertThat(pageable.isNamed(), is(false));
+  }
+
 }
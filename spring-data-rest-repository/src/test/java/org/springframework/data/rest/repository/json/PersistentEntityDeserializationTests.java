@@ -0,0 +1,94 @@
+package org.springframework.data.rest.repository.json;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.repository.RepositoryTestsConfig;
+import org.springframework.data.rest.repository.domain.jpa.Person;
+import org.springframework.data.rest.repository.domain.jpa.PersonRepository;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+/**
+ * Tests to verify how the deserializers of {@link PersistentEntityJackson2Module} map JSON fields to the properties of
+ * an entity, reference other entities by URI and read nested entities.
+ *
+ * @author Jon Brisbin
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = RepositoryTestsConfig.class)
+public class PersistentEntityDeserializationTests {
+
+	@Autowired
+	private ObjectMapper     mapper;
+	@Autowired
+	private PersonRepository people;
+
+	@Test(expected = HttpMessageNotReadableException.class)
+	public void rejectsUnknownProperties() throws IOException {
+		mapper.readValue("{\"firstName\": \"John\", \"middleName\": \"Q\"}", Person.class);
+	}
+
+	@Test
+	public void ignoresLinksAndRel() throws IOException {
+		Person p = mapper.readValue("{\"rel\": \"person\", \"links\": [{\"rel\": \"self\", \"href\": \"http://localhost/people/1\"}], \"firstName\": \"John\"}",
+		                            Person.class);
+		assertThat(p.getFirstName(), is("John"));
+		assertThat(p.getId(), is(nullValue()));
+	}
+
+	@Test(expected = HttpMessageNotReadableException.class)
+	public void rejectsLinksNotGivenAsArray() throws IOException {
+		mapper.readValue("{\"links\": \"http://localhost/people/1\"}", Person.class);
+	}
+
+	@Test
+	public void resolvesEntityReferencedByUri() throws IOException {
+		Person john = people.save(new Person("John", "Doe"));
+
+		Person p = mapper.readValue("{\"href\": \"http://localhost/people/" + john.getId() + "\"}", Person.class);
+		assertThat(p.getId(), is(john.getId()));
+		assertThat(p.getFirstName(), is("John"));
+	}
+
+	@Test
+	public void neverSwapsEntityBeingUpdatedForReferencedOne() throws IOException {
+		Person john = people.save(new Person("John", "Doe"));
+		Person jane = people.save(new Person("Jane", "Doe"));
+
+		Person p = mapper.readerForUpdating(jane)
+		                 .readValue("{\"href\": \"http://localhost/people/" + john.getId() + "\", \"lastName\": \"Smith\"}");
+		assertThat(p, is(sameInstance(jane)));
+		assertThat(p.getFirstName(), is("Jane"));
+		assertThat(p.getLastName(), is("Smith"));
+	}
+
+	@Test
+	public void readsNestedEntitiesInline() throws IOException {
+		Person p = mapper.readValue("{\"firstName\": \"John\", \"siblings\": [{\"firstName\": \"Jane\", \"lastName\": \"Doe\"}]}",
+		                            Person.class);
+		assertThat(p.getSiblings(), hasSize(1));
+		assertThat(p.getSiblings().get(0).getFirstName(), is("Jane"));
+		assertThat(p.getSiblings().get(0).getId(), is(nullValue()));
+	}
+
+	@Test
+	public void resolvesNestedEntitiesReferencedByUri() throws IOException {
+		Person jane = people.save(new Person("Jane", "Doe"));
+
+		Person p = mapper.readValue("{\"firstName\": \"John\", \"siblings\": [{\"href\": \"http://localhost/people/"
+				                            + jane.getId() + "\"}]}",
+		                            Person.class);
+		assertThat(p.getSiblings(), hasSize(1));
+		assertThat(p.getSiblings().get(0).getId(), is(jane.getId()));
+		assertThat(p.getSiblings().get(0).getFirstName(), is("Jane"));
+	}
+
+}
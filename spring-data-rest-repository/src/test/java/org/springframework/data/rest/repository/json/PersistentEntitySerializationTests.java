@@ -7,6 +7,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Collections;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,13 +19,20 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.repository.PersistentEntityResource;
 import org.springframework.data.rest.repository.RepositoryTestsConfig;
+import org.springframework.data.rest.repository.TemplatedResources;
 import org.springframework.data.rest.repository.domain.jpa.Person;
 import org.springframework.data.rest.repository.domain.jpa.PersonRepository;
+import org.springframework.data.rest.repository.support.DomainObjectMerger;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.core.DefaultLinkDiscoverer;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
@@ -45,6 +53,8 @@ public class PersistentEntitySerializationTests {
 	private Repositories     repositories;
 	@Autowired
 	private PersonRepository people;
+	@Autowired
+	private RepositoryRestConfiguration config;
 	private LinkDiscoverer links = new DefaultLinkDiscoverer();
 
 	public static Matcher<Link> isLinkWithHref(final String href) {
@@ -67,6 +77,52 @@ public class PersistentEntitySerializationTests {
 		assertThat(p.getSiblings(), is(Collections.EMPTY_LIST));
 	}
 
+	@Test
+	public void deserializesIso8601Dates() throws IOException {
+		Person p = mapper.readValue("{\"firstName\": \"John\", \"created\": \"2013-03-01T11:30:15.250Z\"}", Person.class);
+		assertThat(p.getCreated().getTime(), is(1362137415250L));
+
+		p = mapper.readValue("{\"firstName\": \"John\", \"created\": 1362137415250}", Person.class);
+		assertThat(p.getCreated().getTime(), is(1362137415250L));
+	}
+
+	@Test
+	public void appliesMergePatchToExistingEntity() throws IOException {
+		Person p = people.save(new Person("John", "Doe"));
+		Long id = p.getId();
+
+		Person patched = mapper.readerForUpdating(p).readValue("{\"id\": 500, \"lastName\": \"Smith\"}");
+		assertThat(patched, is(sameInstance(p)));
+		assertThat(p.getId(), is(id));
+		assertThat(p.getFirstName(), is("John"));
+		assertThat(p.getLastName(), is("Smith"));
+
+		mapper.readerForUpdating(p).readValue("{\"firstName\": null}");
+		assertThat(p.getFirstName(), is(nullValue()));
+		assertThat(p.getLastName(), is("Smith"));
+	}
+
+	@Test
+	public void mergesOnlyPresentProperties() throws IOException {
+		Person target = new Person("John", "Doe");
+		Set<PersistentProperty<?>> present;
+		Person incoming;
+		PresentProperties.startTracking();
+		try {
+			incoming = mapper.readValue("{\"lastName\": null}", Person.class);
+			present = PresentProperties.getPresentProperties(incoming);
+		} finally {
+			PresentProperties.stopTracking();
+		}
+
+		assertThat(present, hasSize(1));
+		assertThat(present.iterator().next().getName(), is("lastName"));
+
+		new DomainObjectMerger(repositories, new DefaultConversionService()).merge(incoming, target, present);
+		assertThat(target.getFirstName(), is("John"));
+		assertThat(target.getLastName(), is(nullValue()));
+	}
+
 	@Test
 	@Ignore
 	public void serializesPersonEntity() throws IOException, InterruptedException {
@@ -82,4 +138,26 @@ public class PersistentEntitySerializationTests {
 		           endsWith("/2/siblings"));
 	}
 
+	@Test
+	@SuppressWarnings({"unchecked"})
+	public void serializesTemplatedResources() throws IOException {
+		Person p = people.save(new Person("John", "Doe"));
+		URI baseUri = URI.create("http://localhost");
+		PersistentEntity entity = repositories.getPersistentEntity(Person.class);
+		TemplatedResources resources = new TemplatedResources(
+				Collections.<Resource<?>>singletonList(PersistentEntityResource.wrap(entity, p, baseUri).setTemplated(true)),
+				PersistentEntityJackson2Module.linkTemplates(repositories, config, baseUri, entity),
+				null,
+				Collections.<Link>emptyList()
+		);
+
+		String s = mapper.writeValueAsString(resources);
+
+		assertThat(JsonPath.read(s, "$templates[0].href").toString(), allOf(startsWith("http://localhost/"),
+		                                                                     endsWith("/{id}")));
+		assertThat(JsonPath.read(s, "$content[0].id").toString(), is(p.getId().toString()));
+		assertThat(JsonPath.read(s, "$content[0].firstName").toString(), is("John"));
+		assertThat(s, not(containsString("\"page\"")));
+	}
+
 }
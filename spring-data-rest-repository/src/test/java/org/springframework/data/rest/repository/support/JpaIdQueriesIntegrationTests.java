@@ -0,0 +1,134 @@
+package org.springframework.data.rest.repository.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.List;
+import javax.persistence.EntityManager;
+
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.repository.RepositoryTestsConfig;
+import org.springframework.data.rest.repository.domain.jpa.Person;
+import org.springframework.data.rest.repository.domain.jpa.PersonRepository;
+import org.springframework.data.rest.repository.domain.mongodb.Profile;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+/**
+ * Tests to verify listing only the ids of JPA entities.
+ *
+ * @author Jon Brisbin
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = JpaIdQueriesIntegrationTests.Config.class)
+public class JpaIdQueriesIntegrationTests {
+
+  @Autowired
+  JpaIdQueries     idQueries;
+  @Autowired
+  PersonRepository people;
+  @Autowired
+  Repositories     repositories;
+  Mockery          mockery = new Mockery();
+
+  @Test
+  public void shouldOnlySupportJpaEntities() throws Exception {
+    assertThat(idQueries.supports(Person.class), is(true));
+    assertThat(idQueries.supports(Profile.class), is(false));
+    assertThat(idQueries.supports(String.class), is(false));
+  }
+
+  @Test
+  public void shouldListIdsOfAllEntities() throws Exception {
+    List<Object> ids = idQueries.findAllIds(Person.class, new Sort(Sort.Direction.DESC, "id"));
+
+    assertThat(ids, hasSize((int)people.count()));
+    for(Person p : people.findAll()) {
+      assertThat(ids, hasItem((Object)p.getId()));
+    }
+  }
+
+  @Test
+  public void shouldListIdsOfOnePage() throws Exception {
+    Page<Object> page = idQueries.findAllIds(Person.class, new PageRequest(0, 1));
+
+    assertThat(page.getContent(), hasSize(1));
+    assertThat(page.getTotalElements(), is(people.count()));
+  }
+
+  @Test
+  public void shouldLookUpSingleAttribute() throws Exception {
+    Person p = people.findAll().iterator().next();
+
+    assertThat(idQueries.findAttribute(Person.class, p.getId(), "firstName"), contains((Object)p.getFirstName()));
+    assertThat(idQueries.findAttribute(Person.class, -1L, "firstName"), is(empty()));
+  }
+
+  @Test
+  public void shouldOnlyBypassStockRepositories() throws Exception {
+    assertThat(idQueries.supports(repositories.getRepositoryInformationFor(Person.class)), is(true));
+    assertThat(idQueries.supports(repositoryInformation(RestrictedPersonRepository.class, SimpleJpaRepository.class)),
+               is(false));
+    assertThat(idQueries.supports(repositoryInformation(CustomBasePersonRepository.class, CustomBaseRepository.class)),
+               is(false));
+  }
+
+  private RepositoryInformation repositoryInformation(final Class<?> repositoryInterface, final Class<?> baseClass) {
+    final RepositoryInformation repoInfo = mockery.mock(RepositoryInformation.class, repositoryInterface.getSimpleName());
+    mockery.checking(new Expectations() {{
+      allowing(repoInfo).getDomainType();
+      will(returnValue(Person.class));
+      allowing(repoInfo).getRepositoryInterface();
+      will(returnValue(repositoryInterface));
+      allowing(repoInfo).getRepositoryBaseClass();
+      will(returnValue(baseClass));
+      allowing(repoInfo).isCustomMethod(with(any(Method.class)));
+      will(returnValue(false));
+      allowing(repoInfo).isQueryMethod(with(any(Method.class)));
+      will(returnValue(false));
+    }});
+    return repoInfo;
+  }
+
+  interface RestrictedPersonRepository extends PagingAndSortingRepository<Person, Long> {
+    @Override
+    @Query("select p from Person p where p.firstName <> 'Billy Bob'")
+    Page<Person> findAll(Pageable pageable);
+  }
+
+  interface CustomBasePersonRepository extends PagingAndSortingRepository<Person, Long> {
+  }
+
+  static class CustomBaseRepository<T, ID extends Serializable> extends SimpleJpaRepository<T, ID> {
+    CustomBaseRepository(Class<T> domainClass, EntityManager em) {
+      super(domainClass, em);
+    }
+  }
+
+  @Configuration
+  @Import({RepositoryTestsConfig.class})
+  static class Config {
+    @Bean public JpaIdQueries jpaIdQueries() {
+      return new JpaIdQueries();
+    }
+  }
+
+}
@@ -0,0 +1,49 @@
+package org.springframework.data.rest.repository.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.repository.RepositoryTestsConfig;
+import org.springframework.data.rest.repository.domain.jpa.Person;
+import org.springframework.data.rest.repository.domain.mongodb.Profile;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+/**
+ * Tests to verify the detection of the JPA provider's Bean Validation callbacks.
+ *
+ * @author Jon Brisbin
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = JpaValidationSupportIntegrationTests.Config.class)
+public class JpaValidationSupportIntegrationTests {
+
+  @Autowired
+  JpaValidationSupport jpaValidationSupport;
+
+  @Test
+  public void shouldDetectProviderValidationForJpaEntities() throws Exception {
+    assertThat(jpaValidationSupport.validatesOnWrite(Person.class), is(true));
+  }
+
+  @Test
+  public void shouldNotDetectProviderValidationForOtherTypes() throws Exception {
+    assertThat(jpaValidationSupport.validatesOnWrite(Profile.class), is(false));
+    assertThat(jpaValidationSupport.validatesOnWrite(String.class), is(false));
+  }
+
+  @Configuration
+  @Import({RepositoryTestsConfig.class})
+  static class Config {
+    @Bean public JpaValidationSupport jpaValidationSupport() {
+      return new JpaValidationSupport();
+    }
+  }
+
+}
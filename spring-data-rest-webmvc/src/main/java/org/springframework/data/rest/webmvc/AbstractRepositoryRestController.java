@@ -15,7 +15,6 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.model.BeanWrapper;
-import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.DomainClassConverter;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.config.RepositoryRestConfiguration;
@@ -24,9 +23,12 @@ import org.springframework.data.rest.repository.BaseUriAwareResource;
 import org.springframework.data.rest.repository.PagingAndSorting;
 import org.springframework.data.rest.repository.PersistentEntityResource;
 import org.springframework.data.rest.repository.RepositoryConstraintViolationException;
-import org.springframework.data.rest.repository.invoke.MethodParameterConversionService;
-import org.springframework.data.rest.repository.support.ResourceMappingUtils;
-import org.springframework.data.rest.webmvc.support.BaseUriLinkBuilder;
+import org.springframework.data.rest.repository.TemplatedResources;
+import org.springframework.data.rest.repository.context.RepositoryEventMulticaster;
+import org.springframework.data.rest.repository.context.RepositoryEventType;
+import org.springframework.data.rest.repository.invoke.QueryResultCache;
+import org.springframework.data.rest.repository.json.PersistentEntityJackson2Module;
+import org.springframework.data.rest.repository.support.JpaIdQueries;
 import org.springframework.data.rest.webmvc.support.ExceptionMessage;
 import org.springframework.data.rest.webmvc.support.RepositoryConstraintViolationExceptionMessage;
 import org.springframework.data.rest.webmvc.support.ValidationExceptionHandler;
@@ -37,6 +39,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -45,11 +48,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.servlet.http.HttpServletRequest;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.net.URI;
 import java.util.*;
 
-import static org.springframework.data.rest.core.util.UriUtils.buildUri;
 
 /**
  * @author Jon Brisbin
@@ -67,7 +67,6 @@ public class AbstractRepositoryRestController implements ApplicationContextAware
 	protected final RepositoryRestConfiguration      config;
 	protected final DomainClassConverter             domainClassConverter;
 	protected final ConversionService                conversionService;
-	protected final MethodParameterConversionService methodParameterConversionService;
 	protected final EntityLinks                      entityLinks;
 	protected       ApplicationContext               applicationContext;
 	@Autowired(required = false)
@@ -75,6 +74,10 @@ public class AbstractRepositoryRestController implements ApplicationContextAware
 	@Autowired(required = false)
 	protected       PlatformTransactionManager       txMgr;
 	protected       TransactionTemplate              txTmpl;
+	@Autowired(required = false)
+	protected       RepositoryEventMulticaster       eventMulticaster;
+	@Autowired(required = false)
+	protected       JpaIdQueries                     idQueries;
 
 	@Autowired
 	public AbstractRepositoryRestController(Repositories repositories,
@@ -87,7 +90,6 @@ public class AbstractRepositoryRestController implements ApplicationContextAware
 		this.domainClassConverter = domainClassConverter;
 		this.conversionService = conversionService;
 		this.entityLinks = entityLinks;
-		this.methodParameterConversionService = new MethodParameterConversionService(conversionService);
 	}
 
 	@Override
@@ -157,27 +159,6 @@ public class AbstractRepositoryRestController implements ApplicationContextAware
 		return badRequest(t);
 	}
 
-	//	@ExceptionHandler({
-	//			                  RuntimeException.class
-	//	                  })
-	//	@ResponseBody
-	//	public ResponseEntity maybeHandleValidationException(Locale locale,
-	//	                                                     RuntimeException ex) {
-	//		if(ResourceNotFoundException.class.isAssignableFrom(ex.getClass())) {
-	//			return handleNotFound();
-	//		}
-	//
-	//		if(null != handler) {
-	//			return handler.handleValidationException(ex,
-	//			                                         applicationContext,
-	//			                                         locale);
-	//		} else {
-	//			return response(null,
-	//			                ex,
-	//			                HttpStatus.BAD_REQUEST);
-	//		}
-	//	}
-
 	@ExceptionHandler({
 												RepositoryConstraintViolationException.class
 										})
@@ -304,26 +285,6 @@ public class AbstractRepositoryRestController implements ApplicationContextAware
 		return new Link(ucb.build().toString(), rel);
 	}
 
-	protected List<Link> queryMethodLinks(URI baseUri, Class<?> domainType) {
-		List<Link> links = new ArrayList<Link>();
-		RepositoryInformation repoInfo = repositories.getRepositoryInformationFor(domainType);
-		ResourceMapping repoMapping = ResourceMappingUtils.merge(
-				repoInfo.getRepositoryInterface(),
-				config.getResourceMappingForRepository(repoInfo.getRepositoryInterface())
-		);
-		for (Method method : repoInfo.getQueryMethods()) {
-			LinkBuilder linkBuilder = BaseUriLinkBuilder.create(buildUri(baseUri, repoMapping.getPath(), "search"));
-			ResourceMapping methodMapping = ResourceMappingUtils.merge(method,
-																																 repoMapping.getResourceMappingFor(method.getName()));
-			if (!methodMapping.isExported()) {
-				continue;
-			}
-			links.add(linkBuilder.slash(methodMapping.getPath())
-													 .withRel(repoMapping.getRel() + "." + methodMapping.getRel()));
-		}
-		return links;
-	}
-
 	protected Link resourceLink(RepositoryRestRequest repoRequest, Resource resource) {
 		ResourceMapping repoMapping = repoRequest.getRepositoryResourceMapping();
 		ResourceMapping entityMapping = repoRequest.getPersistentEntityResourceMapping();
@@ -409,6 +370,165 @@ public class AbstractRepositoryRestController implements ApplicationContextAware
 		return new Resources(resources, links);
 	}
 
+	/**
+	 * Create the link to the given entity as rendered in compact listings, straight from its id.
+	 *
+	 * @param repoRequest
+	 * 		The current request.
+	 * @param entity
+	 * 		The entity to link to.
+	 *
+	 * @return The link or {@literal null} if the object is not an entity managed by a repository.
+	 */
+	protected Link entityLink(RepositoryRestRequest repoRequest, Object entity) {
+		if (null == entity) {
+			return null;
+		}
+		PersistentEntity persistentEntity = repositories.getPersistentEntity(entity.getClass());
+		if (null == persistentEntity) {
+			return null;
+		}
+		Object id = BeanWrapper.create(entity, conversionService).getProperty(persistentEntity.getIdProperty());
+		return idLink(repoRequest, persistentEntity.getType(), id);
+	}
+
+	/**
+	 * Create the link to the entity with the given id as rendered in compact listings.
+	 *
+	 * @param repoRequest
+	 * 		The current request.
+	 * @param domainType
+	 * 		The type of entity.
+	 * @param id
+	 * 		The id of the entity.
+	 *
+	 * @return The link.
+	 */
+	protected Link idLink(RepositoryRestRequest repoRequest, Class<?> domainType, Object id) {
+		ResourceMapping repoMapping = repoRequest.getRepositoryResourceMapping();
+		ResourceMapping entityMapping = repoRequest.getPersistentEntityResourceMapping();
+		return entityLinks.linkForSingleResource(domainType, id)
+											.withRel(repoMapping.getRel() + "." + entityMapping.getRel());
+	}
+
+	/**
+	 * Turn the given collection of entity resources into {@link TemplatedResources}, declaring the links of the
+	 * elements once as URI templates for every type of entity contained and rendering only the ids of the elements.
+	 *
+	 * @param repoRequest
+	 * 		The current request.
+	 * @param resources
+	 * 		The resources as created by {@link #resultToResources(RepositoryRestRequest, Object, List, Link, Link)}.
+	 *
+	 * @return The templated resources.
+	 */
+	@SuppressWarnings({"unchecked"})
+	protected TemplatedResources templatedResources(RepositoryRestRequest repoRequest, Resources<?> resources) {
+		List<Resource<?>> content = new ArrayList<Resource<?>>();
+		Set<PersistentEntity<?, ?>> entities = new LinkedHashSet<PersistentEntity<?, ?>>();
+		for (Object obj : resources.getContent()) {
+			if (obj instanceof PersistentEntityResource) {
+				PersistentEntityResource<?> per = (PersistentEntityResource<?>) obj;
+				entities.add(per.getPersistentEntity());
+				content.add(PersistentEntityResource.wrap(per.getPersistentEntity(), per.getContent(), per.getBaseUri())
+																						.setTemplated(true));
+			} else {
+				content.add((Resource<?>) obj);
+			}
+		}
+
+		List<Link> templates = new ArrayList<Link>();
+		for (PersistentEntity<?, ?> persistentEntity : entities) {
+			templates.addAll(PersistentEntityJackson2Module.linkTemplates(repositories,
+																																		 config,
+																																		 repoRequest.getBaseUri(),
+																																		 persistentEntity));
+		}
+
+		PagedResources.PageMetadata pageMeta = (resources instanceof PagedResources
+																						? ((PagedResources<?>) resources).getMetadata()
+																						: null);
+		return new TemplatedResources(content, templates, pageMeta, resources.getLinks());
+	}
+
+	/**
+	 * Run the given callback in a single transaction if a {@link PlatformTransactionManager} is configured, so loading,
+	 * merging, emitting events and saving share one connection and one flush.
+	 *
+	 * @param callback
+	 * 		The work to do.
+	 *
+	 * @return The result of the callback.
+	 */
+	protected <T> T executeInTransaction(TransactionCallback<T> callback) {
+		if (null != txTmpl) {
+			return txTmpl.execute(callback);
+		}
+		return callback.doInTransaction(null);
+	}
+
+	/**
+	 * Emit a {@link org.springframework.data.rest.repository.context.RepositoryEvent} of the given type through the
+	 * {@link RepositoryEventMulticaster}, falling back to the {@link ApplicationContext} if none is configured.
+	 *
+	 * @param type
+	 * 		The type of event.
+	 * @param source
+	 * 		The entity the event is emitted for.
+	 * @param linked
+	 * 		The linked object for link events, {@literal null} otherwise.
+	 */
+	protected void publishEvent(RepositoryEventType type, Object source, Object linked) {
+		if (null != eventMulticaster) {
+			eventMulticaster.publish(type, source, linked);
+		} else {
+			applicationContext.publishEvent(type.createEvent(source, linked));
+		}
+	}
+
+	/**
+	 * Set the {@literal ETag} of an entity from its version.
+	 *
+	 * @param headers
+	 * 		The headers to add the {@literal ETag} to.
+	 * @param version
+	 * 		The value of the version property of the entity, ignored if {@literal null}.
+	 */
+	protected void addETag(HttpHeaders headers, Object version) {
+		if (null != version) {
+			headers.setETag("\"" + conversionService.convert(version, String.class) + "\"");
+		}
+	}
+
+	/**
+	 * Tell the client how old a result served from the {@link QueryResultCache} is, with the {@literal Age} and {@literal Last-Modified} headers.
+	 *
+	 * @param headers
+	 * 		The headers to add the freshness to.
+	 * @param result
+	 * 		The result of the query method, which only gets the headers if it was served from the cache.
+	 */
+	protected void addFreshness(HttpHeaders headers, QueryResultCache.Result result) {
+		if (result.isHit()) {
+			long loadedAt = result.getLoadedAt();
+			headers.setLastModified(loadedAt);
+			headers.set("Age", String.valueOf(Math.max(0, (System.currentTimeMillis() - loadedAt) / 1000)));
+		}
+	}
+
+	/**
+	 * Create a page without content that only carries the total number of results, to answer requests with a limit of
+	 * {@literal 0}. The size and number of pages are those of the default page size, which the client gets when it
+	 * leaves the limit off to fetch the results.
+	 */
+	protected PagedResources metadataOnly(PagingAndSorting pageSort, long total, List<Link> links) {
+		long size = config.getDefaultPageSize();
+		long totalPages = (size > 0 ? (total + size - 1) / size : 0);
+		return new PagedResources(Collections.emptyList(),
+															new PagedResources.PageMetadata(size, pageSort.getPageNumber() + 1, total, totalPages),
+															links);
+	}
+
 	protected PagedResources.PageMetadata pageMetadata(Page page) {
 		return new PagedResources.PageMetadata(
 				page.getNumberOfElements(),
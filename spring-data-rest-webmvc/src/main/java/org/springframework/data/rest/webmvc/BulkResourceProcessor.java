@@ -0,0 +1,45 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.List;
+
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.Resources;
+
+/**
+ * SPI to process all elements of a {@link Resources} (or {@link org.springframework.hateoas.PagedResources}) matching
+ * the given type in a single call. Allows implementations to look up additional data for a whole page at once instead
+ * of once per element as a {@link ResourceProcessor} would. Type matching follows the rules applied to
+ * {@link ResourceProcessor}s. All {@link BulkResourceProcessor}s are invoked before the {@link ResourceProcessor}s
+ * registered for the individual elements.
+ *
+ * @author Oliver Gierke
+ */
+public interface BulkResourceProcessor<T extends ResourceSupport> {
+
+	/**
+	 * Processes the given elements. Implementations can either modify the given elements in place or return
+	 * replacements for them.
+	 *
+	 * @param resources the elements of the {@link Resources} matching the processor's type in their original order,
+	 *                  will never be {@literal null} or empty.
+	 * @return the processed elements in the same order, must not be {@literal null} and has to have the same size as the
+	 *         given {@link List}.
+	 */
+	List<T> process(List<T> resources);
+}
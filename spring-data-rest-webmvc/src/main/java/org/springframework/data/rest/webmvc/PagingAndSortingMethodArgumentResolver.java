@@ -67,6 +67,7 @@ public class PagingAndSortingMethodArgumentResolver implements HandlerMethodArgu
 		HttpServletRequest request = (HttpServletRequest)webRequest.getNativeRequest();
 
 		PageRequest pr = null;
+		boolean metadataOnly = false;
 		for(Annotation annotation : parameter.getParameterAnnotations()) {
 			if(annotation instanceof PageableDefaults) {
 				PageableDefaults defaults = (PageableDefaults)annotation;
@@ -91,6 +92,11 @@ public class PagingAndSortingMethodArgumentResolver implements HandlerMethodArgu
 				} catch(NumberFormatException ignored) {
 				}
 			}
+			if(limit == 0) {
+				// Only the totals are wanted, but a page still needs at least one element
+				metadataOnly = true;
+				limit = 1;
+			}
 
 			Sort sort = null;
 			List<Sort.Order> orders = new ArrayList<Sort.Order>();
@@ -118,7 +124,7 @@ public class PagingAndSortingMethodArgumentResolver implements HandlerMethodArgu
 			}
 		}
 
-		return new PagingAndSorting(config, pr);
+		return new PagingAndSorting(config, pr, metadataOnly);
 	}
 
 	private String nameForParam(MethodParameter parameter,
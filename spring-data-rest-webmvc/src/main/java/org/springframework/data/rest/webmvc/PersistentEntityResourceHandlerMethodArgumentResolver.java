@@ -6,6 +6,7 @@ import javax.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.rest.repository.PersistentEntityResource;
+import org.springframework.data.rest.repository.json.PresentProperties;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -48,9 +49,14 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
         continue;
       }
 
-      Object obj = converter.read(domainType, request);
-      return new PersistentEntityResource(repoRequest.getPersistentEntity(),
-                                          obj);
+      PresentProperties.startTracking();
+      try {
+        Object obj = converter.read(domainType, request);
+        return new PersistentEntityResource(repoRequest.getPersistentEntity(),
+                                            obj).setPresentProperties(PresentProperties.getPresentProperties(obj));
+      } finally {
+        PresentProperties.stopTracking();
+      }
     }
 
     return null;
@@ -1,10 +1,13 @@
 package org.springframework.data.rest.webmvc;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.repository.support.DomainClassConverter;
@@ -13,28 +16,42 @@ import org.springframework.data.rest.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.config.ResourceMapping;
 import org.springframework.data.rest.repository.PagingAndSorting;
 import org.springframework.data.rest.repository.PersistentEntityResource;
+import org.springframework.data.rest.repository.TemplatedResources;
 import org.springframework.data.rest.repository.context.*;
+import org.springframework.data.rest.repository.invoke.QueryResultCache;
 import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
 import org.springframework.data.rest.repository.json.JsonSchema;
 import org.springframework.data.rest.repository.json.PersistentEntityToJsonSchemaConverter;
 import org.springframework.data.rest.repository.support.DomainObjectMerger;
+import org.springframework.data.rest.webmvc.annotation.RequestMethodName;
 import org.springframework.hateoas.*;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * @author Jon Brisbin
@@ -42,12 +59,18 @@ import java.util.List;
 @SuppressWarnings({"rawtypes"})
 public class RepositoryEntityController extends AbstractRepositoryRestController {
 
-	private static final String BASE_MAPPING = "/{repository}";
+	private static final String    BASE_MAPPING      = "/{repository}";
+	private static final MediaType SCHEMA_MEDIA_TYPE = MediaType.valueOf("application/schema+json");
+	private static final long      SCHEMA_MAX_AGE    = 24 * 60 * 60;
 	
 	@Autowired
 	private DomainObjectMerger                    domainObjectMerger;
 	@Autowired
 	private PersistentEntityToJsonSchemaConverter jsonSchemaConverter;
+	@Autowired
+	private ObjectMapper                          objectMapper;
+
+	private final ConcurrentMap<Class<?>, SchemaDocument> schemas = new ConcurrentHashMap<Class<?>, SchemaDocument>();
 
 	public RepositoryEntityController(Repositories repositories,
 																		RepositoryRestConfiguration config,
@@ -69,8 +92,37 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
 			}
 	)
 	@ResponseBody
-	public JsonSchema schema(RepositoryRestRequest repoRequest) {
-		return jsonSchemaConverter.convert(repoRequest.getPersistentEntity().getType());
+	public ResponseEntity<byte[]> schema(RepositoryRestRequest repoRequest) throws IOException {
+		SchemaDocument schema = getSchema(repoRequest);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(SCHEMA_MEDIA_TYPE);
+		headers.setETag(schema.etag);
+		headers.setCacheControl("public, max-age=" + SCHEMA_MAX_AGE);
+		if (schema.isMatchedBy(repoRequest.getRequest().getHeaders("If-None-Match"))) {
+			return new ResponseEntity<byte[]>(headers, HttpStatus.NOT_MODIFIED);
+		}
+		return new ResponseEntity<byte[]>(schema.body, headers, HttpStatus.OK);
+	}
+
+	/**
+	 * Get the serialized schema of the requested type of entity, creating it on the first request. Schemas only change
+	 * when the application is redeployed, so there's one per entity. Its links are relative to the server so the same
+	 * schema serves every host name the exporter is reached by.
+	 */
+	private SchemaDocument getSchema(RepositoryRestRequest repoRequest) throws IOException {
+		Class<?> domainType = repoRequest.getPersistentEntity().getType();
+		SchemaDocument schema = schemas.get(domainType);
+		if (null == schema) {
+			URI basePath = URI.create(repoRequest.getBaseUri().getRawPath());
+			JsonSchema jsonSchema = jsonSchemaConverter.convert(domainType, basePath);
+			schema = new SchemaDocument(objectMapper.writeValueAsBytes(jsonSchema));
+			SchemaDocument existing = schemas.putIfAbsent(domainType, schema);
+			if (null != existing) {
+				schema = existing;
+			}
+		}
+		return schema;
 	}
 
 	@RequestMapping(
@@ -82,7 +134,40 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
 			}
 	)
 	@ResponseBody
-	public Resources listEntities(final RepositoryRestRequest repoRequest)
+	public ResponseEntity<Resources> listEntities(final RepositoryRestRequest repoRequest)
+			throws ResourceNotFoundException {
+		HttpHeaders headers = new HttpHeaders();
+		Resources resources = findEntities(repoRequest, headers);
+		return new ResponseEntity<Resources>(resources, headers, HttpStatus.OK);
+	}
+
+	@RequestMapping(
+			value = BASE_MAPPING + "/count",
+			method = RequestMethod.GET,
+			produces = {
+					"application/json"
+			}
+	)
+	@ResponseBody
+	public ResponseEntity<Map<String, Object>> count(RepositoryRestRequest repoRequest)
+			throws ResourceNotFoundException {
+		RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+		if (null == repoMethodInvoker || !repoMethodInvoker.hasCount()) {
+			throw new ResourceNotFoundException();
+		}
+
+		QueryResultCache.Result count = repoMethodInvoker.countCached();
+		Map<String, Object> body = Collections.<String, Object>singletonMap("count", count.getValue());
+		HttpHeaders headers = new HttpHeaders();
+		addFreshness(headers, count);
+		return new ResponseEntity<Map<String, Object>>(body, headers, HttpStatus.OK);
+	}
+
+	private Resources findEntities(RepositoryRestRequest repoRequest) throws ResourceNotFoundException {
+		return findEntities(repoRequest, new HttpHeaders());
+	}
+
+	private Resources findEntities(RepositoryRestRequest repoRequest, HttpHeaders headers)
 			throws ResourceNotFoundException {
 		List<Link> links = new ArrayList<Link>();
 
@@ -91,6 +176,18 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
 		if (null == repoMethodInvoker) {
 			throw new ResourceNotFoundException();
 		}
+		if (repoRequest.getPagingAndSorting().isMetadataOnly()) {
+			if (!repoMethodInvoker.hasCount()) {
+				throw new ResourceNotFoundException();
+			}
+			if (!repoMethodInvoker.getQueryMethods().isEmpty()) {
+				links.add(entityLinks.linkForSingleResource(repoRequest.getPersistentEntity().getType(), "search")
+														 .withRel(repoRequest.getRepositoryResourceMapping().getRel() + ".search"));
+			}
+			QueryResultCache.Result count = repoMethodInvoker.countCached();
+			addFreshness(headers, count);
+			return metadataOnly(repoRequest.getPagingAndSorting(), (Long) count.getValue(), links);
+		}
 		boolean hasSortParams = (null != repoRequest.getRequest().getParameter(config.getSortParamName()));
 		if (repoMethodInvoker.hasFindAllPageable()) {
 			PagingAndSorting pageSort = repoRequest.getPagingAndSorting();
@@ -126,30 +223,150 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
 		return resultToResources(repoRequest, results, links, prevLink, nextLink);
 	}
 
+	@RequestMapping(
+			value = BASE_MAPPING,
+			method = RequestMethod.GET,
+			produces = {
+					TemplatedResources.MEDIA_TYPE
+			}
+	)
+	@ResponseBody
+	public TemplatedResources listEntitiesTemplated(final RepositoryRestRequest repoRequest)
+			throws ResourceNotFoundException {
+		return templatedResources(repoRequest, findEntities(repoRequest));
+	}
+
 	@SuppressWarnings({"unchecked"})
 	@RequestMapping(
 			value = BASE_MAPPING,
 			method = RequestMethod.GET,
 			produces = {
-					"application/x-spring-data-compact+json",
-					"text/uri-list"
+					"application/x-spring-data-compact+json"
 			}
 	)
 	@ResponseBody
 	public Resources listEntitiesCompact(final RepositoryRestRequest repoRequest)
 			throws ResourceNotFoundException {
-		Resources resources = listEntities(repoRequest);
-		List<Link> links = new ArrayList<Link>(resources.getLinks());
+		Resources<Link> elementLinks = listEntityLinks(repoRequest);
+		List<Link> links = new ArrayList<Link>(elementLinks.getLinks());
+		links.addAll(elementLinks.getContent());
+		if (elementLinks instanceof PagedResources) {
+			return new PagedResources(Collections.emptyList(), ((PagedResources) elementLinks).getMetadata(), links);
+		} else {
+			return new Resources(Collections.emptyList(), links);
+		}
+	}
+
+	/**
+	 * Lists the links to the entities as {@literal text/uri-list}. The links to the entities are the content of the
+	 * returned resources, so they are written without the search and paging links.
+	 */
+	@RequestMapping(
+			value = BASE_MAPPING,
+			method = RequestMethod.GET,
+			produces = {
+					"text/uri-list"
+			}
+	)
+	@ResponseBody
+	public Resources<Link> listEntitiesUriList(final RepositoryRestRequest repoRequest)
+			throws ResourceNotFoundException {
+		return listEntityLinks(repoRequest);
+	}
+
+	/**
+	 * Create the links to the entities as the content of the resources and the search and paging links as their links.
+	 */
+	@SuppressWarnings({"unchecked"})
+	private Resources<Link> listEntityLinks(RepositoryRestRequest repoRequest) throws ResourceNotFoundException {
+		RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+		if (null == repoMethodInvoker) {
+			throw new ResourceNotFoundException();
+		}
+		Class<?> domainType = repoRequest.getPersistentEntity().getType();
+		if (null == idQueries
+				|| !idQueries.supports(repoRequest.getRepositoryInformation())
+				|| repoRequest.getPagingAndSorting().isMetadataOnly()) {
+			return linksOnly(repoRequest, findEntities(repoRequest));
+		}
+
+		// Only the ids are needed to render the links, so don't load the entities
+		Iterable<?> ids;
+		boolean hasSortParams = (null != repoRequest.getRequest().getParameter(config.getSortParamName()));
+		PagingAndSorting pageSort = repoRequest.getPagingAndSorting();
+		if (repoMethodInvoker.hasFindAllPageable()) {
+			ids = idQueries.findAllIds(domainType, new PageRequest(pageSort.getPageNumber(),
+																														 pageSort.getPageSize(),
+																														 pageSort.getSort()));
+		} else if (repoMethodInvoker.hasFindAllSorted() && hasSortParams) {
+			ids = idQueries.findAllIds(domainType, pageSort.getSort());
+		} else if (repoMethodInvoker.hasFindAll()) {
+			ids = idQueries.findAllIds(domainType, (Sort) null);
+		} else {
+			throw new ResourceNotFoundException();
+		}
+
+		List<Link> links = new ArrayList<Link>();
+		ResourceMapping repoMapping = repoRequest.getRepositoryResourceMapping();
+		if (!repoMethodInvoker.getQueryMethods().isEmpty()) {
+			links.add(entityLinks.linkForSingleResource(domainType, "search")
+													 .withRel(repoMapping.getRel() + ".search"));
+		}
+		if (ids instanceof Page) {
+			if (((Page) ids).hasPreviousPage() && pageSort.getPageNumber() > 0) {
+				links.add(entitiesPageLink(repoRequest, 0, "page.previous"));
+			}
+			if (((Page) ids).hasNextPage()) {
+				links.add(entitiesPageLink(repoRequest, 1, "page.next"));
+			}
+		}
+		List<Link> elementLinks = new ArrayList<Link>();
+		for (Object id : ids) {
+			elementLinks.add(idLink(repoRequest, domainType, id));
+		}
+
+		if (ids instanceof Page) {
+			return new PagedResources<Link>(elementLinks, pageMetadata((Page) ids), links);
+		} else {
+			return new Resources<Link>(elementLinks, links);
+		}
+	}
 
+	@SuppressWarnings({"unchecked"})
+	private Resources<Link> linksOnly(RepositoryRestRequest repoRequest, Resources resources) {
+		List<Link> elementLinks = new ArrayList<Link>();
 		for (Resource<?> resource : ((Resources<Resource<?>>) resources).getContent()) {
 			PersistentEntityResource<?> persistentEntityResource = (PersistentEntityResource<?>) resource;
-			links.add(resourceLink(repoRequest, persistentEntityResource));
+			elementLinks.add(resourceLink(repoRequest, persistentEntityResource));
 		}
 		if (resources instanceof PagedResources) {
-			return new PagedResources(Collections.emptyList(), ((PagedResources) resources).getMetadata(), links);
+			return new PagedResources<Link>(elementLinks, ((PagedResources) resources).getMetadata(), resources.getLinks());
 		} else {
-			return new Resources(Collections.emptyList(), links);
+			return new Resources<Link>(elementLinks, resources.getLinks());
+		}
+	}
+
+	/**
+	 * Answers whether the collection resource exists by counting its entities rather than loading and rendering them.
+	 * The count is served from the query result cache if it is cacheable, in which case its freshness is sent along.
+	 */
+	@RequestMapping(
+			value = BASE_MAPPING,
+			method = RequestMethod.HEAD
+	)
+	@ResponseBody
+	public ResponseEntity<?> headEntities(RepositoryRestRequest repoRequest) throws ResourceNotFoundException {
+		RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+		if (null == repoMethodInvoker || !(repoMethodInvoker.hasFindAllPageable()
+				|| repoMethodInvoker.hasFindAllSorted()
+				|| repoMethodInvoker.hasFindAll())) {
+			throw new ResourceNotFoundException();
+		}
+		HttpHeaders headers = new HttpHeaders();
+		if (repoMethodInvoker.hasCount()) {
+			addFreshness(headers, repoMethodInvoker.countCached());
 		}
+		return new ResponseEntity<Object>(headers, HttpStatus.OK);
 	}
 
 	@SuppressWarnings({"unchecked"})
@@ -166,37 +383,20 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
 	)
 	@ResponseBody
 	public ResponseEntity<Resource<?>> createNewEntity(RepositoryRestRequest repoRequest,
-																										 PersistentEntityResource<?> incoming) {
-		RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+																										 final PersistentEntityResource<?> incoming) {
+		final RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
 		if (null == repoMethodInvoker || !repoMethodInvoker.hasSaveOne()) {
 			throw new NoSuchMethodError();
 		}
 
-		applicationContext.publishEvent(new BeforeCreateEvent(incoming.getContent()));
-		Object obj = repoMethodInvoker.save(incoming.getContent());
-		applicationContext.publishEvent(new AfterCreateEvent(obj));
-
-		BeanWrapper wrapper = BeanWrapper.create(obj, conversionService);
-		Link selfLink = entityLinks.linkForSingleResource(
-				repoRequest.getPersistentEntity().getType(),
-				wrapper.getProperty(repoRequest.getPersistentEntity().getIdProperty())
-		).withSelfRel();
-		HttpHeaders headers = new HttpHeaders();
-		headers.setLocation(URI.create(selfLink.getHref()));
+		Object obj = executeInTransaction(new TransactionCallback<Object>() {
+			@Override
+			public Object doInTransaction(TransactionStatus status) {
+				return createEntity(repoMethodInvoker, incoming.getContent());
+			}
+		});
 
-		if (config.isReturnBodyOnCreate()) {
-			return resourceResponse(
-					headers,
-					new PersistentEntityResource<Object>(
-							repoRequest.getPersistentEntity(),
-							obj,
-							selfLink
-					).setBaseUri(repoRequest.getBaseUri()),
-					HttpStatus.CREATED
-			);
-		} else {
-			return resourceResponse(headers, null, HttpStatus.CREATED);
-		}
+		return createdResponse(repoRequest, obj);
 	}
 
 	@SuppressWarnings({"unchecked"})
@@ -210,8 +410,8 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
 			}
 	)
 	@ResponseBody
-	public Resource<?> getSingleEntity(RepositoryRestRequest repoRequest,
-																		 @PathVariable String id) throws ResourceNotFoundException {
+	public ResponseEntity<Resource<?>> getSingleEntity(RepositoryRestRequest repoRequest,
+																										 @PathVariable String id) throws ResourceNotFoundException {
 		RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
 		if (null == repoMethodInvoker || !repoMethodInvoker.hasFindOne()) {
 			throw new ResourceNotFoundException();
@@ -235,9 +435,68 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
 				wrapper.getProperty(repoRequest.getPersistentEntity().getIdProperty())
 		).withSelfRel();
 		per.add(selfLink);
-		return per;
+
+		HttpHeaders headers = new HttpHeaders();
+		if (repoRequest.getPersistentEntity().hasVersionProperty()) {
+			addETag(headers, wrapper.getProperty(repoRequest.getPersistentEntity().getVersionProperty()));
+		}
+		return resourceResponse(headers, per, HttpStatus.OK);
 	}
 
+	/**
+	 * Answers whether the entity exists without loading it where possible: versioned JPA entities only have their version
+	 * looked up to send the same {@literal ETag} as {@literal GET}, other entities are checked with {@literal exists}.
+	 */
+	@SuppressWarnings({"unchecked"})
+	@RequestMapping(
+			value = BASE_MAPPING + "/{id}",
+			method = RequestMethod.HEAD
+	)
+	@ResponseBody
+	public ResponseEntity<?> headSingleEntity(RepositoryRestRequest repoRequest,
+																						@PathVariable String id) throws ResourceNotFoundException {
+		RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+		if (null == repoMethodInvoker || !repoMethodInvoker.hasFindOne()) {
+			throw new ResourceNotFoundException();
+		}
+
+		PersistentEntity persistentEntity = repoRequest.getPersistentEntity();
+		Class<?> domainType = persistentEntity.getType();
+		Serializable idVal = conversionService.convert(id, (Class<? extends Serializable>) persistentEntity.getIdProperty()
+																																																	 .getType());
+		HttpHeaders headers = new HttpHeaders();
+		if (persistentEntity.hasVersionProperty()
+				&& null != idQueries
+				&& idQueries.supports(repoRequest.getRepositoryInformation())) {
+			List<Object> version = idQueries.findAttribute(domainType,
+																										 idVal,
+																										 persistentEntity.getVersionProperty().getName());
+			if (version.isEmpty()) {
+				throw new ResourceNotFoundException();
+			}
+			addETag(headers, version.get(0));
+		} else if (repoMethodInvoker.hasExists()) {
+			if (!repoMethodInvoker.exists(idVal)) {
+				throw new ResourceNotFoundException();
+			}
+		} else {
+			Object domainObj = repoMethodInvoker.findOne(idVal);
+			if (null == domainObj) {
+				throw new ResourceNotFoundException();
+			}
+			if (persistentEntity.hasVersionProperty()) {
+				addETag(headers, BeanWrapper.create(domainObj, conversionService)
+																		.getProperty(persistentEntity.getVersionProperty()));
+			}
+		}
+		return new ResponseEntity<Object>(headers, HttpStatus.OK);
+	}
+
+	/**
+	 * Replace the state of an entity, or create it under the given id if it doesn't exist yet. The incoming state is
+	 * merged into the loaded entity, and that entity is what {@link RepositoryEventType#BEFORE_SAVE} handlers receive, as
+	 * with PATCH, so changes they make are saved and they see the id and any properties the request left out.
+	 */
 	@SuppressWarnings({"unchecked"})
 	@RequestMapping(
 			value = BASE_MAPPING + "/{id}",
@@ -251,50 +510,100 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
 			}
 	)
 	@ResponseBody
-	public ResponseEntity<Resource<?>> updateEntity(RepositoryRestRequest repoRequest,
-																									PersistentEntityResource<?> incoming,
-																									@PathVariable String id) throws ResourceNotFoundException {
-		RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+	public ResponseEntity<Resource<?>> updateEntity(final RepositoryRestRequest repoRequest,
+																									final PersistentEntityResource<?> incoming,
+																									@PathVariable final String id) throws ResourceNotFoundException {
+		final RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
 		if (null == repoMethodInvoker || !repoMethodInvoker.hasSaveOne() || !repoMethodInvoker.hasFindOne()) {
 			throw new NoSuchMethodError();
 		}
 
-		Object domainObj = domainClassConverter.convert(
-				id,
-				STRING_TYPE,
-				TypeDescriptor.valueOf(repoRequest.getPersistentEntity().getType())
-		);
-		if (null == domainObj) {
-			BeanWrapper incomingWrapper = BeanWrapper.create(incoming.getContent(), conversionService);
-			PersistentProperty idProp = incoming.getPersistentEntity().getIdProperty();
-			incomingWrapper.setProperty(idProp, conversionService.convert(id, idProp.getType()));
-			return createNewEntity(repoRequest, incoming);
-		}
+		SaveResult result = executeInTransaction(new TransactionCallback<SaveResult>() {
+			@Override
+			public SaveResult doInTransaction(TransactionStatus status) {
+				Object domainObj = domainClassConverter.convert(
+						id,
+						STRING_TYPE,
+						TypeDescriptor.valueOf(repoRequest.getPersistentEntity().getType())
+				);
+				if (null == domainObj) {
+					BeanWrapper incomingWrapper = BeanWrapper.create(incoming.getContent(), conversionService);
+					PersistentProperty idProp = incoming.getPersistentEntity().getIdProperty();
+					incomingWrapper.setProperty(idProp, conversionService.convert(id, idProp.getType()));
+					return new SaveResult(createEntity(repoMethodInvoker, incoming.getContent()), true);
+				}
 
-		domainObjectMerger.merge(incoming.getContent(), domainObj);
+				if (null != incoming.getPresentProperties()) {
+					domainObjectMerger.merge(incoming.getContent(), domainObj, incoming.getPresentProperties());
+				} else {
+					domainObjectMerger.merge(incoming.getContent(), domainObj);
+				}
 
-		applicationContext.publishEvent(new BeforeSaveEvent(incoming.getContent()));
-		Object obj = repoMethodInvoker.save(domainObj);
-		applicationContext.publishEvent(new AfterSaveEvent(obj));
+				publishEvent(RepositoryEventType.BEFORE_SAVE, domainObj, null);
+				Object obj = repoMethodInvoker.save(domainObj);
+				publishEvent(RepositoryEventType.AFTER_SAVE, obj, null);
+				return new SaveResult(obj, false);
+			}
+		});
+		if (result.created) {
+			return createdResponse(repoRequest, result.entity);
+		}
 
-		if (config.isReturnBodyOnUpdate()) {
-			PersistentEntityResource per = PersistentEntityResource.wrap(repoRequest.getPersistentEntity(),
-																																	 obj,
-																																	 repoRequest.getBaseUri());
-			BeanWrapper wrapper = BeanWrapper.create(obj, conversionService);
-			Link selfLink = entityLinks.linkForSingleResource(repoRequest.getPersistentEntity().getType(),
-																												wrapper.getProperty(repoRequest.getPersistentEntity()
-																																											 .getIdProperty()))
-																 .withSelfRel();
-			per.add(selfLink);
-			return resourceResponse(null,
-															per,
-															HttpStatus.OK);
-		} else {
-			return resourceResponse(null,
-															null,
-															HttpStatus.NO_CONTENT);
+		return updatedResponse(repoRequest, result.entity);
+	}
+
+	/**
+	 * Apply a JSON Merge Patch document to an entity. The request body is read straight onto the loaded entity, so only
+	 * the properties present in the document are changed and no intermediate instance is created.
+	 */
+	@SuppressWarnings({"unchecked"})
+	@RequestMapping(
+			value = BASE_MAPPING + "/{id}",
+			consumes = {
+					"application/json",
+					"application/merge-patch+json"
+			},
+			produces = {
+					"application/json",
+					"text/uri-list"
+			}
+	)
+	@RequestMethodName("PATCH")
+	@ResponseBody
+	public ResponseEntity<Resource<?>> patchEntity(final RepositoryRestRequest repoRequest,
+																								 final ServletServerHttpRequest request,
+																								 @PathVariable final String id) throws ResourceNotFoundException {
+		final RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+		if (null == repoMethodInvoker || !repoMethodInvoker.hasSaveOne() || !repoMethodInvoker.hasFindOne()) {
+			throw new NoSuchMethodError();
 		}
+
+		Object obj = executeInTransaction(new TransactionCallback<Object>() {
+			@Override
+			public Object doInTransaction(TransactionStatus status) {
+				Object domainObj = domainClassConverter.convert(
+						id,
+						STRING_TYPE,
+						TypeDescriptor.valueOf(repoRequest.getPersistentEntity().getType())
+				);
+				if (null == domainObj) {
+					throw new ResourceNotFoundException();
+				}
+
+				try {
+					domainObj = objectMapper.readerForUpdating(domainObj).readValue(request.getBody());
+				} catch (IOException e) {
+					throw new HttpMessageNotReadableException("Could not read JSON: " + e.getMessage(), e);
+				}
+
+				publishEvent(RepositoryEventType.BEFORE_SAVE, domainObj, null);
+				Object obj = repoMethodInvoker.save(domainObj);
+				publishEvent(RepositoryEventType.AFTER_SAVE, obj, null);
+				return obj;
+			}
+		});
+
+		return updatedResponse(repoRequest, obj);
 	}
 
 	@SuppressWarnings({"unchecked"})
@@ -316,18 +625,18 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
 			throw new HttpRequestMethodNotSupportedException("DELETE");
 		}
 
-		final Object domainObj = domainClassConverter.convert(id,
-																													STRING_TYPE,
-																													TypeDescriptor.valueOf(repoRequest.getPersistentEntity()
-																																														.getType()));
-		if (null == domainObj) {
-			throw new ResourceNotFoundException();
-		}
-
-		applicationContext.publishEvent(new BeforeDeleteEvent(domainObj));
-		TransactionCallbackWithoutResult callback = new TransactionCallbackWithoutResult() {
+		executeInTransaction(new TransactionCallbackWithoutResult() {
 			@Override
 			protected void doInTransactionWithoutResult(TransactionStatus status) {
+				Object domainObj = domainClassConverter.convert(id,
+																												STRING_TYPE,
+																												TypeDescriptor.valueOf(repoRequest.getPersistentEntity()
+																																													.getType()));
+				if (null == domainObj) {
+					throw new ResourceNotFoundException();
+				}
+
+				publishEvent(RepositoryEventType.BEFORE_DELETE, domainObj, null);
 				if (repoMethodInvoker.hasDeleteOneById()) {
 					Class<? extends Serializable> idType = (Class<? extends Serializable>) repoRequest.getPersistentEntity()
 																																														.getIdProperty()
@@ -337,16 +646,113 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
 				} else if (repoMethodInvoker.hasDeleteOne()) {
 					repoMethodInvoker.delete(domainObj);
 				}
+				publishEvent(RepositoryEventType.AFTER_DELETE, domainObj, null);
 			}
-		};
-		if (null != txTmpl) {
-			txTmpl.execute(callback);
+		});
+
+		return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+	}
+
+	/**
+	 * Save a new entity, emitting the {@literal beforeCreate} and {@literal afterCreate} events around it.
+	 */
+	private Object createEntity(RepositoryMethodInvoker repoMethodInvoker, Object entity) {
+		publishEvent(RepositoryEventType.BEFORE_CREATE, entity, null);
+		Object obj = repoMethodInvoker.save(entity);
+		publishEvent(RepositoryEventType.AFTER_CREATE, obj, null);
+		return obj;
+	}
+
+	@SuppressWarnings({"unchecked"})
+	private ResponseEntity<Resource<?>> updatedResponse(RepositoryRestRequest repoRequest, Object obj) {
+		if (config.isReturnBodyOnUpdate()) {
+			PersistentEntityResource per = PersistentEntityResource.wrap(repoRequest.getPersistentEntity(),
+																																	 obj,
+																																	 repoRequest.getBaseUri());
+			BeanWrapper wrapper = BeanWrapper.create(obj, conversionService);
+			Link selfLink = entityLinks.linkForSingleResource(repoRequest.getPersistentEntity().getType(),
+																												wrapper.getProperty(repoRequest.getPersistentEntity()
+																																											 .getIdProperty()))
+																 .withSelfRel();
+			per.add(selfLink);
+			return resourceResponse(null,
+															per,
+															HttpStatus.OK);
 		} else {
-			callback.doInTransaction(null);
+			return resourceResponse(null,
+															null,
+															HttpStatus.NO_CONTENT);
 		}
-		applicationContext.publishEvent(new AfterDeleteEvent(domainObj));
+	}
 
-		return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+	@SuppressWarnings({"unchecked"})
+	private ResponseEntity<Resource<?>> createdResponse(RepositoryRestRequest repoRequest, Object obj) {
+		BeanWrapper wrapper = BeanWrapper.create(obj, conversionService);
+		Link selfLink = entityLinks.linkForSingleResource(
+				repoRequest.getPersistentEntity().getType(),
+				wrapper.getProperty(repoRequest.getPersistentEntity().getIdProperty())
+		).withSelfRel();
+		HttpHeaders headers = new HttpHeaders();
+		headers.setLocation(URI.create(selfLink.getHref()));
+
+		if (config.isReturnBodyOnCreate()) {
+			return resourceResponse(
+					headers,
+					new PersistentEntityResource<Object>(
+							repoRequest.getPersistentEntity(),
+							obj,
+							selfLink
+					).setBaseUri(repoRequest.getBaseUri()),
+					HttpStatus.CREATED
+			);
+		} else {
+			return resourceResponse(headers, null, HttpStatus.CREATED);
+		}
+	}
+
+	/**
+	 * The entity saved by a {@literal PUT} and whether it had to be created.
+	 */
+	private static class SaveResult {
+		final Object  entity;
+		final boolean created;
+
+		SaveResult(Object entity, boolean created) {
+			this.entity = entity;
+			this.created = created;
+		}
+	}
+
+	/**
+	 * A JSON schema serialized once, along with the strong {@literal ETag} derived from its content.
+	 */
+	private static class SchemaDocument {
+		final byte[] body;
+		final String etag;
+
+		SchemaDocument(byte[] body) {
+			this.body = body;
+			this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+		}
+
+		/**
+		 * Whether any of the entity tags listed in the given {@literal If-None-Match} headers is {@literal *} or this
+		 * schema's {@literal ETag}. As {@literal If-None-Match} uses the weak comparison, weak tags match as well.
+		 */
+		boolean isMatchedBy(Enumeration<?> ifNoneMatch) {
+			while (ifNoneMatch.hasMoreElements()) {
+				for (String tag : StringUtils.commaDelimitedListToStringArray(String.valueOf(ifNoneMatch.nextElement()))) {
+					tag = tag.trim();
+					if (tag.startsWith("W/")) {
+						tag = tag.substring(2);
+					}
+					if ("*".equals(tag) || etag.equals(tag)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
 	}
 
 }
@@ -3,6 +3,8 @@ package org.springframework.data.rest.webmvc;
 import static org.springframework.data.rest.core.util.UriUtils.*;
 import static org.springframework.data.rest.repository.support.ResourceMappingUtils.*;
 
+import java.io.IOException;
+import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -15,23 +17,26 @@ import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.support.DomainClassConverter;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.config.ResourceMapping;
 import org.springframework.data.rest.core.util.Function;
 import org.springframework.data.rest.repository.PersistentEntityResource;
-import org.springframework.data.rest.repository.context.AfterLinkDeleteEvent;
-import org.springframework.data.rest.repository.context.AfterLinkSaveEvent;
-import org.springframework.data.rest.repository.context.BeforeLinkDeleteEvent;
-import org.springframework.data.rest.repository.context.BeforeLinkSaveEvent;
+import org.springframework.data.rest.repository.context.RepositoryEventType;
 import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
+import org.springframework.data.rest.webmvc.convert.UriListReader;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -131,6 +136,30 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
 		return resourceResponse(headers, responseResource, HttpStatus.OK);
 	}
 
+	/**
+	 * Answers whether the property is set without rendering the entities it references.
+	 */
+	@RequestMapping(
+			value = BASE_MAPPING,
+			method = RequestMethod.HEAD
+	)
+	@ResponseBody
+	public ResponseEntity<?> headPropertyReference(RepositoryRestRequest repoRequest,
+	                                               @PathVariable String id,
+	                                               @PathVariable String property)
+			throws ResourceNotFoundException, NoSuchMethodException {
+		Function<ReferencedProperty, Resource<?>> handler = new Function<ReferencedProperty, Resource<?>>() {
+			@Override public Resource<?> apply(ReferencedProperty prop) {
+				if(null == prop.propertyValue) {
+					throw new ResourceNotFoundException();
+				}
+				return EMPTY_RESOURCE;
+			}
+		};
+		doWithReferencedProperty(repoRequest, id, property, handler);
+		return new ResponseEntity<Object>(HttpStatus.OK);
+	}
+
 	@RequestMapping(
 			value = BASE_MAPPING,
 			method = RequestMethod.DELETE
@@ -158,17 +187,17 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
 					prop.wrapper.setProperty(prop.property, null);
 				}
 
-				applicationContext.publishEvent(new BeforeLinkDeleteEvent(prop.wrapper.getBean(), prop.propertyValue));
+				publishEvent(RepositoryEventType.BEFORE_LINK_DELETE, prop.wrapper.getBean(), prop.propertyValue);
 				Object result = repoMethodInvoker.save(prop.wrapper.getBean());
-				applicationContext.publishEvent(new AfterLinkDeleteEvent(result, prop.propertyValue));
+				publishEvent(RepositoryEventType.AFTER_LINK_DELETE, result, prop.propertyValue);
 				return null;
 			}
 		};
 		try {
-			doWithReferencedProperty(repoRequest,
-			                         id,
-			                         property,
-			                         handler);
+			doWithReferencedPropertyInTransaction(repoRequest,
+			                                      id,
+			                                      property,
+			                                      handler);
 		} catch(IllegalArgumentException iae) {
 			if(iae.getCause() instanceof HttpRequestMethodNotSupportedException) {
 				throw (HttpRequestMethodNotSupportedException)iae.getCause();
@@ -309,8 +338,7 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
 			},
 			consumes = {
 					"application/json",
-					"application/x-spring-data-compact+json",
-					"text/uri-list"
+					"application/x-spring-data-compact+json"
 			}
 	)
 	@ResponseBody
@@ -325,49 +353,77 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
 		}
 		Function<ReferencedProperty, Resource<?>> handler = new Function<ReferencedProperty, Resource<?>>() {
 			@Override public Resource<?> apply(ReferencedProperty prop) {
-				if(prop.property.isCollectionLike()) {
+				saveReferences(repoRequest, repoMethodInvoker, prop, incoming.getLinks());
+				return null;
+			}
+		};
+		doWithReferencedPropertyInTransaction(repoRequest,
+		                                      id,
+		                                      property,
+		                                      handler);
+		return resourceResponse(null, EMPTY_RESOURCE, HttpStatus.CREATED);
+	}
+
+	/**
+	 * Like {@link #createPropertyReference(RepositoryRestRequest, Resource, String, String)} but for a {@literal
+	 * text/uri-list}, which might be very long: the URIs of a collection are consumed in chunks and the entities of each
+	 * chunk are loaded with a single query.
+	 */
+	@RequestMapping(
+			value = BASE_MAPPING,
+			method = {
+					RequestMethod.POST,
+					RequestMethod.PUT
+			},
+			consumes = {
+					"text/uri-list"
+			}
+	)
+	@ResponseBody
+	public ResponseEntity<Resource<?>> createPropertyReferenceFromUriList(final RepositoryRestRequest repoRequest,
+	                                                                      final @RequestBody UriListReader incoming,
+	                                                                      @PathVariable String id,
+	                                                                      @PathVariable String property)
+			throws ResourceNotFoundException, NoSuchMethodException {
+		final RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+		if(!repoMethodInvoker.hasSaveOne()) {
+			throw new NoSuchMethodException();
+		}
+		Function<ReferencedProperty, Resource<?>> handler = new Function<ReferencedProperty, Resource<?>>() {
+			@Override public Resource<?> apply(ReferencedProperty prop) {
+				try {
+					if(!prop.property.isCollectionLike()) {
+						List<Link> links = new ArrayList<Link>();
+						for(String uri : incoming.readAll()) {
+							links.add(new Link(uri));
+						}
+						saveReferences(repoRequest, repoMethodInvoker, prop, links);
+						return null;
+					}
+
 					Collection coll = new ArrayList();
 					if("POST".equals(repoRequest.getRequest().getMethod())) {
 						coll.addAll((Collection)prop.propertyValue);
 					}
-					for(Link l : incoming.getLinks()) {
-						Object propVal = loadPropertyValue(prop.propertyType, l.getHref());
-						coll.add(propVal);
+					List<String> uris;
+					while(!(uris = incoming.read()).isEmpty()) {
+						coll.addAll(loadPropertyValues(prop.propertyType, uris));
 					}
 					prop.wrapper.setProperty(prop.property, coll);
-				} else if(prop.property.isMap()) {
-					Map m = new HashMap();
-					if("POST".equals(repoRequest.getRequest().getMethod())) {
-						m.putAll((Map)prop.propertyValue);
-					}
-					for(Link l : incoming.getLinks()) {
-						Object propVal = loadPropertyValue(prop.propertyType, l.getHref());
-						m.put(l.getRel(), propVal);
-					}
-					prop.wrapper.setProperty(prop.property, m);
-				} else {
-					if("POST".equals(repoRequest.getRequest().getMethod())) {
-						throw new IllegalStateException(
-								"Cannot POST a reference to this singular property since the property type is not a List or a Map.");
-					}
-					if(incoming.getLinks().size() != 1) {
-						throw new IllegalArgumentException(
-								"Must send only 1 link to update a property reference that isn't a List or a Map.");
-					}
-					Object propVal = loadPropertyValue(prop.propertyType, incoming.getLinks().get(0).getHref());
-					prop.wrapper.setProperty(prop.property, propVal);
+				} catch(IOException e) {
+					throw new HttpMessageNotReadableException("Could not read text/uri-list: " + e.getMessage(), e);
 				}
 
-				applicationContext.publishEvent(new BeforeLinkSaveEvent(prop.wrapper.getBean(), prop.propertyValue));
+				publishEvent(RepositoryEventType.BEFORE_LINK_SAVE, prop.wrapper.getBean(), prop.propertyValue);
 				Object result = repoMethodInvoker.save(prop.wrapper.getBean());
-				applicationContext.publishEvent(new AfterLinkSaveEvent(result, prop.propertyValue));
+				publishEvent(RepositoryEventType.AFTER_LINK_SAVE, result, prop.propertyValue);
 				return null;
 			}
 		};
-		doWithReferencedProperty(repoRequest,
-		                         id,
-		                         property,
-		                         handler);
+		doWithReferencedPropertyInTransaction(repoRequest,
+		                                      id,
+		                                      property,
+		                                      handler);
 		return resourceResponse(null, EMPTY_RESOURCE, HttpStatus.CREATED);
 	}
 
@@ -415,16 +471,16 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
 					prop.wrapper.setProperty(prop.property, null);
 				}
 
-				applicationContext.publishEvent(new BeforeLinkDeleteEvent(prop.wrapper.getBean(), prop.propertyValue));
+				publishEvent(RepositoryEventType.BEFORE_LINK_DELETE, prop.wrapper.getBean(), prop.propertyValue);
 				Object result = repoMethodInvoker.save(prop.wrapper.getBean());
-				applicationContext.publishEvent(new AfterLinkDeleteEvent(result, prop.propertyValue));
+				publishEvent(RepositoryEventType.AFTER_LINK_DELETE, result, prop.propertyValue);
 				return null;
 			}
 		};
-		doWithReferencedProperty(repoRequest,
-		                         id,
-		                         property,
-		                         handler);
+		doWithReferencedPropertyInTransaction(repoRequest,
+		                                      id,
+		                                      property,
+		                                      handler);
 
 		return resourceResponse(null, EMPTY_RESOURCE, HttpStatus.NO_CONTENT);
 	}
@@ -444,6 +500,79 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
 		                                    TypeDescriptor.valueOf(type));
 	}
 
+	/**
+	 * Load the entities the given URIs point to. Uses a single {@link CrudRepository#findAll(Iterable)} if the
+	 * repository of the type supports it and {@link #loadPropertyValue(Class, String)} for every URI otherwise.
+	 *
+	 * @return The entities in the order of the URIs, {@literal null} for URIs pointing to entities that don't exist.
+	 */
+	private List<Object> loadPropertyValues(Class<?> type, List<String> hrefs) {
+		List<Object> values = new ArrayList<Object>(hrefs.size());
+		Object repository = repositories.getRepositoryFor(type);
+		if(!(repository instanceof CrudRepository)) {
+			for(String href : hrefs) {
+				values.add(loadPropertyValue(type, href));
+			}
+			return values;
+		}
+
+		EntityInformation<Object, Serializable> entityInfo = repositories.getEntityInformationFor(type);
+		List<Serializable> ids = new ArrayList<Serializable>(hrefs.size());
+		for(String href : hrefs) {
+			ids.add(conversionService.convert(href.substring(href.lastIndexOf('/') + 1), entityInfo.getIdType()));
+		}
+		Map<Serializable, Object> entitiesById = new HashMap<Serializable, Object>();
+		for(Object entity : ((CrudRepository<Object, Serializable>)repository).findAll(ids)) {
+			entitiesById.put(entityInfo.getId(entity), entity);
+		}
+		for(Serializable id : ids) {
+			values.add(entitiesById.get(id));
+		}
+		return values;
+	}
+
+	private void saveReferences(RepositoryRestRequest repoRequest,
+	                            RepositoryMethodInvoker repoMethodInvoker,
+	                            ReferencedProperty prop,
+	                            List<Link> links) {
+		if(prop.property.isCollectionLike()) {
+			Collection coll = new ArrayList();
+			if("POST".equals(repoRequest.getRequest().getMethod())) {
+				coll.addAll((Collection)prop.propertyValue);
+			}
+			for(Link l : links) {
+				Object propVal = loadPropertyValue(prop.propertyType, l.getHref());
+				coll.add(propVal);
+			}
+			prop.wrapper.setProperty(prop.property, coll);
+		} else if(prop.property.isMap()) {
+			Map m = new HashMap();
+			if("POST".equals(repoRequest.getRequest().getMethod())) {
+				m.putAll((Map)prop.propertyValue);
+			}
+			for(Link l : links) {
+				Object propVal = loadPropertyValue(prop.propertyType, l.getHref());
+				m.put(l.getRel(), propVal);
+			}
+			prop.wrapper.setProperty(prop.property, m);
+		} else {
+			if("POST".equals(repoRequest.getRequest().getMethod())) {
+				throw new IllegalStateException(
+						"Cannot POST a reference to this singular property since the property type is not a List or a Map.");
+			}
+			if(links.size() != 1) {
+				throw new IllegalArgumentException(
+						"Must send only 1 link to update a property reference that isn't a List or a Map.");
+			}
+			Object propVal = loadPropertyValue(prop.propertyType, links.get(0).getHref());
+			prop.wrapper.setProperty(prop.property, propVal);
+		}
+
+		publishEvent(RepositoryEventType.BEFORE_LINK_SAVE, prop.wrapper.getBean(), prop.propertyValue);
+		Object result = repoMethodInvoker.save(prop.wrapper.getBean());
+		publishEvent(RepositoryEventType.AFTER_LINK_SAVE, result, prop.propertyValue);
+	}
+
 	private Resource<?> doWithReferencedProperty(RepositoryRestRequest repoRequest,
 	                                             String id,
 	                                             String propertyPath,
@@ -454,6 +583,34 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
 			throw new NoSuchMethodException();
 		}
 
+		return applyToReferencedProperty(repoRequest, id, propertyPath, handler);
+	}
+
+	/**
+	 * Like {@link #doWithReferencedProperty(RepositoryRestRequest, String, String, Function)} but loads the entity and
+	 * applies the handler, which emits the events and saves the entity, in a single transaction.
+	 */
+	private Resource<?> doWithReferencedPropertyInTransaction(final RepositoryRestRequest repoRequest,
+	                                                          final String id,
+	                                                          final String propertyPath,
+	                                                          final Function<ReferencedProperty, Resource<?>> handler)
+			throws ResourceNotFoundException, NoSuchMethodException {
+		RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+		if(!repoMethodInvoker.hasFindOne()) {
+			throw new NoSuchMethodException();
+		}
+
+		return executeInTransaction(new TransactionCallback<Resource<?>>() {
+			@Override public Resource<?> doInTransaction(TransactionStatus status) {
+				return applyToReferencedProperty(repoRequest, id, propertyPath, handler);
+			}
+		});
+	}
+
+	private Resource<?> applyToReferencedProperty(RepositoryRestRequest repoRequest,
+	                                              String id,
+	                                              String propertyPath,
+	                                              Function<ReferencedProperty, Resource<?>> handler) {
 		Object domainObj = domainClassConverter.convert(id,
 		                                                STRING_TYPE,
 		                                                TypeDescriptor.valueOf(repoRequest.getPersistentEntity()
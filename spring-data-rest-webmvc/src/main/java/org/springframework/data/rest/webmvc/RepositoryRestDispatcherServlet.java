@@ -1,12 +1,18 @@
 package org.springframework.data.rest.webmvc;
 
+import java.io.IOException;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
 import org.springframework.web.servlet.DispatcherServlet;
 
 /**
- * Special {@link DispatcherServlet} subclass that certain exporter components can recognize.
+ * Special {@link DispatcherServlet} subclass that certain exporter components can recognize. Also dispatches {@literal
+ * PATCH} requests, which the plain {@link DispatcherServlet} rejects.
  *
  * @author Jon Brisbin
  */
@@ -24,6 +30,19 @@ public class RepositoryRestDispatcherServlet extends DispatcherServlet {
 		configure();
 	}
 
+	/**
+	 * {@link javax.servlet.http.HttpServlet} answers methods it does not know, like {@literal PATCH}, with {@literal 501
+	 * Not Implemented}. Hand those to the handler mappings as well.
+	 */
+	@Override protected void service(HttpServletRequest request,
+	                                 HttpServletResponse response) throws ServletException, IOException {
+		if("PATCH".equalsIgnoreCase(request.getMethod())) {
+			processRequest(request, response);
+		} else {
+			super.service(request, response);
+		}
+	}
+
 	private void configure() {
 		setContextClass(AnnotationConfigWebApplicationContext.class);
 		setContextConfigLocation(RepositoryRestMvcConfiguration.class.getName());
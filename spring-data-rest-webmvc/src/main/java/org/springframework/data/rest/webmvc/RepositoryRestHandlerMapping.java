@@ -3,6 +3,7 @@ package org.springframework.data.rest.webmvc;
 import static org.springframework.data.rest.repository.support.ResourceMappingUtils.*;
 import static org.springframework.util.StringUtils.*;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import javax.servlet.http.HttpServletRequest;
@@ -10,14 +11,18 @@ import javax.servlet.http.HttpServletRequestWrapper;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.config.ResourceMapping;
+import org.springframework.data.rest.webmvc.annotation.RequestMethodName;
 import org.springframework.data.rest.webmvc.support.JpaHelper;
+import org.springframework.data.rest.webmvc.support.RequestMethodNameRequestCondition;
 import org.springframework.http.MediaType;
 import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.condition.RequestCondition;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 /**
@@ -101,6 +106,11 @@ public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 				|| RepositorySearchController.class.isAssignableFrom(beanType));
 	}
 
+	@Override protected RequestCondition<?> getCustomMethodCondition(Method method) {
+		RequestMethodName methodName = AnnotationUtils.findAnnotation(method, RequestMethodName.class);
+		return (null != methodName ? new RequestMethodNameRequestCondition(methodName.value()) : null);
+	}
+
 	@Override protected void extendInterceptors(List<Object> interceptors) {
 		if(null != jpaHelper) {
 			for(Object o : jpaHelper.getInterceptors()) {
@@ -41,7 +41,8 @@ class RepositoryRestRequest {
 	                             HttpServletRequest request,
 	                             PagingAndSorting pagingAndSorting,
 	                             URI baseUri,
-	                             RepositoryInformation repoInfo) {
+	                             RepositoryInformation repoInfo,
+	                             RepositoryMethodInvoker repoMethodInvoker) {
 		this.config = config;
 		this.request = request;
 		this.pagingAndSorting = pagingAndSorting;
@@ -58,7 +59,7 @@ class RepositoryRestRequest {
 			this.repoLink = new Link(buildUri(baseUri, repoMapping.getPath()).toString(), repoMapping.getRel());
 			this.repository = repositories.getRepositoryFor(repoInfo.getDomainType());
 			this.persistentEntity = repositories.getPersistentEntity(repoInfo.getDomainType());
-			this.repoMethodInvoker = new RepositoryMethodInvoker(repository, repoInfo);
+			this.repoMethodInvoker = repoMethodInvoker;
 			this.entityMapping = getResourceMapping(config, persistentEntity);
 		}
 	}
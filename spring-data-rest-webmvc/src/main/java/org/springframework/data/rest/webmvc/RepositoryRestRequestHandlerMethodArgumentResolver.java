@@ -1,6 +1,8 @@
 package org.springframework.data.rest.webmvc;
 
 import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +11,8 @@ import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.repository.PagingAndSorting;
+import org.springframework.data.rest.repository.invoke.QueryResultCache;
+import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -29,6 +33,10 @@ public class RepositoryRestRequestHandlerMethodArgumentResolver implements Handl
   private PagingAndSortingMethodArgumentResolver             pagingAndSortingResolver;
   @Autowired
   private BaseUriMethodArgumentResolver                      baseUriResolver;
+  @Autowired(required = false)
+  private QueryResultCache                                   queryResultCache;
+
+  private final ConcurrentMap<Class<?>, RepositoryMethodInvoker> invokers = new ConcurrentHashMap<Class<?>, RepositoryMethodInvoker>();
 
   @Override public boolean supportsParameter(MethodParameter parameter) {
     return RepositoryRestRequest.class.isAssignableFrom(parameter.getParameterType());
@@ -57,7 +65,24 @@ public class RepositoryRestRequestHandlerMethodArgumentResolver implements Handl
                                      webRequest.getNativeRequest(HttpServletRequest.class),
                                      pagingAndSorting,
                                      baseUri,
-                                     repoInfo);
+                                     repoInfo,
+                                     getInvoker(repoInfo));
+  }
+
+  private RepositoryMethodInvoker getInvoker(RepositoryInformation repoInfo) {
+    if(null == repoInfo) {
+      return null;
+    }
+    RepositoryMethodInvoker invoker = invokers.get(repoInfo.getRepositoryInterface());
+    if(null == invoker) {
+      invoker = new RepositoryMethodInvoker(repositories.getRepositoryFor(repoInfo.getDomainType()), repoInfo)
+          .setResultCache(queryResultCache);
+      RepositoryMethodInvoker existing = invokers.putIfAbsent(repoInfo.getRepositoryInterface(), invoker);
+      if(null != existing) {
+        invoker = existing;
+      }
+    }
+    return invoker;
   }
 
 }
@@ -1,29 +1,35 @@
 package org.springframework.data.rest.webmvc;
 
-import static org.springframework.data.rest.repository.support.ResourceMappingUtils.*;
-
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.DomainClassConverter;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.config.RepositoryRestConfiguration;
-import org.springframework.data.rest.config.ResourceMapping;
 import org.springframework.data.rest.repository.PagingAndSorting;
+import org.springframework.data.rest.repository.TemplatedResources;
+import org.springframework.data.rest.repository.invoke.ParameterBinder;
+import org.springframework.data.rest.repository.invoke.QueryResultCache;
 import org.springframework.data.rest.repository.invoke.RepositoryMethod;
-import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -34,7 +40,10 @@ import org.springframework.web.bind.annotation.ResponseBody;
  */
 public class RepositorySearchController extends AbstractRepositoryRestController {
 
-	private static final String BASE_MAPPING = "/{repository}/search";
+	private static final String         BASE_MAPPING      = "/{repository}/search";
+	private static final TypeDescriptor STRING_ARRAY_TYPE = TypeDescriptor.valueOf(String[].class);
+
+	private final ConcurrentMap<Class<?>, RepositorySearchTable> searchTables = new ConcurrentHashMap<Class<?>, RepositorySearchTable>();
 	
 	public RepositorySearchController(Repositories repositories,
 	                                  RepositoryRestConfiguration config,
@@ -58,9 +67,8 @@ public class RepositorySearchController extends AbstractRepositoryRestController
 	)
 	@ResponseBody
 	public Resource<?> list(RepositoryRestRequest repoRequest) throws ResourceNotFoundException {
-		List<Link> links = new ArrayList<Link>();
-		links.addAll(queryMethodLinks(repoRequest.getBaseUri(),
-		                              repoRequest.getPersistentEntity().getType()));
+		RepositorySearchTable searchTable = getSearchTable(repoRequest);
+		List<Link> links = searchTable.getLinks(repoRequest.getBaseUri());
 		if(links.isEmpty()) {
 			throw new ResourceNotFoundException();
 		}
@@ -76,107 +84,188 @@ public class RepositorySearchController extends AbstractRepositoryRestController
 			}
 	)
 	@ResponseBody
-	public ResourceSupport query(final RepositoryRestRequest repoRequest,
-	                             @PathVariable String repository,
-	                             @PathVariable String method)
+	public ResponseEntity<ResourceSupport> query(final RepositoryRestRequest repoRequest,
+	                                             @PathVariable String repository,
+	                                             @PathVariable String method)
 			throws ResourceNotFoundException {
-		RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
-		if(repoMethodInvoker.getQueryMethods().isEmpty()) {
-			throw new ResourceNotFoundException();
+		HttpHeaders headers = new HttpHeaders();
+		ResourceSupport body;
+		if(repoRequest.getPagingAndSorting().isMetadataOnly()) {
+			body = countQuery(repoRequest, method, headers);
+		} else {
+			Object result = invokeQuery(repoRequest, method);
+			List<Link> links = new ArrayList<Link>();
+			addPageLinks(repoRequest, method, result, links);
+			body = resultToResources(repoRequest, result, links, null, null);
 		}
+		return new ResponseEntity<ResourceSupport>(body, headers, HttpStatus.OK);
+	}
 
-		ResourceMapping repoMapping = repoRequest.getRepositoryResourceMapping();
-		String methodName = repoMapping.getNameForPath(method);
-		RepositoryMethod repoMethod = repoMethodInvoker.getQueryMethods().get(methodName);
-		if(null == repoMethod) {
-			for(RepositoryMethod queryMethod : repoMethodInvoker.getQueryMethods().values()) {
-				String path = findPath(queryMethod.getMethod());
-				if(path.equals(method)) {
-					repoMethod = queryMethod;
-					break;
-				}
-			}
-			if(null == repoMethod) {
-				throw new ResourceNotFoundException();
+	@RequestMapping(
+			value = BASE_MAPPING +"/{method}",
+			method = RequestMethod.GET,
+			produces = {
+					"application/x-spring-data-compact+json"
 			}
+	)
+	@ResponseBody
+	public ResourceSupport queryCompact(RepositoryRestRequest repoRequest,
+	                                    @PathVariable String repository,
+	                                    @PathVariable String method)
+			throws ResourceNotFoundException {
+		if(repoRequest.getPagingAndSorting().isMetadataOnly()) {
+			return countQuery(repoRequest, method, new HttpHeaders());
 		}
+		Object result = invokeQuery(repoRequest, method);
+		List<Link> links = new ArrayList<Link>();
+		addPageLinks(repoRequest, method, result, links);
 
-		PagingAndSorting pageSort = repoRequest.getPagingAndSorting();
-		List<MethodParameter> methodParams = repoMethod.getParameters();
-		Object[] paramValues = new Object[methodParams.size()];
-		if(!methodParams.isEmpty()) {
-			for(int i = 0; i < paramValues.length; i++) {
-				MethodParameter param = methodParams.get(i);
-				if(Pageable.class.isAssignableFrom(param.getParameterType())) {
-					paramValues[i] = new PageRequest(pageSort.getPageNumber(),
-					                                 pageSort.getPageSize(),
-					                                 pageSort.getSort());
-				} else if(Sort.class.isAssignableFrom(param.getParameterType())) {
-					paramValues[i] = pageSort.getSort();
-				} else {
-					String paramName = repoMethod.getParameterNames().get(i);
-					String[] queryParamVals = repoRequest.getRequest().getParameterValues(paramName);
-					if(null == queryParamVals) {
-						if(paramName.startsWith("arg")) {
-							throw new IllegalArgumentException("No @Param annotation found on query method "
-									                                   + repoMethod.getMethod().getName()
-									                                   + " for parameter " + param.getParameterName());
-						} else {
-							throw new IllegalArgumentException("No query parameter specified for "
-									                                   + repoMethod.getMethod().getName() + " param '"
-									                                   + paramName + "'");
-						}
-					}
-					paramValues[i] = methodParameterConversionService.convert(queryParamVals, param);
+		// Link to the results straight from their ids rather than rendering them first
+		if(result instanceof Iterable) {
+			for(Object obj : (Iterable<?>)result) {
+				Link link = entityLink(repoRequest, obj);
+				if(null != link) {
+					links.add(link);
 				}
 			}
-		}
-
-		Object result = repoMethodInvoker.invokeQueryMethod(repoMethod, paramValues);
-		Link prevLink = null;
-		Link nextLink = null;
-		if(result instanceof Page) {
-			if(((Page<?>)result).hasPreviousPage() && pageSort.getPageNumber() > 0) {
-				prevLink = searchLink(repoRequest, 0, method, "page.previous");
-			}
-			if(((Page<?>)result).hasNextPage()) {
-				nextLink = searchLink(repoRequest, 1, method, "page.next");
+		} else {
+			Link link = entityLink(repoRequest, result);
+			if(null != link) {
+				links.add(link);
 			}
 		}
-		return resultToResources(repoRequest, result, new ArrayList<Link>(), prevLink, nextLink);
+
+		return new Resource<Object>(EMPTY_RESOURCE_LIST, links);
 	}
 
 	@RequestMapping(
-			value = BASE_MAPPING +"/{method}",
+			value = BASE_MAPPING + "/{method}",
 			method = RequestMethod.GET,
 			produces = {
-					"application/x-spring-data-compact+json"
+					TemplatedResources.MEDIA_TYPE
 			}
 	)
 	@ResponseBody
-	public ResourceSupport queryCompact(RepositoryRestRequest repoRequest,
-	                                    @PathVariable String repository,
-	                                    @PathVariable String method)
+	public ResponseEntity<ResourceSupport> queryTemplated(RepositoryRestRequest repoRequest,
+	                                                      @PathVariable String repository,
+	                                                      @PathVariable String method)
 			throws ResourceNotFoundException {
-		List<Link> links = new ArrayList<Link>();
+		ResponseEntity<ResourceSupport> response = query(repoRequest, repository, method);
+		if(response.getBody() instanceof Resources) {
+			return new ResponseEntity<ResourceSupport>(templatedResources(repoRequest, (Resources<?>)response.getBody()),
+			                                           response.getHeaders(),
+			                                           response.getStatusCode());
+		}
+		return response;
+	}
+
+	private Object invokeQuery(RepositoryRestRequest repoRequest, String method) throws ResourceNotFoundException {
+		RepositorySearchTable searchTable = getSearchTable(repoRequest);
+		RepositoryMethod repoMethod = getQueryMethod(searchTable, method);
+		return searchTable.getInvoker().invokeQueryMethod(repoMethod, bindParameters(repoRequest, repoMethod));
+	}
 
-		ResourceSupport resource = query(repoRequest, repository, method);
-		links.addAll(resource.getLinks());
+	/**
+	 * Determine only the total number of results of a query method. Query methods can't be turned into count queries
+	 * generically, so pageable methods are asked for a page of a single result to read the total from, others have
+	 * their results counted.
+	 */
+	private PagedResources countQuery(RepositoryRestRequest repoRequest, String method, HttpHeaders headers)
+			throws ResourceNotFoundException {
+		RepositorySearchTable searchTable = getSearchTable(repoRequest);
+		RepositoryMethod repoMethod = getQueryMethod(searchTable, method);
+		Object[] paramValues = bindParameters(repoRequest, repoMethod);
+		QueryResultCache.Result cached = searchTable.getInvoker().invokeCachedQueryMethod(repoMethod, paramValues);
+		Object result = cached.getValue();
+
+		long total = 0;
+		if(result instanceof Page) {
+			total = ((Page<?>)result).getTotalElements();
+		} else if(result instanceof Collection) {
+			total = ((Collection<?>)result).size();
+		} else if(result instanceof Iterable) {
+			for(Iterator<?> iter = ((Iterable<?>)result).iterator(); iter.hasNext(); iter.next()) {
+				total++;
+			}
+		} else if(null != result) {
+			total = 1;
+		}
+
+		addFreshness(headers, cached);
+		return metadataOnly(repoRequest.getPagingAndSorting(), total, new ArrayList<Link>());
+	}
+
+	private RepositoryMethod getQueryMethod(RepositorySearchTable searchTable, String method)
+			throws ResourceNotFoundException {
+		RepositoryMethod repoMethod = searchTable.getMethod(method);
+		if(null == repoMethod) {
+			throw new ResourceNotFoundException();
+		}
+		return repoMethod;
+	}
 
-		if(resource instanceof Resources && ((Resources<?>) resource).getContent() != null) {
-			for(Object obj : ((Resources<?>) resource).getContent()) {
-				if(null != obj && obj instanceof Resource) {
-					Resource<?> res = (Resource<?>)obj;
-					links.add(resourceLink(repoRequest, res));
+	private Object[] bindParameters(RepositoryRestRequest repoRequest, RepositoryMethod repoMethod) {
+		PagingAndSorting pageSort = repoRequest.getPagingAndSorting();
+		List<ParameterBinder> binders = repoMethod.getParameterBinders();
+		Object[] paramValues = new Object[binders.size()];
+		for(int i = 0; i < paramValues.length; i++) {
+			ParameterBinder binder = binders.get(i);
+			if(binder.isPageable()) {
+				paramValues[i] = new PageRequest(pageSort.getPageNumber(),
+				                                 pageSort.getPageSize(),
+				                                 pageSort.getSort());
+			} else if(binder.isSort()) {
+				paramValues[i] = pageSort.getSort();
+			} else {
+				String[] queryParamVals = repoRequest.getRequest().getParameterValues(binder.getName());
+				if(null == queryParamVals) {
+					if(!binder.isNamed()) {
+						String paramName = binder.getParameter().getParameterName();
+						throw new IllegalArgumentException("No @Param annotation found on query method "
+								                                   + repoMethod.getMethod().getName()
+								                                   + " for parameter "
+								                                   + (null != paramName ? paramName : binder.getParameter().getParameterIndex()));
+					} else {
+						throw new IllegalArgumentException("No query parameter specified for "
+								                                   + repoMethod.getMethod().getName() + " param '"
+								                                   + binder.getName() + "'");
+					}
 				}
+				paramValues[i] = binder.convert(queryParamVals, STRING_ARRAY_TYPE, conversionService);
 			}
-		} else if(resource instanceof Resource) {
-			Resource<?> res = (Resource<?>) resource;
-			links.add(resourceLink(repoRequest, res));
 		}
+		return paramValues;
+	}
 
+	private void addPageLinks(RepositoryRestRequest repoRequest, String method, Object result, List<Link> links) {
+		if(result instanceof Page) {
+			if(((Page<?>)result).hasPreviousPage() && repoRequest.getPagingAndSorting().getPageNumber() > 0) {
+				links.add(searchLink(repoRequest, 0, method, "page.previous"));
+			}
+			if(((Page<?>)result).hasNextPage()) {
+				links.add(searchLink(repoRequest, 1, method, "page.next"));
+			}
+		}
+	}
 
-		return new Resource<Object>(EMPTY_RESOURCE_LIST, links);
+	private RepositorySearchTable getSearchTable(RepositoryRestRequest repoRequest) throws ResourceNotFoundException {
+		RepositoryInformation repoInfo = repoRequest.getRepositoryInformation();
+		if(null == repoInfo) {
+			throw new ResourceNotFoundException();
+		}
+		RepositorySearchTable searchTable = searchTables.get(repoInfo.getRepositoryInterface());
+		if(null == searchTable) {
+			// Share the request's invoker so queries run through the same method table and result cache.
+			searchTable = new RepositorySearchTable(config, repoInfo, repoRequest.getRepositoryMethodInvoker());
+			RepositorySearchTable existing = searchTables.putIfAbsent(repoInfo.getRepositoryInterface(), searchTable);
+			if(null != existing) {
+				searchTable = existing;
+			}
+		}
+		if(searchTable.isEmpty()) {
+			throw new ResourceNotFoundException();
+		}
+		return searchTable;
 	}
 
 }
@@ -0,0 +1,127 @@
+package org.springframework.data.rest.webmvc;
+
+import static org.springframework.data.rest.repository.support.ResourceMappingUtils.*;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.config.ResourceMapping;
+import org.springframework.data.rest.repository.invoke.RepositoryMethod;
+import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
+import org.springframework.hateoas.Link;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * The search resources of one repository, worked out once: which {@link RepositoryMethod} a {@literal
+ * /{repository}/search/{method}} path dispatches to and the links advertised under {@literal /{repository}/search},
+ * with their hrefs rendered relative to the base URI.
+ *
+ * @author Jon Brisbin
+ */
+class RepositorySearchTable {
+
+	private final RepositoryMethodInvoker       invoker;
+	private final Map<String, RepositoryMethod> methodsByPath = new HashMap<String, RepositoryMethod>();
+	private final List<Link>                    relativeLinks = new ArrayList<Link>();
+
+	RepositorySearchTable(RepositoryRestConfiguration config,
+	                      RepositoryInformation repoInfo,
+	                      RepositoryMethodInvoker invoker) {
+		this.invoker = invoker;
+		ResourceMapping repoMapping = getResourceMapping(config, repoInfo);
+
+		// Paths in order of precedence: the configured path, the annotated path, the method name.
+		Map<String, RepositoryMethod> byAnnotatedPath = new HashMap<String, RepositoryMethod>();
+		Map<String, RepositoryMethod> byName = new HashMap<String, RepositoryMethod>();
+		for(Map.Entry<String, RepositoryMethod> entry : invoker.getQueryMethods().entrySet()) {
+			RepositoryMethod repoMethod = entry.getValue();
+			ResourceMapping configured = repoMapping.getResourceMappingFor(entry.getKey());
+			if(!merge(repoMethod.getMethod(), configured).isExported()) {
+				continue;
+			}
+			if(null != configured && null != configured.getPath()) {
+				methodsByPath.put(configured.getPath(), repoMethod);
+			}
+			String annotatedPath = findPath(repoMethod.getMethod());
+			if(!annotatedPath.equals(entry.getKey())) {
+				byAnnotatedPath.put(annotatedPath, repoMethod);
+			}
+			byName.put(entry.getKey(), repoMethod);
+		}
+		putAbsent(byAnnotatedPath);
+		putAbsent(byName);
+
+		for(Method method : repoInfo.getQueryMethods()) {
+			ResourceMapping methodMapping = merge(method, repoMapping.getResourceMappingFor(method.getName()));
+			if(!methodMapping.isExported()) {
+				continue;
+			}
+			String href = UriComponentsBuilder.newInstance()
+			                                  .pathSegment(repoMapping.getPath(), "search", methodMapping.getPath())
+			                                  .build()
+			                                  .encode()
+			                                  .toUriString();
+			relativeLinks.add(new Link(href, repoMapping.getRel() + "." + methodMapping.getRel()));
+		}
+	}
+
+	/**
+	 * Get the invoker to call the methods of this table with.
+	 */
+	RepositoryMethodInvoker getInvoker() {
+		return invoker;
+	}
+
+	/**
+	 * Find the query method exported under the given path.
+	 *
+	 * @return The method or {@literal null} if no method is exported under that path.
+	 */
+	RepositoryMethod getMethod(String path) {
+		return methodsByPath.get(path);
+	}
+
+	/**
+	 * Whether the repository exports any query methods.
+	 */
+	boolean isEmpty() {
+		return methodsByPath.isEmpty();
+	}
+
+	/**
+	 * Create the links to the exported query methods.
+	 *
+	 * @param baseUri
+	 * 		The base URI of the current request.
+	 */
+	List<Link> getLinks(URI baseUri) {
+		if(relativeLinks.isEmpty()) {
+			return Collections.emptyList();
+		}
+		String base = baseUri.toString();
+		if(base.endsWith("/")) {
+			base = base.substring(0, base.length() - 1);
+		}
+		List<Link> links = new ArrayList<Link>(relativeLinks.size());
+		for(Link link : relativeLinks) {
+			links.add(new Link(base + link.getHref(), link.getRel()));
+		}
+		return links;
+	}
+
+	private void putAbsent(Map<String, RepositoryMethod> methods) {
+		for(Map.Entry<String, RepositoryMethod> entry : methods.entrySet()) {
+			if(!methodsByPath.containsKey(entry.getKey())) {
+				methodsByPath.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+}
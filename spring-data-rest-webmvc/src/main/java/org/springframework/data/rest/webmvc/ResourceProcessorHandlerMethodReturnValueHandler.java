@@ -18,8 +18,10 @@ package org.springframework.data.rest.webmvc;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.data.rest.repository.TemplatedResources;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.ResourceSupport;
@@ -27,16 +29,19 @@ import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
-import org.springframework.util.ReflectionUtils;
+import org.springframework.util.ObjectUtils;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
-import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static org.springframework.data.util.ClassTypeInformation.from;
 
@@ -50,14 +55,15 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 
 	private static final TypeInformation<?> RESOURCE_TYPE  = from(Resource.class);
 	private static final TypeInformation<?> RESOURCES_TYPE = from(Resources.class);
-	private static final Field              CONTENT_FIELD  = ReflectionUtils.findField(Resources.class, "content");
-
-	static {
-		ReflectionUtils.makeAccessible(CONTENT_FIELD);
-	}
 
 	private final HandlerMethodReturnValueHandler delegate;
 	private final List<ProcessorWrapper>          processors;
+	private final List<BulkProcessorWrapper>      bulkProcessors;
+
+	private final ConcurrentMap<Method, TypeInformation<?>>                 returnTypeCache     = new ConcurrentHashMap<Method, TypeInformation<?>>();
+	private final ConcurrentMap<TypeInformation<?>, TypeInformation<?>>     elementTypeCache    = new ConcurrentHashMap<TypeInformation<?>, TypeInformation<?>>();
+	private final ConcurrentMap<ProcessorChainKey, List<ProcessorWrapper>> processorChainCache = new ConcurrentHashMap<ProcessorChainKey, List<ProcessorWrapper>>();
+	private final ConcurrentMap<ProcessorChainKey, List<BulkProcessorWrapper>> bulkProcessorChainCache = new ConcurrentHashMap<ProcessorChainKey, List<BulkProcessorWrapper>>();
 
 	/**
 	 * Creates a new {@link ResourceProcessorHandlerMethodReturnValueHandler} using the given delegate to eventually
@@ -71,29 +77,64 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 	 */
 	public ResourceProcessorHandlerMethodReturnValueHandler(HandlerMethodReturnValueHandler delegate,
 																													List<ResourceProcessor<?>> processors) {
+		this(delegate, processors, Collections.<BulkResourceProcessor<?>> emptyList());
+	}
+
+	/**
+	 * Creates a new {@link ResourceProcessorHandlerMethodReturnValueHandler} additionally considering the given
+	 * {@link BulkResourceProcessor}s for the elements of {@link Resources}.
+	 *
+	 * @param delegate       the {@link HandlerMethodReturnValueHandler} to evenually delegate calls to, must not be
+	 *                       {@literal null}.
+	 * @param processors     the {@link ResourceProcessor}s to be considered, must not be {@literal null}.
+	 * @param bulkProcessors the {@link BulkResourceProcessor}s to be considered, must not be {@literal null}.
+	 */
+	public ResourceProcessorHandlerMethodReturnValueHandler(HandlerMethodReturnValueHandler delegate,
+																													List<ResourceProcessor<?>> processors,
+																													List<BulkResourceProcessor<?>> bulkProcessors) {
 
 		Assert.notNull(delegate, "Delegate must not be null!");
 		Assert.notNull(processors, "ResourceProcessors must not be null!");
+		Assert.notNull(bulkProcessors, "BulkResourceProcessors must not be null!");
 
 		this.delegate = delegate;
 		this.processors = new ArrayList<ProcessorWrapper>();
+		this.bulkProcessors = new ArrayList<BulkProcessorWrapper>();
 
 		for (ResourceProcessor<?> processor : processors) {
+			TypeInformation<?> targetType = from(processor.getClass()).getSuperTypeInformation(ResourceProcessor.class)
+					.getComponentType();
+			this.processors.add(createWrapper(processor, targetType));
+		}
 
-			TypeInformation<?> componentType = from(processor.getClass()).getSuperTypeInformation(ResourceProcessor.class)
+		for (BulkResourceProcessor<?> processor : bulkProcessors) {
+			TypeInformation<?> targetType = from(processor.getClass()).getSuperTypeInformation(BulkResourceProcessor.class)
 					.getComponentType();
-			Class<?> rawType = componentType.getType();
-
-			if (Resource.class.isAssignableFrom(rawType)) {
-				this.processors.add(new ResourceProcessorWrapper(processor));
-			} else if (Resources.class.isAssignableFrom(rawType)) {
-				this.processors.add(new ResourcesProcessorWrapper(processor));
-			} else {
-				this.processors.add(new DefaultProcessorWrapper(processor));
-			}
+			this.bulkProcessors.add(new BulkProcessorWrapper(createWrapper(processor, targetType)));
 		}
 
 		Collections.sort(this.processors, AnnotationAwareOrderComparator.INSTANCE);
+		Collections.sort(this.bulkProcessors, AnnotationAwareOrderComparator.INSTANCE);
+	}
+
+	/**
+	 * Creates a {@link ProcessorWrapper} for the given processor and the target type it was declared for.
+	 *
+	 * @param processor  must not be {@literal null}.
+	 * @param targetType must not be {@literal null}.
+	 * @return
+	 */
+	private static DefaultProcessorWrapper createWrapper(Object processor, TypeInformation<?> targetType) {
+
+		Class<?> rawType = targetType.getType();
+
+		if (Resource.class.isAssignableFrom(rawType)) {
+			return new ResourceProcessorWrapper(processor, targetType);
+		} else if (Resources.class.isAssignableFrom(rawType)) {
+			return new ResourcesProcessorWrapper(processor, targetType);
+		} else {
+			return new DefaultProcessorWrapper(processor, targetType);
+		}
 	}
 
 	/*
@@ -126,41 +167,215 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 		}
 
 		// We have a Resource or Resources - find suitable processors
-		TypeInformation<?> targetType = ClassTypeInformation.fromReturnTypeOf(returnType.getMethod());
+		TypeInformation<?> targetType = getTargetType(returnType, value);
 
-		// Unbox HttpEntity
-		if (HttpEntity.class.isAssignableFrom(targetType.getType())) {
-			targetType = targetType.getTypeArguments().get(0);
+		// For Resources implementations, process elements first
+		if (RESOURCES_TYPE.isAssignableFrom(targetType)) {
+			value = processElements((Resources<?>) value, getElementType(targetType));
+		}
+
+		Object result = invokeProcessorsFor(value, targetType);
+		delegate.handleReturnValue(rewrapResult(result, returnValue), returnType, mavContainer, webRequest);
+	}
+
+	/**
+	 * Returns the {@link TypeInformation} to be used to look up {@link ResourceProcessor}s for the given value returned
+	 * from the method described by the given {@link MethodParameter}. Falls back to the value's type if it's more
+	 * specific than the declared one.
+	 *
+	 * @param returnType must not be {@literal null}.
+	 * @param value      must not be {@literal null}.
+	 * @return
+	 */
+	private TypeInformation<?> getTargetType(MethodParameter returnType, Object value) {
+
+		Method method = returnType.getMethod();
+		TypeInformation<?> targetType = returnTypeCache.get(method);
+
+		if (null == targetType) {
+
+			targetType = ClassTypeInformation.fromReturnTypeOf(method);
+
+			// Unbox HttpEntity
+			if (HttpEntity.class.isAssignableFrom(targetType.getType())) {
+				targetType = targetType.getTypeArguments().get(0);
+			}
+
+			returnTypeCache.put(method, targetType);
 		}
 
-		TypeInformation<? extends Object> returnValueTypeInformation = ClassTypeInformation.from(value.getClass());
 		// Returned value is actually of a more specific type, use this type information
-		if (!targetType.getType().equals(returnValueTypeInformation.getType())) {
-			targetType = returnValueTypeInformation;
+		return targetType.getType().equals(value.getClass()) ? targetType : from(value.getClass());
+	}
+
+	/**
+	 * Returns the element type of the given {@link Resources} type.
+	 *
+	 * @param resourcesType must not be {@literal null}.
+	 * @return
+	 */
+	private TypeInformation<?> getElementType(TypeInformation<?> resourcesType) {
+
+		TypeInformation<?> elementType = elementTypeCache.get(resourcesType);
+
+		if (null == elementType) {
+			elementType = resourcesType.getSuperTypeInformation(Resources.class).getComponentType();
+			elementTypeCache.put(resourcesType, elementType);
 		}
 
-		// For Resources implementations, process elements first
-		if (RESOURCES_TYPE.isAssignableFrom(targetType)) {
+		return elementType;
+	}
+
+	/**
+	 * Invokes the {@link BulkResourceProcessor}s and then the {@link ResourceProcessor}s registered for the elements of
+	 * the given {@link Resources}. Will only create a new {@link Resources} instance in case a processor actually
+	 * replaced one of the elements.
+	 *
+	 * @param resources           must not be {@literal null}.
+	 * @param declaredElementType the element type derived from the declared {@link Resources} type.
+	 * @return the original {@link Resources} or a new one carrying the processed elements.
+	 */
+	private Resources<?> processElements(Resources<?> resources, TypeInformation<?> declaredElementType) {
+
+		Collection<?> content = resources.getContent();
+		List<Object> bulkResult = invokeBulkProcessorsFor(content, declaredElementType);
+
+		if (null != bulkResult) {
+			content = bulkResult;
+		}
+
+		List<Object> result = null;
+		int index = 0;
+
+		for (Object element : content) {
+
+			TypeInformation<?> elementType = getElementType(declaredElementType, element);
+			List<ProcessorWrapper> chain = getProcessorsFor(elementType, element);
 
-			Resources<?> resources = (Resources<?>) value;
-			TypeInformation<?> elementTargetType = targetType.getSuperTypeInformation(Resources.class).getComponentType();
-			List<Object> result = new ArrayList<Object>(resources.getContent().size());
+			if (!chain.isEmpty()) {
 
-			for (Object element : resources) {
+				Object processed = invokeProcessors(chain, elementType, element);
 
-				TypeInformation<?> elementTypeInformation = from(element.getClass());
-				if (!elementTargetType.getType().equals(elementTypeInformation.getType())) {
-					elementTargetType = elementTypeInformation;
+				if (null == result && processed != element) {
+					result = new ArrayList<Object>(content.size());
+					Iterator<?> previous = content.iterator();
+
+					for (int i = 0; i < index; i++) {
+						result.add(previous.next());
+					}
 				}
 
-				result.add(invokeProcessorsFor(element, elementTargetType));
+				element = processed;
+			}
+
+			if (null != result) {
+				result.add(element);
 			}
 
-			ReflectionUtils.setField(CONTENT_FIELD, resources, result);
+			index++;
 		}
 
-		Object result = invokeProcessorsFor(value, targetType);
-		delegate.handleReturnValue(rewrapResult(result, returnValue), returnType, mavContainer, webRequest);
+		if (null == result) {
+			result = bulkResult;
+		}
+
+		return null == result ? resources : withContent(resources, result);
+	}
+
+	/**
+	 * Creates a new {@link Resources} instance carrying the given content as well as the links (and page metadata) of the
+	 * given source.
+	 *
+	 * @param source  must not be {@literal null}.
+	 * @param content must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static Resources<?> withContent(Resources<?> source, List<Object> content) {
+
+		if (source instanceof TemplatedResources) {
+			return ((TemplatedResources) source).withContent((List) content);
+		}
+
+		if (source instanceof PagedResources) {
+			return new PagedResources(content, ((PagedResources<?>) source).getMetadata(), source.getLinks());
+		}
+
+		return new Resources(content, source.getLinks());
+	}
+
+	/**
+	 * Invokes the {@link BulkResourceProcessor}s on the elements of the given content they support.
+	 *
+	 * @param content             must not be {@literal null}.
+	 * @param declaredElementType the element type derived from the declared {@link Resources} type.
+	 * @return the processed elements or {@literal null} in case no {@link BulkResourceProcessor} was invoked.
+	 */
+	private List<Object> invokeBulkProcessorsFor(Collection<?> content, TypeInformation<?> declaredElementType) {
+
+		if (bulkProcessors.isEmpty() || content.isEmpty()) {
+			return null;
+		}
+
+		// Resolve the chain of every element once rather than once per BulkProcessorWrapper
+		List<Object> elements = new ArrayList<Object>(content);
+		List<List<BulkProcessorWrapper>> chains = new ArrayList<List<BulkProcessorWrapper>>(elements.size());
+
+		for (Object element : elements) {
+			chains.add(getBulkProcessorsFor(getElementType(declaredElementType, element), element));
+		}
+
+		boolean invoked = false;
+		int[] positions = new int[elements.size()];
+
+		for (BulkProcessorWrapper wrapper : bulkProcessors) {
+
+			List<Object> matches = new ArrayList<Object>();
+
+			for (int i = 0; i < elements.size(); i++) {
+				if (chains.get(i).contains(wrapper)) {
+					positions[matches.size()] = i;
+					matches.add(elements.get(i));
+				}
+			}
+
+			if (matches.isEmpty()) {
+				continue;
+			}
+
+			List<?> processed = wrapper.invokeProcessor(matches);
+
+			Assert.notNull(processed, "BulkResourceProcessor must not return null!");
+			Assert.isTrue(processed.size() == matches.size(),
+					"BulkResourceProcessor must return as many elements as it was handed!");
+
+			invoked = true;
+
+			for (int i = 0; i < matches.size(); i++) {
+
+				Object element = processed.get(i);
+
+				// Replaced elements might be supported by different processors
+				if (element != matches.get(i)) {
+					elements.set(positions[i], element);
+					chains.set(positions[i], getBulkProcessorsFor(getElementType(declaredElementType, element), element));
+				}
+			}
+		}
+
+		return invoked ? elements : null;
+	}
+
+	/**
+	 * Returns the {@link TypeInformation} to look up processors for the given element. Prefers the given declared element
+	 * type but falls back to the element's actual type in case they differ.
+	 *
+	 * @param declaredElementType must not be {@literal null}.
+	 * @param element             must not be {@literal null}.
+	 * @return
+	 */
+	private static TypeInformation<?> getElementType(TypeInformation<?> declaredElementType, Object element) {
+		return declaredElementType.getType().equals(element.getClass()) ? declaredElementType : from(element.getClass());
 	}
 
 	/**
@@ -171,11 +386,60 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 	 * @return
 	 */
 	private Object invokeProcessorsFor(Object value, TypeInformation<?> targetType) {
+		return invokeProcessors(getProcessorsFor(targetType, value), targetType, value);
+	}
+
+	/**
+	 * Invokes the given chain of {@link ProcessorWrapper}s on the given value. Every {@link ProcessorWrapper} is asked
+	 * whether it supports the value left by the previous ones. In case a processor hands back a value of a different
+	 * shape the cached chain doesn't apply anymore, so all remaining {@link ProcessorWrapper}s are considered.
+	 *
+	 * @param chain      must not be {@literal null}.
+	 * @param targetType must not be {@literal null}.
+	 * @param value
+	 * @return
+	 */
+	private Object invokeProcessors(List<ProcessorWrapper> chain, TypeInformation<?> targetType, Object value) {
 
 		Object currentValue = value;
+		ProcessorChainKey key = null;
 
-		// Process actual value
-		for (ProcessorWrapper wrapper : this.processors) {
+		for (ProcessorWrapper wrapper : chain) {
+
+			if (!wrapper.supports(targetType, currentValue)) {
+				continue;
+			}
+
+			Object processed = wrapper.invokeProcessor(currentValue);
+
+			if (processed != currentValue) {
+
+				key = null == key ? ProcessorChainKey.of(targetType, currentValue) : key;
+
+				if (!key.equals(ProcessorChainKey.of(targetType, processed))) {
+					return invokeProcessors(processors.indexOf(wrapper) + 1, targetType, processed);
+				}
+			}
+
+			currentValue = processed;
+		}
+
+		return currentValue;
+	}
+
+	/**
+	 * Invokes all {@link ProcessorWrapper}s from the given position on that support the value left by the previous ones.
+	 *
+	 * @param start      the position in the sorted {@link ProcessorWrapper}s to start at.
+	 * @param targetType must not be {@literal null}.
+	 * @param value
+	 * @return
+	 */
+	private Object invokeProcessors(int start, TypeInformation<?> targetType, Object value) {
+
+		Object currentValue = value;
+
+		for (ProcessorWrapper wrapper : processors.subList(start, processors.size())) {
 			if (wrapper.supports(targetType, currentValue)) {
 				currentValue = wrapper.invokeProcessor(currentValue);
 			}
@@ -184,6 +448,72 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 		return currentValue;
 	}
 
+	/**
+	 * Returns the {@link ProcessorWrapper}s supporting the given {@link TypeInformation} and value. The result is cached
+	 * by type and by the shape of the value's content as that's all the {@link ProcessorWrapper}s inspect.
+	 *
+	 * @param targetType must not be {@literal null}.
+	 * @param value
+	 * @return
+	 */
+	private List<ProcessorWrapper> getProcessorsFor(TypeInformation<?> targetType, Object value) {
+
+		if (processors.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		ProcessorChainKey key = ProcessorChainKey.of(targetType, value);
+		List<ProcessorWrapper> chain = processorChainCache.get(key);
+
+		if (null != chain) {
+			return chain;
+		}
+
+		chain = new ArrayList<ProcessorWrapper>();
+
+		for (ProcessorWrapper wrapper : this.processors) {
+			if (wrapper.supports(targetType, value)) {
+				chain.add(wrapper);
+			}
+		}
+
+		chain = chain.isEmpty() ? Collections.<ProcessorWrapper> emptyList() : Collections.unmodifiableList(chain);
+		processorChainCache.put(key, chain);
+
+		return chain;
+	}
+
+	/**
+	 * Returns the {@link BulkProcessorWrapper}s supporting the given {@link TypeInformation} and value. Cached the same
+	 * way as {@link #getProcessorsFor(TypeInformation, Object)}.
+	 *
+	 * @param targetType must not be {@literal null}.
+	 * @param value
+	 * @return
+	 */
+	private List<BulkProcessorWrapper> getBulkProcessorsFor(TypeInformation<?> targetType, Object value) {
+
+		ProcessorChainKey key = ProcessorChainKey.of(targetType, value);
+		List<BulkProcessorWrapper> chain = bulkProcessorChainCache.get(key);
+
+		if (null != chain) {
+			return chain;
+		}
+
+		chain = new ArrayList<BulkProcessorWrapper>();
+
+		for (BulkProcessorWrapper wrapper : this.bulkProcessors) {
+			if (wrapper.supports(targetType, value)) {
+				chain.add(wrapper);
+			}
+		}
+
+		chain = chain.isEmpty() ? Collections.<BulkProcessorWrapper> emptyList() : Collections.unmodifiableList(chain);
+		bulkProcessorChainCache.put(key, chain);
+
+		return chain;
+	}
+
 	/**
 	 * Re-wraps the result of the post-processing work into an {@link HttpEntity} or {@link ResponseEntity} if the original
 	 * value was one of those two types. Copies headers and status code from the original value but uses the new body.
@@ -251,20 +581,22 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 	 */
 	private static class DefaultProcessorWrapper implements ProcessorWrapper {
 
-		private final ResourceProcessor<?> processor;
-		private final TypeInformation<?>   targetType;
+		private final Object             processor;
+		private final TypeInformation<?> targetType;
 
 		/**
-		 * Creates a ne {@link DefaultProcessorWrapper} with the given {@link ResourceProcessor}.
+		 * Creates a ne {@link DefaultProcessorWrapper} with the given processor and the type it was declared for.
 		 *
-		 * @param processor must not be {@literal null}.
+		 * @param processor  must not be {@literal null}.
+		 * @param targetType must not be {@literal null}.
 		 */
-		public DefaultProcessorWrapper(ResourceProcessor<?> processor) {
+		public DefaultProcessorWrapper(Object processor, TypeInformation<?> targetType) {
 
 			Assert.notNull(processor);
+			Assert.notNull(targetType);
 
 			this.processor = processor;
-			this.targetType = from(processor.getClass()).getSuperTypeInformation(ResourceProcessor.class).getComponentType();
+			this.targetType = targetType;
 		}
 
 		/* 
@@ -303,6 +635,66 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 		public TypeInformation<?> getTargetType() {
 			return targetType;
 		}
+
+		/**
+		 * Returns the underlying processor.
+		 *
+		 * @return the processor
+		 */
+		public Object getProcessor() {
+			return processor;
+		}
+	}
+
+	/**
+	 * Wrapper for {@link BulkResourceProcessor}s. Delegates type matching to the {@link ProcessorWrapper} that would be
+	 * used for a {@link ResourceProcessor} of the same target type.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class BulkProcessorWrapper implements Ordered {
+
+		private final DefaultProcessorWrapper delegate;
+
+		/**
+		 * Creates a new {@link BulkProcessorWrapper} using the given {@link DefaultProcessorWrapper} for type matching.
+		 *
+		 * @param delegate must not be {@literal null}.
+		 */
+		public BulkProcessorWrapper(DefaultProcessorWrapper delegate) {
+
+			Assert.notNull(delegate);
+			this.delegate = delegate;
+		}
+
+		/**
+		 * Returns whether the underlying processor supports the given element.
+		 *
+		 * @see ProcessorWrapper#supports(TypeInformation, Object)
+		 */
+		public boolean supports(TypeInformation<?> typeInformation, Object value) {
+			return delegate.supports(typeInformation, value);
+		}
+
+		/**
+		 * Invokes the underlying {@link BulkResourceProcessor} with the given elements.
+		 *
+		 * @param elements must not be {@literal null}.
+		 * @return
+		 */
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public List<?> invokeProcessor(List<Object> elements) {
+			return ((BulkResourceProcessor) delegate.getProcessor()).process(elements);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.core.Ordered#getOrder()
+		 */
+		@Override
+		public int getOrder() {
+			return delegate.getOrder();
+		}
 	}
 
 	/**
@@ -314,12 +706,13 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 	private static class ResourceProcessorWrapper extends DefaultProcessorWrapper {
 
 		/**
-		 * Creates a new {@link ResourceProcessorWrapper} for the given {@link ResourceProcessor}.
+		 * Creates a new {@link ResourceProcessorWrapper} for the given processor.
 		 *
-		 * @param processor must not be {@literal null}.
+		 * @param processor  must not be {@literal null}.
+		 * @param targetType must not be {@literal null}.
 		 */
-		public ResourceProcessorWrapper(ResourceProcessor<?> processor) {
-			super(processor);
+		public ResourceProcessorWrapper(Object processor, TypeInformation<?> targetType) {
+			super(processor, targetType);
 		}
 
 		/*
@@ -370,12 +763,13 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 	private static class ResourcesProcessorWrapper extends DefaultProcessorWrapper {
 
 		/**
-		 * Creates a new {@link ResourcesProcessorWrapper} for the given {@link ResourceProcessor}.
+		 * Creates a new {@link ResourcesProcessorWrapper} for the given processor.
 		 *
-		 * @param processor must not be {@literal null}.
+		 * @param processor  must not be {@literal null}.
+		 * @param targetType must not be {@literal null}.
 		 */
-		public ResourcesProcessorWrapper(ResourceProcessor<?> processor) {
-			super(processor);
+		public ResourcesProcessorWrapper(Object processor, TypeInformation<?> targetType) {
+			super(processor, targetType);
 		}
 
 		/* 
@@ -423,6 +817,90 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 		}
 	}
 
+	/**
+	 * Cache key for resolved {@link ProcessorWrapper} chains. Captures the target type as well as the types the
+	 * {@link ProcessorWrapper}s peek into, i.e. the content type of a {@link Resource} and the type of the first element
+	 * (and its content) of a {@link Resources}.
+	 */
+	private static final class ProcessorChainKey {
+
+		private final TypeInformation<?> type;
+		private final Class<?>           elementType;
+		private final Class<?>           contentType;
+
+		private ProcessorChainKey(TypeInformation<?> type, Class<?> elementType, Class<?> contentType) {
+			this.type = type;
+			this.elementType = elementType;
+			this.contentType = contentType;
+		}
+
+		/**
+		 * Creates a new {@link ProcessorChainKey} for the given {@link TypeInformation} and value.
+		 *
+		 * @param type  must not be {@literal null}.
+		 * @param value
+		 * @return
+		 */
+		public static ProcessorChainKey of(TypeInformation<?> type, Object value) {
+
+			if (value instanceof Resource) {
+				return new ProcessorChainKey(type, null, getContentType((Resource<?>) value));
+			}
+
+			if (value instanceof Resources) {
+
+				Collection<?> content = ((Resources<?>) value).getContent();
+				Object element = content.isEmpty() ? null : content.iterator().next();
+
+				if (element instanceof Resource) {
+					return new ProcessorChainKey(type, element.getClass(), getContentType((Resource<?>) element));
+				}
+			}
+
+			return new ProcessorChainKey(type, null, null);
+		}
+
+		private static Class<?> getContentType(Resource<?> resource) {
+			Object content = resource.getContent();
+			return null == content ? null : content.getClass();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof ProcessorChainKey)) {
+				return false;
+			}
+
+			ProcessorChainKey that = (ProcessorChainKey) obj;
+
+			return type.equals(that.type) && ObjectUtils.nullSafeEquals(elementType, that.elementType)
+					&& ObjectUtils.nullSafeEquals(contentType, that.contentType);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+
+			int result = 17;
+			result = 31 * result + type.hashCode();
+			result = 31 * result + ObjectUtils.nullSafeHashCode(elementType);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(contentType);
+			return result;
+		}
+	}
+
 	/**
 	 * Helper extension of {@link AnnotationAwareOrderComparator} to make {@link #getOrder(Object)} public to allow it
 	 * being used in a standalone fashion.
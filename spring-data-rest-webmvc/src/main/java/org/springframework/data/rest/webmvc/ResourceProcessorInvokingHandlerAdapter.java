@@ -46,6 +46,9 @@ public class ResourceProcessorInvokingHandlerAdapter extends RequestMappingHandl
   @Autowired(required = false)
   private List<ResourceProcessor<?>> resourcesProcessors = new ArrayList<ResourceProcessor<?>>();
 
+  @Autowired(required = false)
+  private List<BulkResourceProcessor<?>> bulkResourceProcessors = new ArrayList<BulkResourceProcessor<?>>();
+
   /**
    * Empty constructor to setup a {@link ResourceProcessorInvokingHandlerAdapter}.
    */
@@ -84,7 +87,9 @@ public class ResourceProcessorInvokingHandlerAdapter extends RequestMappingHandl
 
     // Set up ResourceProcessingHandlerMethodResolver to delegate to originally configured ones
     List<HandlerMethodReturnValueHandler> newHandlers = new ArrayList<HandlerMethodReturnValueHandler>();
-    newHandlers.add(new ResourceProcessorHandlerMethodReturnValueHandler(oldHandlers, resourcesProcessors));
+    newHandlers.add(new ResourceProcessorHandlerMethodReturnValueHandler(oldHandlers,
+                                                                   resourcesProcessors,
+                                                                   bulkResourceProcessors));
 
     // Configure the new handler to be used
     this.setReturnValueHandlers(newHandlers);
@@ -0,0 +1,24 @@
+package org.springframework.data.rest.webmvc.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Narrows a {@link org.springframework.web.bind.annotation.RequestMapping} declared without a method to the HTTP
+ * methods with the given names. Used for methods {@link org.springframework.web.bind.annotation.RequestMethod} does not
+ * know about, like {@literal PATCH}.
+ *
+ * @author Jon Brisbin
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequestMethodName {
+
+	/**
+	 * @return The names of the HTTP methods to map to.
+	 */
+	String[] value();
+
+}
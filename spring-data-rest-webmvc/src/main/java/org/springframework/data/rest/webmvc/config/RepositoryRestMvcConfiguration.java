@@ -16,14 +16,19 @@ import org.springframework.data.repository.support.DomainClassConverter;
 import org.springframework.data.rest.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.convert.ISO8601DateConverter;
 import org.springframework.data.rest.convert.UUIDConverter;
+import org.springframework.data.rest.repository.TemplatedResources;
 import org.springframework.data.rest.repository.UriDomainClassConverter;
 import org.springframework.data.rest.repository.context.AnnotatedHandlerBeanPostProcessor;
 import org.springframework.data.rest.repository.context.RepositoriesFactoryBean;
+import org.springframework.data.rest.repository.context.RepositoryEventMulticaster;
 import org.springframework.data.rest.repository.context.ValidatingRepositoryEventListener;
+import org.springframework.data.rest.repository.invoke.QueryResultCache;
 import org.springframework.data.rest.repository.json.Jackson2DatatypeHelper;
 import org.springframework.data.rest.repository.json.PersistentEntityJackson2Module;
 import org.springframework.data.rest.repository.json.PersistentEntityToJsonSchemaConverter;
 import org.springframework.data.rest.repository.support.DomainObjectMerger;
+import org.springframework.data.rest.repository.support.JpaIdQueries;
+import org.springframework.data.rest.repository.support.JpaValidationSupport;
 import org.springframework.data.rest.webmvc.BaseUriMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.PagingAndSortingMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.PersistentEntityResourceHandlerMethodArgumentResolver;
@@ -37,12 +42,14 @@ import org.springframework.data.rest.webmvc.RepositoryRestRequestHandlerMethodAr
 import org.springframework.data.rest.webmvc.RepositorySearchController;
 import org.springframework.data.rest.webmvc.ServerHttpRequestMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.convert.UriListHttpMessageConverter;
+import org.springframework.data.rest.webmvc.support.ConstraintViolationExceptionResolver;
 import org.springframework.data.rest.webmvc.support.JpaHelper;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
 import org.springframework.data.rest.webmvc.support.ValidationExceptionHandler;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.util.ClassUtils;
@@ -119,6 +126,29 @@ public class RepositoryRestMvcConfiguration {
 		}
 	}
 
+	/**
+	 * Tells the {@link ValidatingRepositoryEventListener} which domain types the JPA provider validates on write, so JSR-303
+	 * validation runs only once per write.
+	 */
+	@Bean @Lazy public JpaValidationSupport jpaValidationSupport() {
+		if(IS_JPA_AVAILABLE) {
+			return new JpaValidationSupport();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Lists the ids of JPA entities without loading the entities, for listings that only consist of links.
+	 */
+	@Bean @Lazy public JpaIdQueries jpaIdQueries() {
+		if(IS_JPA_AVAILABLE) {
+			return new JpaIdQueries();
+		} else {
+			return null;
+		}
+	}
+
 	/**
 	 * Main configuration for the REST exporter.
 	 */
@@ -138,6 +168,27 @@ public class RepositoryRestMvcConfiguration {
 		return new AnnotatedHandlerBeanPostProcessor();
 	}
 
+	/**
+	 * Dispatches the {@link org.springframework.data.rest.repository.context.RepositoryEvent}s emitted by the exporter
+	 * only to the listeners interested in them.
+	 *
+	 * @return
+	 */
+	@Bean public RepositoryEventMulticaster repositoryEventMulticaster() {
+		return new RepositoryEventMulticaster();
+	}
+
+	/**
+	 * Caches the results of query methods annotated with a {@link
+	 * org.springframework.data.rest.repository.annotation.RestResource#cacheTtl()} until they expire or an entity of
+	 * the repository's domain type is changed.
+	 *
+	 * @return
+	 */
+	@Bean public QueryResultCache queryResultCache() {
+		return new QueryResultCache();
+	}
+
 	/**
 	 * For merging incoming objects materialized from JSON with existing domain objects loaded from the repository.
 	 *
@@ -327,7 +378,8 @@ public class RepositoryRestMvcConfiguration {
 				MediaType.APPLICATION_JSON,
 				MediaType.valueOf("application/schema+json"),
 				MediaType.valueOf("application/x-spring-data-verbose+json"),
-				MediaType.valueOf("application/x-spring-data-compact+json")
+				MediaType.valueOf("application/x-spring-data-compact+json"),
+				MediaType.valueOf(TemplatedResources.MEDIA_TYPE)
 		));
 		return jacksonConverter;
 	}
@@ -395,8 +447,19 @@ public class RepositoryRestMvcConfiguration {
 		return er;
 	}
 
+	/**
+	 * Reports constraint violations found by the JPA provider's Bean Validation callbacks like the ones found by the
+	 * exporter's validators, if Bean Validation is available.
+	 *
+	 * @return
+	 */
+	@Bean public ConstraintViolationExceptionResolver constraintViolationExceptionResolver() {
+		return new ConstraintViolationExceptionResolver(exceptionHandlerExceptionResolver());
+	}
+
 	private List<HttpMessageConverter<?>> defaultMessageConverters() {
 		List<HttpMessageConverter<?>> messageConverters = new ArrayList<HttpMessageConverter<?>>();
+		messageConverters.add(new ByteArrayHttpMessageConverter());
 		messageConverters.add(jacksonHttpMessageConverter());
 		messageConverters.add(uriListHttpMessageConverter());
 		return messageConverters;
@@ -1,16 +1,18 @@
 package org.springframework.data.rest.webmvc.convert;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
@@ -19,55 +21,92 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 
 /**
+ * Reads and writes {@literal text/uri-list} in UTF-8. Reading into a {@link UriListReader} hands the body over to be
+ * consumed in chunks; reading into a {@link Resource} collects all URIs as its links. Writing {@link Resources} writes
+ * the URIs of their content elements only, not the links of the collection itself (like its search or paging links):
+ * {@link Link}s, {@link URI}s and {@link String}s as they are and the self links of {@link ResourceSupport}s. Any other
+ * {@link ResourceSupport} is written as its links. An {@link Iterable} is written element by element as it is iterated,
+ * so its elements can be produced lazily.
+ *
  * @author Jon Brisbin
  */
-public class UriListHttpMessageConverter implements HttpMessageConverter<Resource<?>> {
+public class UriListHttpMessageConverter implements HttpMessageConverter<Object> {
 
+  private static final MediaType       URI_LIST    = new MediaType("text", "uri-list", UriListReader.UTF8);
   private static final List<MediaType> MEDIA_TYPES = new ArrayList<MediaType>();
+  private static final int             BUFFER_SIZE = 8192;
 
   static {
-    MEDIA_TYPES.add(MediaType.parseMediaType("text/uri-list"));
+    MEDIA_TYPES.add(URI_LIST);
   }
 
   @Override public boolean canRead(Class<?> clazz, MediaType mediaType) {
-    if(null == mediaType) {
-      return false;
-    }
-    return Resource.class.isAssignableFrom(clazz) && mediaType.getSubtype().contains("uri-list");
+    return isUriList(mediaType)
+        && (Resource.class.isAssignableFrom(clazz) || UriListReader.class.isAssignableFrom(clazz));
   }
 
   @Override public boolean canWrite(Class<?> clazz, MediaType mediaType) {
-    return canRead(clazz, mediaType);
+    return isUriList(mediaType)
+        && (ResourceSupport.class.isAssignableFrom(clazz) || Iterable.class.isAssignableFrom(clazz));
   }
 
   @Override public List<MediaType> getSupportedMediaTypes() {
     return MEDIA_TYPES;
   }
 
-  @Override public Resource<?> read(Class<? extends Resource<?>> clazz,
-                                    HttpInputMessage inputMessage)
+  @Override public Object read(Class<?> clazz,
+                               HttpInputMessage inputMessage)
       throws IOException,
              HttpMessageNotReadableException {
+    UriListReader reader = new UriListReader(inputMessage.getBody());
+    if(UriListReader.class.isAssignableFrom(clazz)) {
+      return reader;
+    }
+
     List<Link> links = new ArrayList<Link>();
-    BufferedReader reader = new BufferedReader(new InputStreamReader(inputMessage.getBody()));
-    String line;
-    while(null != (line = reader.readLine())) {
-      links.add(new Link(line));
+    for(String uri : reader.readAll()) {
+      links.add(new Link(uri));
     }
     return new Resource<Object>(Collections.emptyList(), links);
   }
 
-  @Override public void write(Resource<?> resource,
+  @Override public void write(Object obj,
                               MediaType contentType,
                               HttpOutputMessage outputMessage)
       throws IOException,
              HttpMessageNotWritableException {
-    BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputMessage.getBody()));
-    for(Link link : resource.getLinks()) {
-      writer.write(link.getHref());
-      writer.newLine();
+    if(null == outputMessage.getHeaders().getContentType()) {
+      outputMessage.getHeaders().setContentType(URI_LIST);
+    }
+
+    Writer writer = new BufferedWriter(new OutputStreamWriter(outputMessage.getBody(), UriListReader.UTF8),
+                                       BUFFER_SIZE);
+    Iterable<?> uris;
+    if(obj instanceof Resources) {
+      uris = ((Resources<?>)obj).getContent();
+    } else if(obj instanceof ResourceSupport) {
+      uris = ((ResourceSupport)obj).getLinks();
+    } else {
+      uris = (Iterable<?>)obj;
+    }
+    for(Object uri : uris) {
+      if(uri instanceof ResourceSupport) {
+        uri = ((ResourceSupport)uri).getId();
+      }
+      if(uri instanceof Link) {
+        writer.write(((Link)uri).getHref());
+      } else if(null != uri) {
+        writer.write(uri.toString());
+      } else {
+        continue;
+      }
+      writer.write("\r\n");
     }
     writer.flush();
   }
 
+  private static boolean isUriList(MediaType mediaType) {
+    return null != mediaType && mediaType.getSubtype().contains("uri-list");
+  }
+
 }
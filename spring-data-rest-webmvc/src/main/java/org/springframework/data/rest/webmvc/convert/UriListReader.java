@@ -0,0 +1,140 @@
+package org.springframework.data.rest.webmvc.convert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Reads the URIs of a {@literal text/uri-list} body in chunks of a bounded size as they are needed, rather than all at
+ * once. Blank lines and comment lines (starting with {@literal #}) are skipped. The same list and character buffers
+ * are reused for every chunk, so a chunk is only valid until the next one is read.
+ *
+ * @author Jon Brisbin
+ */
+public class UriListReader {
+
+  public static final Charset UTF8               = Charset.forName("UTF-8");
+  public static final int     DEFAULT_CHUNK_SIZE = 500;
+
+  private final Reader        reader;
+  private final int           chunkSize;
+  private final List<String>  chunk;
+  private final char[]        buffer = new char[4096];
+  private final StringBuilder line   = new StringBuilder(128);
+  private       int           pos    = 0;
+  private       int           limit  = 0;
+  private       boolean       eof    = false;
+
+  public UriListReader(InputStream in) {
+    this(in, DEFAULT_CHUNK_SIZE);
+  }
+
+  public UriListReader(InputStream in, int chunkSize) {
+    Assert.notNull(in, "InputStream cannot be null.");
+    Assert.isTrue(chunkSize > 0, "Chunk size must be greater than 0.");
+    this.reader = new InputStreamReader(in, UTF8);
+    this.chunkSize = chunkSize;
+    this.chunk = new ArrayList<String>(chunkSize);
+  }
+
+  /**
+   * Read the next URIs.
+   *
+   * @return Up to the configured chunk size of URIs, or an empty list once all URIs have been read. The list is reused
+   *         by the next call.
+   *
+   * @throws IOException
+   */
+  public List<String> read() throws IOException {
+    chunk.clear();
+    String uri;
+    while(chunk.size() < chunkSize && null != (uri = nextUri())) {
+      chunk.add(uri);
+    }
+    return Collections.unmodifiableList(chunk);
+  }
+
+  /**
+   * Read all remaining URIs. Only meant for lists known to be short.
+   *
+   * @return The remaining URIs.
+   *
+   * @throws IOException
+   */
+  public List<String> readAll() throws IOException {
+    List<String> uris = new ArrayList<String>();
+    String uri;
+    while(null != (uri = nextUri())) {
+      uris.add(uri);
+    }
+    return uris;
+  }
+
+  private String nextUri() throws IOException {
+    String s;
+    while(null != (s = nextLine())) {
+      if(s.length() > 0 && s.charAt(0) != '#') {
+        return s;
+      }
+    }
+    return null;
+  }
+
+  private String nextLine() throws IOException {
+    line.setLength(0);
+    boolean read = false;
+    while(true) {
+      if(pos == limit) {
+        if(eof || !fill()) {
+          return (read ? trimmed() : null);
+        }
+      }
+      read = true;
+      int start = pos;
+      while(pos < limit) {
+        char c = buffer[pos];
+        if(c == '\n' || c == '\r') {
+          line.append(buffer, start, pos - start);
+          pos++;
+          if(c == '\r' && (pos < limit || fill()) && buffer[pos] == '\n') {
+            pos++;
+          }
+          return trimmed();
+        }
+        pos++;
+      }
+      line.append(buffer, start, pos - start);
+    }
+  }
+
+  private boolean fill() throws IOException {
+    int n = reader.read(buffer, 0, buffer.length);
+    if(n < 0) {
+      eof = true;
+      return false;
+    }
+    pos = 0;
+    limit = n;
+    return true;
+  }
+
+  private String trimmed() {
+    int start = 0;
+    int end = line.length();
+    while(start < end && line.charAt(start) <= ' ') {
+      start++;
+    }
+    while(end > start && line.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return line.substring(start, end);
+  }
+
+}
@@ -0,0 +1,60 @@
+package org.springframework.data.rest.webmvc.support;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.data.rest.repository.RepositoryConstraintViolationException;
+import org.springframework.data.rest.webmvc.AbstractRepositoryRestController;
+import org.springframework.util.Assert;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.handler.AbstractHandlerMethodExceptionResolver;
+
+/**
+ * Reports constraint violations found by the JPA provider's Bean Validation callbacks (possibly wrapped, e.g. in a
+ * {@link org.springframework.transaction.TransactionSystemException} when raised on commit) like the ones found by the
+ * exporter's validators. The {@link ValidationExceptionHandler} translates them into a {@link
+ * RepositoryConstraintViolationException}, which is handed to the delegate to be answered by the controller's {@link
+ * org.springframework.web.bind.annotation.ExceptionHandler}. Any other failure is left to the other resolvers.
+ * <p/>
+ * Nothing is translated without Bean Validation on the classpath, as there is no {@link ValidationExceptionHandler}
+ * then.
+ *
+ * @author Jon Brisbin
+ */
+public class ConstraintViolationExceptionResolver extends AbstractHandlerMethodExceptionResolver {
+
+	private final HandlerExceptionResolver   delegate;
+	@Autowired(required = false)
+	private       ValidationExceptionHandler validationExceptionHandler;
+
+	public ConstraintViolationExceptionResolver(HandlerExceptionResolver delegate) {
+		Assert.notNull(delegate, "Delegate HandlerExceptionResolver cannot be null!");
+		this.delegate = delegate;
+		setMappedHandlerClasses(new Class<?>[]{AbstractRepositoryRestController.class});
+		setOrder(Ordered.HIGHEST_PRECEDENCE);
+	}
+
+	public ConstraintViolationExceptionResolver setValidationExceptionHandler(ValidationExceptionHandler validationExceptionHandler) {
+		this.validationExceptionHandler = validationExceptionHandler;
+		return this;
+	}
+
+	@Override protected ModelAndView doResolveHandlerMethodException(HttpServletRequest request,
+	                                                                 HttpServletResponse response,
+	                                                                 HandlerMethod handlerMethod,
+	                                                                 Exception ex) {
+		if(null == validationExceptionHandler) {
+			return null;
+		}
+		RepositoryConstraintViolationException rcve = validationExceptionHandler.translate(ex);
+		if(null == rcve) {
+			return null;
+		}
+		return delegate.resolveException(request, response, handlerMethod, rcve);
+	}
+
+}
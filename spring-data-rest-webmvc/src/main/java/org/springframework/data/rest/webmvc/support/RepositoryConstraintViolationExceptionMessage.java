@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import org.springframework.context.MessageSource;
 import org.springframework.data.rest.repository.RepositoryConstraintViolationException;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
 
 /**
  * @author Jon Brisbin
@@ -42,6 +43,14 @@ public class RepositoryConstraintViolationExceptionMessage {
 			                                    String.format("%s", fe.getRejectedValue()),
 			                                    fe.getField()));
 		}
+
+		for(ObjectError oe : violationException.getErrors().getGlobalErrors()) {
+			String msg = msgSrc.getMessage(oe.getCode(),
+			                               new Object[]{oe.getObjectName()},
+			                               oe.getDefaultMessage(),
+			                               locale);
+			this.errors.add(new ValidationError(oe.getObjectName(), msg, null, null));
+		}
 	}
 
 	@JsonProperty("errors")
@@ -1,9 +1,11 @@
 package org.springframework.data.rest.webmvc.support;
 
-import static org.springframework.data.rest.core.util.UriUtils.*;
 import static org.springframework.data.rest.repository.support.ResourceMappingUtils.*;
 
+import java.io.UnsupportedEncodingException;
 import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mapping.PersistentEntity;
@@ -12,21 +14,31 @@ import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.config.ResourceMapping;
-import org.springframework.data.rest.webmvc.RepositoryController;
 import org.springframework.hateoas.Identifiable;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.hateoas.core.AbstractEntityLinks;
-import org.springframework.hateoas.mvc.ControllerLinkBuilder;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
 
 /**
+ * {@link org.springframework.hateoas.EntityLinks} for the entities exported by the repository exporter. The path and
+ * rels of each entity type as well as how to encode its ids are worked out on first use, so creating a link is a
+ * matter of appending the encoded id to the base URI and the repository path. If no base URI is configured, the one
+ * derived from the current request is only worked out once per request.
+ *
  * @author Jon Brisbin
  */
 public class RepositoryEntityLinks extends AbstractEntityLinks {
 
-	private final Repositories                repositories;
-	private final RepositoryRestConfiguration config;
+	private static final String BASE_URI_ATTRIBUTE = RepositoryEntityLinks.class.getName() + ".BASE_URI";
+
+	private final Repositories                          repositories;
+	private final RepositoryRestConfiguration           config;
+	private final ConcurrentMap<Class<?>, EntityHrefs> hrefs = new ConcurrentHashMap<Class<?>, EntityHrefs>();
 
 	@Autowired
 	public RepositoryEntityLinks(Repositories repositories,
@@ -41,15 +53,7 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 	}
 
 	@Override public LinkBuilder linkFor(Class<?> type) {
-		RepositoryInformation repoInfo = repositories.getRepositoryInformationFor(type);
-		if(null == repoInfo) {
-			throw new IllegalArgumentException(type + " is not managed by any repository.");
-		}
-		PersistentEntity persistentEntity = repositories.getPersistentEntity(type);
-		if(null == persistentEntity) {
-			throw new IllegalArgumentException(type + " is not managed by any repository.");
-		}
-		return new PersistentEntityLinkBuilder(config.getBaseUri(), repoInfo, persistentEntity);
+		return new PersistentEntityLinkBuilder(getEntityHrefs(type), getBaseUri());
 	}
 
 	@Override public LinkBuilder linkFor(Class<?> type, Object... parameters) {
@@ -57,56 +61,126 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 	}
 
 	@Override public Link linkToCollectionResource(Class<?> type) {
-		RepositoryInformation repoInfo = repositories.getRepositoryInformationFor(type);
-		if(null == repoInfo) {
-			throw new IllegalArgumentException(type + " is not managed by any repository.");
-		}
-		ResourceMapping mapping = getResourceMapping(config, repoInfo);
-		return linkFor(type).withRel(mapping.getRel());
+		EntityHrefs entityHrefs = getEntityHrefs(type);
+		return new Link(getBaseUri() + entityHrefs.path, entityHrefs.collectionRel);
 	}
 
 	@Override public Link linkToSingleResource(Class<?> type, Object id) {
-		RepositoryInformation repoInfo = repositories.getRepositoryInformationFor(type);
-		if(null == repoInfo) {
-			throw new IllegalArgumentException(type + " is not managed by any repository.");
+		EntityHrefs entityHrefs = getEntityHrefs(type);
+		return new Link(entityHrefs.itemHref(getBaseUri(), id), entityHrefs.itemRel);
+	}
+
+	private EntityHrefs getEntityHrefs(Class<?> type) {
+		EntityHrefs entityHrefs = hrefs.get(type);
+		if(null == entityHrefs) {
+			RepositoryInformation repoInfo = repositories.getRepositoryInformationFor(type);
+			if(null == repoInfo) {
+				throw new IllegalArgumentException(type + " is not managed by any repository.");
+			}
+			PersistentEntity persistentEntity = repositories.getPersistentEntity(type);
+			if(null == persistentEntity) {
+				throw new IllegalArgumentException(type + " is not managed by any repository.");
+			}
+			entityHrefs = new EntityHrefs(getResourceMapping(config, repoInfo),
+			                              getResourceMapping(config, persistentEntity),
+			                              persistentEntity);
+			EntityHrefs existing = hrefs.putIfAbsent(type, entityHrefs);
+			if(null != existing) {
+				entityHrefs = existing;
+			}
 		}
-		ResourceMapping repoMapping = getResourceMapping(config, repoInfo);
-		PersistentEntity persistentEntity = repositories.getPersistentEntity(type);
-		ResourceMapping entityMapping = getResourceMapping(config, persistentEntity);
-		return linkFor(type).slash(id).withRel(repoMapping.getRel() + "." + entityMapping.getRel());
+		return entityHrefs;
 	}
 
-	private class PersistentEntityLinkBuilder implements LinkBuilder {
-		private final UriComponentsBuilder builder;
-		private final ResourceMapping      repoMapping;
-		private final ResourceMapping      entityMapping;
-
-		private PersistentEntityLinkBuilder(URI baseUri,
-		                                    RepositoryInformation repoInfo,
-		                                    PersistentEntity persistentEntity) {
-			this.repoMapping = getResourceMapping(config, repoInfo);
-			this.entityMapping = getResourceMapping(config, persistentEntity);
-			if(null == baseUri) {
-				URI u = ControllerLinkBuilder.linkTo(RepositoryController.class).toUri();
-				if(u.toString().endsWith("/")) {
-					String s = u.toString();
-					baseUri = URI.create(s.substring(0, s.lastIndexOf('/')));
-				} else {
-					baseUri = u;
-				}
+	/**
+	 * Get the base URI links are created under, without a trailing slash.
+	 */
+	private String getBaseUri() {
+		if(null != config.getBaseUri()) {
+			return stripTrailingSlash(config.getBaseUri().toString());
+		}
+
+		RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+		String baseUri = (null != attrs
+		                  ? (String)attrs.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+		                  : null);
+		if(null == baseUri) {
+			// Same as the BaseUriMethodArgumentResolver, the repositories are exported under the servlet mapping
+			baseUri = stripTrailingSlash(ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString());
+			if(null != attrs) {
+				attrs.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
 			}
-			this.builder = UriComponentsBuilder.fromUri(buildUri(baseUri, repoMapping.getPath()));
 		}
+		return baseUri;
+	}
 
-		@Override public LinkBuilder slash(Object object) {
-			String path = String.format("%s", object);
+	private static String stripTrailingSlash(String uri) {
+		return (uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri);
+	}
+
+	private static String encode(Object segment) {
+		try {
+			return UriUtils.encodePathSegment(segment.toString(), "UTF-8");
+		} catch(UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * The parts of the links to one type of entity that do not depend on the base URI or the id.
+	 */
+	private static class EntityHrefs {
+		final ResourceMapping entityMapping;
+		final String          path;
+		final String          collectionRel;
+		final String          itemRel;
+		final boolean         numericIds;
+
+		EntityHrefs(ResourceMapping repoMapping, ResourceMapping entityMapping, PersistentEntity persistentEntity) {
+			this.entityMapping = entityMapping;
+			this.path = "/" + encode(repoMapping.getPath());
+			this.collectionRel = repoMapping.getRel();
+			this.itemRel = repoMapping.getRel() + "." + entityMapping.getRel();
+			PersistentProperty idProperty = persistentEntity.getIdProperty();
+			Class<?> idType = (null != idProperty ? ClassUtils.resolvePrimitiveIfNecessary(idProperty.getType()) : null);
+			this.numericIds = (null != idType && Number.class.isAssignableFrom(idType));
+		}
+
+		String itemHref(String baseUri, Object id) {
+			return new StringBuilder(baseUri.length() + path.length() + 16)
+					.append(baseUri)
+					.append(path)
+					.append('/')
+					.append(segment(id))
+					.toString();
+		}
+
+		String segment(Object object) {
+			if(numericIds && object instanceof Number) {
+				return object.toString();
+			}
 			if(object instanceof PersistentProperty) {
 				String propName = ((PersistentProperty)object).getName();
 				if(entityMapping.hasResourceMappingFor(propName)) {
-					path = entityMapping.getResourceMappingFor(propName).getPath();
+					return encode(entityMapping.getResourceMappingFor(propName).getPath());
 				}
+				return encode(propName);
 			}
-			builder.pathSegment(path);
+			return encode(String.valueOf(object));
+		}
+	}
+
+	private static class PersistentEntityLinkBuilder implements LinkBuilder {
+		private final EntityHrefs   entityHrefs;
+		private final StringBuilder href;
+
+		private PersistentEntityLinkBuilder(EntityHrefs entityHrefs, String baseUri) {
+			this.entityHrefs = entityHrefs;
+			this.href = new StringBuilder(baseUri).append(entityHrefs.path);
+		}
+
+		@Override public LinkBuilder slash(Object object) {
+			href.append('/').append(entityHrefs.segment(object));
 			return this;
 		}
 
@@ -115,11 +189,11 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 		}
 
 		@Override public URI toUri() {
-			return builder.build().toUri();
+			return URI.create(href.toString());
 		}
 
 		@Override public Link withRel(String rel) {
-			return new Link(builder.build().toUriString(), rel);
+			return new Link(href.toString(), rel);
 		}
 
 		@Override public Link withSelfRel() {
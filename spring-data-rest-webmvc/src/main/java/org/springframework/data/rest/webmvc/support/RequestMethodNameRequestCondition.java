@@ -0,0 +1,63 @@
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.web.servlet.mvc.condition.AbstractRequestCondition;
+
+/**
+ * Request condition matching the HTTP method of the request by name, for methods not covered by {@link
+ * org.springframework.web.bind.annotation.RequestMethod}.
+ *
+ * @author Jon Brisbin
+ * @see org.springframework.data.rest.webmvc.annotation.RequestMethodName
+ */
+public class RequestMethodNameRequestCondition extends AbstractRequestCondition<RequestMethodNameRequestCondition> {
+
+	private final Set<String> methods;
+
+	public RequestMethodNameRequestCondition(String... methods) {
+		Set<String> names = new LinkedHashSet<String>();
+		for(String method : methods) {
+			names.add(method.toUpperCase());
+		}
+		this.methods = Collections.unmodifiableSet(names);
+	}
+
+	private RequestMethodNameRequestCondition(Set<String> methods) {
+		this.methods = methods;
+	}
+
+	@Override protected Collection<?> getContent() {
+		return methods;
+	}
+
+	@Override protected String getToStringInfix() {
+		return " || ";
+	}
+
+	@Override public RequestMethodNameRequestCondition combine(RequestMethodNameRequestCondition other) {
+		Set<String> names = new LinkedHashSet<String>(methods);
+		names.addAll(other.methods);
+		return new RequestMethodNameRequestCondition(Collections.unmodifiableSet(names));
+	}
+
+	@Override public RequestMethodNameRequestCondition getMatchingCondition(HttpServletRequest request) {
+		if(methods.isEmpty()) {
+			return this;
+		}
+		String method = request.getMethod().toUpperCase();
+		if(methods.contains(method)) {
+			return new RequestMethodNameRequestCondition(Collections.singleton(method));
+		}
+		return null;
+	}
+
+	@Override public int compareTo(RequestMethodNameRequestCondition other, HttpServletRequest request) {
+		return other.methods.size() - methods.size();
+	}
+
+}
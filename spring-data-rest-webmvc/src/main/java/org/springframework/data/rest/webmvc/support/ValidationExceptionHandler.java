@@ -1,12 +1,17 @@
 package org.springframework.data.rest.webmvc.support;
 
 import java.util.Locale;
+import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 
 import org.springframework.context.MessageSource;
+import org.springframework.data.rest.repository.RepositoryConstraintViolationException;
+import org.springframework.data.rest.repository.ValidationErrors;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
 
 /**
  * @author Jon Brisbin
@@ -26,4 +31,51 @@ public class ValidationExceptionHandler {
 		);
 	}
 
+	/**
+	 * Turn a {@link ConstraintViolationException} raised by the JPA provider's Bean Validation callbacks (possibly
+	 * wrapped, e.g. in a {@link org.springframework.transaction.TransactionSystemException} when raised on commit) into a
+	 * {@link RepositoryConstraintViolationException}, so violations are reported the same way no matter whether the
+	 * exporter's validators or the provider's validation pass found them.
+	 *
+	 * @param ex
+	 * 		The exception to inspect.
+	 *
+	 * @return The translated exception or {@literal null} if {@code ex} was not caused by constraint violations.
+	 */
+	public RepositoryConstraintViolationException translate(Throwable ex) {
+		ConstraintViolationException cve = null;
+		for(Throwable t = ex; null != t && null == cve; t = (t.getCause() == t ? null : t.getCause())) {
+			if(t instanceof ConstraintViolationException) {
+				cve = (ConstraintViolationException)t;
+			}
+		}
+		if(null == cve || null == cve.getConstraintViolations() || cve.getConstraintViolations().isEmpty()) {
+			return null;
+		}
+
+		ValidationErrors errors = null;
+		for(ConstraintViolation<?> cv : cve.getConstraintViolations()) {
+			String entityName = cv.getRootBeanClass().getSimpleName();
+			if(null == errors) {
+				errors = new ValidationErrors(entityName, cv.getRootBean(), null);
+			}
+
+			String code = cv.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName();
+			String field = (null != cv.getPropertyPath() ? cv.getPropertyPath().toString() : "");
+			if(field.length() > 0) {
+				errors.addError(new FieldError(entityName,
+				                               field,
+				                               cv.getInvalidValue(),
+				                               false,
+				                               new String[]{code},
+				                               null,
+				                               cv.getMessage()));
+			} else {
+				errors.addError(new ObjectError(entityName, new String[]{code}, null, cv.getMessage()));
+			}
+		}
+
+		return new RepositoryConstraintViolationException(errors, cve);
+	}
+
 }
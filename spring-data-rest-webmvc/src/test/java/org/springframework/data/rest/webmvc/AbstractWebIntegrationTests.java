@@ -0,0 +1,82 @@
+package org.springframework.data.rest.webmvc;
+
+import javax.servlet.ServletException;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.springframework.data.rest.webmvc.jpa.JpaWebTestsConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * Base class for tests sending requests through a {@link DispatcherServlet} exporting the JPA repositories of {@link
+ * JpaWebTestsConfig}. The context is shared by all tests of a class.
+ *
+ * @author Jon Brisbin
+ */
+public abstract class AbstractWebIntegrationTests {
+
+  protected static AnnotationConfigWebApplicationContext appCtx;
+  protected static DispatcherServlet                     servlet;
+
+  @Before
+  public void setupServlet() throws ServletException {
+    if(null != servlet) {
+      return;
+    }
+    MockServletContext servletContext = new MockServletContext();
+    appCtx = new AnnotationConfigWebApplicationContext();
+    appCtx.setServletContext(servletContext);
+    appCtx.register(JpaWebTestsConfig.class);
+    appCtx.refresh();
+
+    servlet = new DispatcherServlet(appCtx);
+    servlet.init(new MockServletConfig(servletContext));
+  }
+
+  @AfterClass
+  public static void teardownServlet() {
+    if(null != servlet) {
+      servlet.destroy();
+      appCtx.close();
+      servlet = null;
+      appCtx = null;
+    }
+  }
+
+  protected static MockHttpServletRequest request(String method, String uri) {
+    return request(method, uri, "application/json");
+  }
+
+  protected static MockHttpServletRequest request(String method, String uri, String accept) {
+    int queryStart = uri.indexOf('?');
+    MockHttpServletRequest request = new MockHttpServletRequest(method,
+                                                                queryStart < 0 ? uri : uri.substring(0, queryStart));
+    if(queryStart >= 0) {
+      request.setQueryString(uri.substring(queryStart + 1));
+      for(String param : uri.substring(queryStart + 1).split("&")) {
+        String[] nameAndValue = param.split("=", 2);
+        request.addParameter(nameAndValue[0], nameAndValue.length > 1 ? nameAndValue[1] : "");
+      }
+    }
+    request.setServerName("localhost");
+    request.setServerPort(8080);
+    request.addHeader("Accept", accept);
+    return request;
+  }
+
+  protected static MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    servlet.service(request, response);
+    return response;
+  }
+
+  protected static MockHttpServletResponse perform(String method, String uri) throws Exception {
+    return perform(request(method, uri));
+  }
+
+}
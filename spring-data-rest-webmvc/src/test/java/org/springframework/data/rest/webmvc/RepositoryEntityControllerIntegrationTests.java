@@ -0,0 +1,184 @@
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.repository.annotation.HandleBeforeSave;
+import org.springframework.data.rest.repository.annotation.RepositoryEventHandler;
+import org.springframework.data.rest.repository.context.AbstractRepositoryEventListener;
+import org.springframework.data.rest.repository.context.AnnotatedHandlerBeanPostProcessor;
+import org.springframework.data.rest.repository.context.RepositoryEventMulticaster;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Tests to verify the entity resources of {@link RepositoryEntityController} through the web layer.
+ *
+ * @author Jon Brisbin
+ */
+public class RepositoryEntityControllerIntegrationTests extends AbstractWebIntegrationTests {
+
+  @Before
+  public void setup() {
+    if(!appCtx.containsBean("personListener")) {
+      appCtx.getBeanFactory().registerSingleton("personListener", new PersonListener());
+      appCtx.getBean(AnnotatedHandlerBeanPostProcessor.class)
+            .postProcessAfterInitialization(new PersonHandler(), "personHandler");
+      appCtx.getBean(RepositoryEventMulticaster.class).refresh();
+    }
+  }
+
+  @Test
+  public void shouldRollBackSaveIfAfterSaveHandlerFails() throws Exception {
+    MockHttpServletRequest request = request("PUT", "/people/3");
+    request.setContentType("application/json");
+    request.setContent("{\"firstName\":\"Janet\",\"lastName\":\"Doe\"}".getBytes("UTF-8"));
+
+    PersonListener.failing = true;
+    try {
+      perform(request);
+    } catch(Exception e) {
+      // Expected to surface as the request failing
+    } finally {
+      PersonListener.failing = false;
+    }
+
+    String body = perform("GET", "/people/3").getContentAsString();
+    assertThat(body, containsString("\"Jane\""));
+    assertThat(body, not(containsString("\"Janet\"")));
+  }
+
+  @Test
+  public void shouldPublishBeforeSaveWithTheEntityToBeSaved() throws Exception {
+    MockHttpServletRequest request = request("PUT", "/people/2");
+    request.setContentType("application/json");
+    request.setContent("{\"firstName\":\"John\",\"lastName\":\"Doe\"}".getBytes("UTF-8"));
+    perform(request);
+
+    assertThat(PersonListener.beforeSave, is(notNullValue()));
+    assertThat(PersonListener.beforeSave.getId(), is(2L));
+  }
+
+  @Test
+  public void shouldHandTheMergedEntityToAnnotatedBeforeSaveHandlers() throws Exception {
+    MockHttpServletRequest request = request("PUT", "/people/2");
+    request.setContentType("application/json");
+    request.setContent("{\"firstName\":\"John\"}".getBytes("UTF-8"));
+    perform(request);
+
+    assertThat(PersonHandler.beforeSave, is(notNullValue()));
+    assertThat(PersonHandler.beforeSave.getId(), is(2L));
+    assertThat(PersonHandler.beforeSave.getFirstName(), is("John"));
+    assertThat(PersonHandler.beforeSave.getLastName(), is("Doe"));
+  }
+
+  @Test
+  public void shouldRenderIdVariableOfSchemaLinksUnencoded() throws Exception {
+    String body = perform(request("GET", "/people/schema", "application/schema+json")).getContentAsString();
+
+    assertThat(body, containsString("\"/people/{id}/siblings\""));
+  }
+
+  @Test
+  public void shouldAnswerHeadOnCollectionWithoutBody() throws Exception {
+    MockHttpServletResponse response = perform("HEAD", "/people");
+
+    assertThat(response.getStatus(), is(200));
+    assertThat(response.getContentAsByteArray().length, is(0));
+    assertThat(perform("HEAD", "/unknown").getStatus(), is(404));
+  }
+
+  @Test
+  public void shouldAnswerNotModifiedIfSchemaIsUnchanged() throws Exception {
+    MockHttpServletResponse response = perform(request("GET", "/people/schema", "application/schema+json"));
+    String etag = (String)response.getHeader("ETag");
+
+    assertThat(response.getStatus(), is(200));
+    assertThat(etag, startsWith("\""));
+    assertThat(etag, endsWith("\""));
+    assertThat((String)response.getHeader("Cache-Control"), is("public, max-age=86400"));
+
+    MockHttpServletRequest request = request("GET", "/people/schema", "application/schema+json");
+    request.setServerName("example.org");
+    request.addHeader("If-None-Match", etag);
+    MockHttpServletResponse notModified = perform(request);
+
+    assertThat(notModified.getStatus(), is(304));
+    assertThat((String)notModified.getHeader("ETag"), is(etag));
+    assertThat(notModified.getContentAsByteArray().length, is(0));
+
+    request = request("GET", "/people/schema", "application/schema+json");
+    request.addHeader("If-None-Match", "\"stale\"");
+
+    assertThat(perform(request).getStatus(), is(200));
+  }
+
+  @Test
+  public void shouldCompareEachEntityTagOfIfNoneMatchWithSchemaETag() throws Exception {
+    String etag = (String)perform(request("GET", "/people/schema", "application/schema+json")).getHeader("ETag");
+
+    assertThat(schemaStatus("\"stale\", " + etag), is(304));
+    assertThat(schemaStatus("W/" + etag), is(304));
+    assertThat(schemaStatus("*"), is(304));
+    assertThat(schemaStatus("\"" + etag + "\""), is(200));
+    assertThat(schemaStatus("\"stale\", W/\"other\""), is(200));
+  }
+
+  @Test
+  public void shouldRenderIdVariableOfLinkTemplatesUnencoded() throws Exception {
+    String body = perform(request("GET", "/people", "application/x-spring-data-templated+json")).getContentAsString();
+
+    assertThat(body, containsString("\"http://localhost:8080/people/{id}\""));
+    assertThat(body, containsString("\"http://localhost:8080/people/{id}/siblings\""));
+  }
+
+  @Test
+  public void shouldOnlyListEntityLinksAsUriList() throws Exception {
+    String body = perform(request("GET", "/people?limit=2", "text/uri-list")).getContentAsString();
+
+    assertThat(body, is("http://localhost:8080/people/1\r\nhttp://localhost:8080/people/2\r\n"));
+  }
+
+  @Test
+  public void shouldReportPagesOfDefaultSizeForMetadataOnlyRequests() throws Exception {
+    String body = perform("GET", "/people?limit=0").getContentAsString();
+
+    assertThat(body, containsString("\"totalElements\" : 3"));
+    assertThat(body, containsString("\"size\" : 20"));
+    assertThat(body, containsString("\"totalPages\" : 1"));
+  }
+
+  private static int schemaStatus(String ifNoneMatch) throws Exception {
+    MockHttpServletRequest request = request("GET", "/people/schema", "application/schema+json");
+    request.addHeader("If-None-Match", ifNoneMatch);
+    return perform(request).getStatus();
+  }
+
+  public static class PersonListener extends AbstractRepositoryEventListener<Person> {
+    static volatile boolean failing;
+    static volatile Person  beforeSave;
+
+    @Override protected void onBeforeSave(Person entity) {
+      beforeSave = entity;
+    }
+
+    @Override protected void onAfterSave(Person entity) {
+      if(failing) {
+        throw new IllegalStateException("AFTER_SAVE handler failed");
+      }
+    }
+  }
+
+  @RepositoryEventHandler(Person.class)
+  public static class PersonHandler {
+    static volatile Person beforeSave;
+
+    @HandleBeforeSave public void handleBeforeSave(Person entity) {
+      beforeSave = entity;
+    }
+  }
+
+}
@@ -0,0 +1,81 @@
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.jpa.PersonRepository;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Tests to verify the search resources of {@link RepositorySearchController} through the web layer.
+ *
+ * @author Jon Brisbin
+ */
+public class RepositorySearchControllerIntegrationTests extends AbstractWebIntegrationTests {
+
+  @Test
+  public void shouldFindQueryMethodByAnnotatedPathAndByName() throws Exception {
+    assertThat(perform("GET", "/people/search/firstname?firstName=John").getStatus(), is(200));
+    assertThat(perform("GET", "/people/search/findByFirstName?firstName=John").getStatus(), is(200));
+  }
+
+  @Test
+  public void shouldAnswerNotFoundForQueryMethodsThatAreNotExported() throws Exception {
+    assertThat(perform("GET", "/people/search/findByLastName?lastName=Doe").getStatus(), is(404));
+    assertThat(perform("GET", "/people/search/unknown").getStatus(), is(404));
+
+    MockHttpServletResponse response = perform("GET", "/people/search");
+    assertThat(response.getStatus(), is(200));
+    assertThat(response.getContentAsString(), not(containsString("/findByLastName\"")));
+  }
+
+  @Test
+  public void shouldServeCachedResultsUntilEntityIsChangedThroughTheExporter() throws Exception {
+    String uri = "/people/search/findByLastNameStartingWith?prefix=Thorn";
+    assertThat(perform("GET", uri).getContentAsString(), containsString("\"Billy Bob\""));
+
+    PersonRepository people = appCtx.getBean(PersonRepository.class);
+    Person billyBob = people.findOne(1L);
+    billyBob.setFirstName("William");
+    people.save(billyBob);
+
+    assertThat(perform("GET", uri).getContentAsString(), containsString("\"Billy Bob\""));
+
+    try {
+      assertThat(put("/people/" + billyBob.getId(), "{\"firstName\":\"Bill\",\"lastName\":\"Thornton\"}").getStatus(),
+                 is(204));
+
+      String body = perform("GET", uri).getContentAsString();
+      assertThat(body, containsString("\"Bill\""));
+      assertThat(body, not(containsString("\"Billy Bob\"")));
+    } finally {
+      put("/people/" + billyBob.getId(), "{\"firstName\":\"Billy Bob\",\"lastName\":\"Thornton\"}");
+    }
+  }
+
+  @Test
+  public void shouldOnlySendAgeOfCountsServedFromCache() throws Exception {
+    String uri = "/people/search/findByLastNameStartingWith?prefix=Do&limit=0";
+
+    MockHttpServletResponse loaded = perform("GET", uri);
+    assertThat(loaded.getStatus(), is(200));
+    assertThat(loaded.getHeader("Age"), is(nullValue()));
+    assertThat(loaded.getHeader("Last-Modified"), is(nullValue()));
+
+    MockHttpServletResponse cached = perform("GET", uri);
+    assertThat(cached.getContentAsString(), containsString("\"totalElements\" : 2"));
+    assertThat(cached.getHeader("Age"), is(notNullValue()));
+    assertThat(cached.getHeader("Last-Modified"), is(notNullValue()));
+  }
+
+  private static MockHttpServletResponse put(String uri, String json) throws Exception {
+    MockHttpServletRequest request = request("PUT", uri);
+    request.setContentType("application/json");
+    request.setContent(json.getBytes("UTF-8"));
+    return perform(request);
+  }
+
+}
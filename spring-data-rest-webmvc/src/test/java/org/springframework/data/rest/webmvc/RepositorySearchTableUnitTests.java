@@ -0,0 +1,126 @@
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+
+import org.jmock.Expectations;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.repository.annotation.RestResource;
+import org.springframework.data.rest.repository.invoke.RepositoryMethod;
+import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.hateoas.Link;
+
+/**
+ * Unit tests for {@link RepositorySearchTable}.
+ *
+ * @author Jon Brisbin
+ */
+public class RepositorySearchTableUnitTests extends AbstractJMockTests {
+
+  RepositoryRestConfiguration config;
+  RepositoryInformation       repoInfo;
+
+  @Before
+  public void setup() {
+    config = new RepositoryRestConfiguration();
+    repoInfo = context.mock(RepositoryInformation.class);
+    context.checking(new Expectations() {{
+      allowing(repoInfo).getRepositoryInterface();
+      will(returnValue(SearchRepository.class));
+      allowing(repoInfo).getDomainType();
+      will(returnValue(Person.class));
+      allowing(repoInfo).getQueryMethods();
+      will(returnValue(new HashSet<Method>(Arrays.asList(SearchRepository.class.getDeclaredMethods()))));
+    }});
+  }
+
+  @Test
+  public void shouldPreferAnnotatedPathOverMethodName() {
+    RepositorySearchTable table = createTable();
+
+    assertThat(methodNameFor(table, "byName"), is("findByFirstName"));
+    assertThat(methodNameFor(table, "findByFirstName"), is("findByFirstName"));
+    assertThat(methodNameFor(table, "findByLastName"), is("findByLastName"));
+  }
+
+  @Test
+  public void shouldPreferConfiguredPathOverAnnotatedPath() {
+    config.setResourceMappingForRepository(SearchRepository.class)
+          .addResourceMappingFor("findByLastName")
+          .setPath("byName");
+    RepositorySearchTable table = createTable();
+
+    assertThat(methodNameFor(table, "byName"), is("findByLastName"));
+    assertThat(methodNameFor(table, "findByFirstName"), is("findByFirstName"));
+  }
+
+  @Test
+  public void shouldPreferConfiguredPathOverMethodName() {
+    config.setResourceMappingForRepository(SearchRepository.class)
+          .addResourceMappingFor("findByLastName")
+          .setPath("findByFirstName");
+    RepositorySearchTable table = createTable();
+
+    assertThat(methodNameFor(table, "findByFirstName"), is("findByLastName"));
+    assertThat(methodNameFor(table, "byName"), is("findByFirstName"));
+  }
+
+  @Test
+  public void shouldNotFindMethodsThatAreNotExported() {
+    config.setResourceMappingForRepository(SearchRepository.class)
+          .addResourceMappingFor("findByLastName")
+          .setExported(false);
+    RepositorySearchTable table = createTable();
+
+    assertThat(table.getMethod("findByCreatedGreaterThan"), is(nullValue()));
+    assertThat(table.getMethod("findByLastName"), is(nullValue()));
+    assertThat(hrefsOf(table.getLinks(URI.create("http://localhost:8080/"))),
+               everyItem(endsWith("/byName")));
+  }
+
+  private RepositorySearchTable createTable() {
+    return new RepositorySearchTable(config, repoInfo, new RepositoryMethodInvoker(null, repoInfo));
+  }
+
+  private static String methodNameFor(RepositorySearchTable table, String path) {
+    RepositoryMethod repoMethod = table.getMethod(path);
+    return (null != repoMethod ? repoMethod.getMethod().getName() : null);
+  }
+
+  private static List<String> hrefsOf(List<Link> links) {
+    List<String> hrefs = new ArrayList<String>(links.size());
+    for(Link link : links) {
+      hrefs.add(link.getHref());
+    }
+    return hrefs;
+  }
+
+  interface SearchRepository extends Repository<Person, Long> {
+
+    @RestResource(path = "byName")
+    List<Person> findByFirstName(@Param("firstName") String firstName);
+
+    List<Person> findByLastName(@Param("lastName") String lastName);
+
+    List<Person> byName(@Param("name") String name);
+
+    @RestResource(exported = false)
+    List<Person> findByCreatedGreaterThan(@Param("date") Date date);
+
+  }
+
+}
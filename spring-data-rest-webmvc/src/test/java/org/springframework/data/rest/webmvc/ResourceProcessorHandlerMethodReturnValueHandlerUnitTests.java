@@ -22,6 +22,7 @@ import static org.springframework.util.ReflectionUtils.*;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +33,10 @@ import org.jmock.Expectations;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.core.MethodParameter;
+import org.springframework.data.rest.repository.TemplatedResources;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.PagedResources.PageMetadata;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.Resources;
@@ -92,11 +97,13 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTests extends A
 
   HandlerMethodReturnValueHandler delegate;
   List<ResourceProcessor<?>>      resourceProcessors;
+  List<BulkResourceProcessor<?>>  bulkResourceProcessors;
 
   @Before
   public void setUp() {
     delegate = context.mock(HandlerMethodReturnValueHandler.class);
     resourceProcessors = new ArrayList<ResourceProcessor<?>>();
+    bulkResourceProcessors = new ArrayList<BulkResourceProcessor<?>>();
   }
 
   @Test
@@ -189,6 +196,94 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTests extends A
     invokeReturnValueHandler("resourceEntity", is(LONG_20), LONG_10_RES);
   }
 
+  @Test
+  public void doesNotCopyResourcesIfNoElementProcessorApplies() throws Exception {
+    resourceProcessors.add(LongResourceProcessor.INSTANCE);
+
+    invokeReturnValueHandler("resources", sameInstance(FOOS), FOOS);
+  }
+
+  @Test
+  public void postProcessesElementsOfStringResources() throws Exception {
+    resourceProcessors.add(StringResourceProcessor.INSTANCE);
+    resourceProcessors.add(LongResourceProcessor.INSTANCE);
+
+    invokeReturnValueHandler("resources", is(BARS), FOOS);
+  }
+
+  @Test
+  public void postProcessesElementsOfPagedResources() throws Exception {
+    resourceProcessors.add(StringResourceProcessor.INSTANCE);
+
+    PageMetadata metadata = new PageMetadata(1, 0, 1, 1);
+    PagedResources<Resource<String>> foos = new PagedResources<Resource<String>>(
+        Collections.singletonList(FOO),
+        metadata
+    );
+    PagedResources<Resource<String>> bars = new PagedResources<Resource<String>>(
+        Collections.singletonList(BAR),
+        metadata
+    );
+
+    invokeReturnValueHandler("resources", is(bars), foos);
+  }
+
+  @Test
+  public void postProcessesElementsOfTemplatedResourcesIntoCopy() throws Exception {
+    resourceProcessors.add(StringResourceProcessor.INSTANCE);
+
+    List<Link> templates = Collections.singletonList(new Link("http://localhost:8080/strings/{id}", "strings.string"));
+    PageMetadata metadata = new PageMetadata(1, 0, 1, 1);
+    TemplatedResources foos = new TemplatedResources(
+        Collections.<Resource<?>>singletonList(FOO),
+        templates,
+        metadata,
+        Collections.<Link>emptyList()
+    );
+
+    invokeReturnValueHandler("resources",
+                             allOf(instanceOf(TemplatedResources.class),
+                                   hasProperty("content", contains((Object)BAR)),
+                                   hasProperty("templates", is(templates)),
+                                   hasProperty("metadata", is(metadata))),
+                             foos);
+
+    assertThat(foos.getContent(), contains((Resource<?>)FOO));
+  }
+
+  @Test
+  public void invokesBulkProcessorsBeforeElementProcessors() throws Exception {
+    resourceProcessors.add(StringResourceProcessor.INSTANCE);
+
+    final List<List<Resource<String>>> invocations = new ArrayList<List<Resource<String>>>();
+    bulkResourceProcessors.add(new StringResourcesBulkProcessor(invocations));
+
+    Resources<Resource<String>> mixed = new Resources<Resource<String>>(
+        Arrays.<Resource<String>>asList(FOO, new Resource<String>("baz"))
+    );
+    Resources<Resource<String>> expected = new Resources<Resource<String>>(Arrays.asList(BAR, BAR));
+
+    invokeReturnValueHandler("resources", is(expected), mixed);
+
+    assertThat(invocations.size(), is(1));
+    assertThat(invocations.get(0).size(), is(2));
+  }
+
+  @Test
+  public void onlyHandsMatchingElementsToBulkProcessors() throws Exception {
+    final List<List<Resource<String>>> invocations = new ArrayList<List<Resource<String>>>();
+    bulkResourceProcessors.add(new StringResourcesBulkProcessor(invocations));
+
+    Resources<Resource<?>> mixed = new Resources<Resource<?>>(Arrays.<Resource<?>>asList(FOO, LONG_10));
+
+    invokeReturnValueHandler("resourcesEntity", httpEntity(new HttpEntity<Resources<?>>(mixed)),
+                             new HttpEntity<Resources<?>>(mixed));
+
+    assertThat(invocations.size(), is(1));
+    assertThat(invocations.get(0), hasItem(FOO));
+    assertThat(invocations.get(0).size(), is(1));
+  }
+
   // Helpers ---------------------------------------------------------//
   private void invokeReturnValueHandler(String method,
                                         final Matcher<?> matcher,
@@ -204,7 +299,8 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTests extends A
 
     HandlerMethodReturnValueHandler handler = new ResourceProcessorHandlerMethodReturnValueHandler(
         delegate,
-        resourceProcessors
+        resourceProcessors,
+        bulkResourceProcessors
     );
     handler.handleReturnValue(returnValue, methodParam, null, null);
   }
@@ -267,6 +363,24 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTests extends A
     }
   }
 
+  static class StringResourcesBulkProcessor implements BulkResourceProcessor<Resource<String>> {
+
+    private final List<List<Resource<String>>> invocations;
+
+    StringResourcesBulkProcessor(List<List<Resource<String>>> invocations) {
+      this.invocations = invocations;
+    }
+
+    @Override public List<Resource<String>> process(List<Resource<String>> resources) {
+      invocations.add(resources);
+      List<Resource<String>> result = new ArrayList<Resource<String>>();
+      for(Resource<String> resource : resources) {
+        result.add(FOO);
+      }
+      return result;
+    }
+  }
+
   static interface Controller {
 
     Resources<Resource<String>> resources();
@@ -0,0 +1,137 @@
+package org.springframework.data.rest.webmvc.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+
+/**
+ * Unit tests for {@link UriListHttpMessageConverter} and {@link UriListReader}.
+ *
+ * @author Jon Brisbin
+ */
+public class UriListHttpMessageConverterUnitTests {
+
+  static final MediaType URI_LIST = MediaType.parseMediaType("text/uri-list");
+
+  UriListHttpMessageConverter converter = new UriListHttpMessageConverter();
+
+  @Test
+  public void readsUriListInChunks() throws Exception {
+    UriListReader reader = new UriListReader(body("# people\r\nhttp://localhost/people/1\r\n\r\n"
+                                                  + "http://localhost/people/2\nhttp://localhost/people/3"), 2);
+
+    assertThat(reader.read(), contains("http://localhost/people/1", "http://localhost/people/2"));
+    assertThat(reader.read(), contains("http://localhost/people/3"));
+    assertThat(reader.read(), is(empty()));
+  }
+
+  @Test
+  public void readsLinesLongerThanTheBuffer() throws Exception {
+    StringBuilder uri = new StringBuilder("http://localhost/people/");
+    for(int i = 0; i < 10000; i++) {
+      uri.append('x');
+    }
+    UriListReader reader = new UriListReader(body(uri + "\r\n" + uri));
+
+    assertThat(reader.readAll(), contains(uri.toString(), uri.toString()));
+  }
+
+  @Test
+  public void readsUtf8() throws Exception {
+    UriListReader reader = new UriListReader(body("http://localhost/people/J%C3%BCrgen\nhttp://localhost/people/J\u00fcrgen"));
+
+    assertThat(reader.readAll(), contains("http://localhost/people/J%C3%BCrgen", "http://localhost/people/J\u00fcrgen"));
+  }
+
+  @Test
+  public void readsResourceOrReader() throws Exception {
+    assertThat(converter.canRead(Resource.class, URI_LIST), is(true));
+    assertThat(converter.canRead(UriListReader.class, URI_LIST), is(true));
+    assertThat(converter.canRead(Resource.class, MediaType.APPLICATION_JSON), is(false));
+
+    Resource<?> resource = (Resource<?>)converter.read(Resource.class, message("http://localhost/people/1\n"));
+    assertThat(resource.getLinks(), contains(new Link("http://localhost/people/1")));
+    assertThat(converter.read(UriListReader.class, message("")), is(instanceOf(UriListReader.class)));
+  }
+
+  @Test
+  public void writesLinksAndIterables() throws Exception {
+    assertThat(converter.canWrite(Resources.class, URI_LIST), is(true));
+    assertThat(converter.canWrite(List.class, URI_LIST), is(true));
+    assertThat(converter.canWrite(List.class, MediaType.APPLICATION_JSON), is(false));
+
+    Resources<?> resources = new Resources<Object>(Arrays.asList(new Link("http://localhost/people/1"),
+                                                                 new Resource<String>("J\u00fcrgen",
+                                                                                      new Link("http://localhost/people/J\u00fcrgen")),
+                                                                 URI.create("http://localhost/people/3")),
+                                                   new Link("http://localhost/people/search", "people.search"),
+                                                   new Link("http://localhost/people?page=2", "page.next"));
+    OutputMessage output = new OutputMessage();
+    converter.write(resources, URI_LIST, output);
+    assertThat(output.body.toString("UTF-8"),
+               is("http://localhost/people/1\r\nhttp://localhost/people/J\u00fcrgen\r\nhttp://localhost/people/3\r\n"));
+    assertThat(output.headers.getContentType().getCharSet().name(), is("UTF-8"));
+
+    output = new OutputMessage();
+    converter.write(new Resource<String>("John", new Link("http://localhost/people/2/father", "people.person.father")),
+                    URI_LIST,
+                    output);
+    assertThat(output.body.toString("UTF-8"), is("http://localhost/people/2/father\r\n"));
+
+    output = new OutputMessage();
+    converter.write(Arrays.asList(new Link("http://localhost/people/1"), URI.create("http://localhost/people/2")),
+                    URI_LIST,
+                    output);
+    assertThat(output.body.toString("UTF-8"), is("http://localhost/people/1\r\nhttp://localhost/people/2\r\n"));
+  }
+
+  static InputStream body(String s) throws Exception {
+    return new ByteArrayInputStream(s.getBytes("UTF-8"));
+  }
+
+  static HttpInputMessage message(final String s) {
+    return new HttpInputMessage() {
+      @Override public InputStream getBody() {
+        try {
+          return body(s);
+        } catch(Exception e) {
+          throw new IllegalStateException(e);
+        }
+      }
+
+      @Override public HttpHeaders getHeaders() {
+        return new HttpHeaders();
+      }
+    };
+  }
+
+  static class OutputMessage implements HttpOutputMessage {
+    final HttpHeaders           headers = new HttpHeaders();
+    final ByteArrayOutputStream body    = new ByteArrayOutputStream();
+
+    @Override public OutputStream getBody() {
+      return body;
+    }
+
+    @Override public HttpHeaders getHeaders() {
+      return headers;
+    }
+  }
+
+}
@@ -0,0 +1,15 @@
+package org.springframework.data.rest.webmvc.jpa;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+
+/**
+ * Exports the JPA repositories only, so the web layer can be tested without MongoDB or GemFire being available.
+ *
+ * @author Jon Brisbin
+ */
+@Configuration
+@Import(JpaRepositoryConfig.class)
+public class JpaWebTestsConfig extends RepositoryRestMvcConfiguration {
+}
@@ -24,6 +24,12 @@ public interface PersonRepository extends PagingAndSortingRepository<Person, Lon
 
   public Person findFirstPersonByFirstName(@Param("firstName") String firstName);
 
+  @RestResource(exported = false)
+  public Page<Person> findByLastName(@Param("lastName") String lastName, Pageable pageable);
+
+  @RestResource(cacheTtl = 60)
+  public Page<Person> findByLastNameStartingWith(@Param("prefix") String prefix, Pageable pageable);
+
   public Page<Person> findByCreatedGreaterThan(@Param("date") Date date, Pageable pageable);
 
   @Query("select p from Person p where p.created > :date")
@@ -0,0 +1,113 @@
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.RollbackException;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.constraints.NotNull;
+
+import org.jmock.Expectations;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.repository.RepositoryConstraintViolationException;
+import org.springframework.data.rest.webmvc.AbstractJMockTests;
+import org.springframework.data.rest.webmvc.AbstractRepositoryRestController;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Unit tests for {@link ConstraintViolationExceptionResolver}.
+ *
+ * @author Jon Brisbin
+ */
+public class ConstraintViolationExceptionResolverUnitTests extends AbstractJMockTests {
+
+  MockHttpServletRequest               request;
+  MockHttpServletResponse              response;
+  HandlerExceptionResolver             delegate;
+  ConstraintViolationExceptionResolver resolver;
+  HandlerMethod                        repositoryHandler;
+
+  @Before
+  public void setup() throws Exception {
+    request = new MockHttpServletRequest("PUT", "/people/1");
+    response = new MockHttpServletResponse();
+    delegate = context.mock(HandlerExceptionResolver.class);
+    resolver = new ConstraintViolationExceptionResolver(delegate)
+        .setValidationExceptionHandler(new ValidationExceptionHandler());
+    AbstractRepositoryRestController controller = new AbstractRepositoryRestController(null, null, null, null, null);
+    repositoryHandler = new HandlerMethod(controller, AbstractRepositoryRestController.class.getMethod("handleNotFound"));
+  }
+
+  @Test
+  public void shouldHandTranslatedViolationsOnCommitToDelegate() throws Exception {
+    final ModelAndView handled = new ModelAndView();
+    final TransactionSystemException ex = new TransactionSystemException("Could not commit",
+                                                                         new RollbackException(violations()));
+    context.checking(new Expectations() {{
+      oneOf(delegate).resolveException(with(same(request)),
+                                       with(same(response)),
+                                       with(same(repositoryHandler)),
+                                       with(any(RepositoryConstraintViolationException.class)));
+      will(returnValue(handled));
+    }});
+
+    assertThat(resolver.resolveException(request, response, repositoryHandler, ex), is(sameInstance(handled)));
+  }
+
+  @Test
+  public void shouldLeaveOtherFailuresToOtherResolvers() throws Exception {
+    context.checking(new Expectations() {{
+      never(delegate);
+    }});
+
+    assertThat(resolver.resolveException(request,
+                                         response,
+                                         repositoryHandler,
+                                         new TransactionSystemException("Could not commit")),
+               is(nullValue()));
+    assertThat(resolver.resolveException(request, response, repositoryHandler, new IllegalStateException()),
+               is(nullValue()));
+  }
+
+  @Test
+  public void shouldOnlyResolveFailuresOfRepositoryControllers() throws Exception {
+    context.checking(new Expectations() {{
+      never(delegate);
+    }});
+    HandlerMethod otherHandler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+
+    assertThat(resolver.resolveException(request, response, otherHandler, violations()), is(nullValue()));
+  }
+
+  @Test
+  public void shouldNotResolveAnythingWithoutValidationExceptionHandler() throws Exception {
+    context.checking(new Expectations() {{
+      never(delegate);
+    }});
+    resolver.setValidationExceptionHandler(null);
+
+    assertThat(resolver.resolveException(request, response, repositoryHandler, violations()), is(nullValue()));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static ConstraintViolationException violations() {
+    Set violations = Validation.buildDefaultValidatorFactory().getValidator().validate(new Named());
+    return new ConstraintViolationException(new HashSet<ConstraintViolation<?>>(violations));
+  }
+
+  static class Named {
+    @NotNull
+    String name;
+  }
+
+}
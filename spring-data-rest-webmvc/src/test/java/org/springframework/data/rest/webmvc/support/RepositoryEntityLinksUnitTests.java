@@ -0,0 +1,143 @@
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.net.URI;
+
+import org.jmock.Expectations;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.AbstractJMockTests;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for {@link RepositoryEntityLinks}.
+ *
+ * @author Jon Brisbin
+ */
+public class RepositoryEntityLinksUnitTests extends AbstractJMockTests {
+
+  static final String BASE_URI_ATTRIBUTE = RepositoryEntityLinks.class.getName() + ".BASE_URI";
+
+  RepositoryRestConfiguration config;
+  Repositories                repositories;
+  PersistentProperty          siblings;
+  RepositoryEntityLinks       entityLinks;
+
+  @Before
+  public void setup() {
+    config = new RepositoryRestConfiguration().setBaseUri(URI.create("http://localhost:8080/data/"));
+    repositories = context.mock(Repositories.class);
+    siblings = context.mock(PersistentProperty.class, "siblings");
+    context.checking(new Expectations() {{
+      allowing(siblings).getName();
+      will(returnValue("siblings"));
+    }});
+    expectEntity(Numbered.class, NumberedRepository.class, Long.class);
+    expectEntity(Named.class, NamedRepository.class, String.class);
+    entityLinks = new RepositoryEntityLinks(repositories, config);
+  }
+
+  @After
+  public void cleanup() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  public void shouldAppendNumericIdsAsIs() throws Exception {
+    Link link = entityLinks.linkToSingleResource(Numbered.class, 42L);
+
+    assertThat(link.getHref(), is("http://localhost:8080/data/numbered/42"));
+    assertThat(link.getRel(), is("numbered.numbered"));
+    assertThat(entityLinks.linkToCollectionResource(Numbered.class).getHref(),
+               is("http://localhost:8080/data/numbered"));
+  }
+
+  @Test
+  public void shouldPercentEncodeReservedCharactersOfStringIds() throws Exception {
+    assertThat(entityLinks.linkToSingleResource(Named.class, "a b/c?d#e").getHref(),
+               is("http://localhost:8080/data/named/a%20b%2Fc%3Fd%23e"));
+    assertThat(entityLinks.linkFor(Named.class).slash("\u00fc").withSelfRel().getHref(),
+               is("http://localhost:8080/data/named/%C3%BC"));
+  }
+
+  @Test
+  public void shouldUseConfiguredPathsOfProperties() throws Exception {
+    assertThat(entityLinks.linkFor(Numbered.class).slash(1L).slash(siblings).withSelfRel().getHref(),
+               is("http://localhost:8080/data/numbered/1/siblings"));
+
+    config.setResourceMappingForDomainType(Numbered.class)
+          .addResourceMappingFor("siblings")
+          .setPath("brothers and sisters");
+    RepositoryEntityLinks reconfigured = new RepositoryEntityLinks(repositories, config);
+
+    assertThat(reconfigured.linkFor(Numbered.class).slash(1L).slash(siblings).withSelfRel().getHref(),
+               is("http://localhost:8080/data/numbered/1/brothers%20and%20sisters"));
+  }
+
+  @Test
+  public void shouldDeriveBaseUriFromRequestOnceIfNoneIsConfigured() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/numbered");
+    request.setServerName("example.org");
+    request.setServerPort(8081);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    entityLinks = new RepositoryEntityLinks(repositories, new RepositoryRestConfiguration());
+
+    assertThat(entityLinks.linkToSingleResource(Numbered.class, 1L).getHref(),
+               is("http://example.org:8081/numbered/1"));
+    assertThat(request.getAttribute(BASE_URI_ATTRIBUTE), is((Object)"http://example.org:8081"));
+
+    RequestContextHolder.getRequestAttributes().setAttribute(BASE_URI_ATTRIBUTE,
+                                                             "http://cached.example.org",
+                                                             RequestAttributes.SCOPE_REQUEST);
+    assertThat(entityLinks.linkToSingleResource(Numbered.class, 2L).getHref(),
+               is("http://cached.example.org/numbered/2"));
+  }
+
+  private void expectEntity(final Class<?> domainType, final Class<?> repositoryInterface, final Class<?> idType) {
+    final RepositoryInformation repoInfo = context.mock(RepositoryInformation.class, domainType.getSimpleName() + "Info");
+    final PersistentEntity persistentEntity = context.mock(PersistentEntity.class, domainType.getSimpleName() + "Entity");
+    final PersistentProperty idProperty = context.mock(PersistentProperty.class, domainType.getSimpleName() + "Id");
+    context.checking(new Expectations() {{
+      allowing(repositories).getRepositoryInformationFor(domainType);
+      will(returnValue(repoInfo));
+      allowing(repositories).getPersistentEntity(domainType);
+      will(returnValue(persistentEntity));
+      allowing(repoInfo).getRepositoryInterface();
+      will(returnValue(repositoryInterface));
+      allowing(repoInfo).getDomainType();
+      will(returnValue(domainType));
+      allowing(persistentEntity).getType();
+      will(returnValue(domainType));
+      allowing(persistentEntity).getIdProperty();
+      will(returnValue(idProperty));
+      allowing(idProperty).getType();
+      will(returnValue(idType));
+    }});
+  }
+
+  static class Numbered {
+  }
+
+  static class Named {
+  }
+
+  interface NumberedRepository extends Repository<Numbered, Long> {
+  }
+
+  interface NamedRepository extends Repository<Named, String> {
+  }
+
+}